@@ -0,0 +1,79 @@
+package com.erajaya.datamining.batch;
+
+import com.erajaya.datamining.config.DatabaseConfig;
+import com.erajaya.datamining.dao.AlternativeDAO;
+import com.erajaya.datamining.service.AlternativeImportService;
+import com.erajaya.datamining.service.AlternativeImportService.ImportResult;
+import com.erajaya.datamining.service.AlternativeImportService.RejectedRow;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Import alternatif dari CSV tanpa GUI.
+ *
+ * Penggunaan: java -cp ... com.erajaya.datamining.batch.AlternativeImportCli file.csv [ukuran chunk]
+ *
+ * Exit code: 0 semua baris diimport, 2 ada baris yang ditolak, 1 import gagal.
+ */
+public class AlternativeImportCli {
+    
+    private static final int MAX_PRINTED_REJECTS = 50;
+    
+    public static void main(String[] args) {
+        System.exit(run(args));
+    }
+    
+    static int run(String[] args) {
+        if (args.length < 1) {
+            System.err.println("Penggunaan: AlternativeImportCli <file.csv> [ukuran chunk]");
+            return 1;
+        }
+        
+        Path file = Paths.get(args[0]);
+        if (!Files.isReadable(file)) {
+            System.err.println("File tidak bisa dibaca: " + file);
+            return 1;
+        }
+        
+        int chunkSize = AlternativeImportService.DEFAULT_CHUNK_SIZE;
+        if (args.length > 1) {
+            try {
+                chunkSize = Integer.parseInt(args[1]);
+            } catch (NumberFormatException e) {
+                System.err.println("Ukuran chunk tidak valid: " + args[1]);
+                return 1;
+            }
+        }
+        
+        try {
+            if (!DatabaseConfig.testConnection()) {
+                System.err.println("Koneksi database gagal");
+                return 1;
+            }
+            
+            AlternativeImportService importService = new AlternativeImportService(new AlternativeDAO(), chunkSize);
+            ImportResult result = importService.importCsv(file, (rowsRead, imported, rejected) ->
+                System.out.printf("  %,d baris dibaca, %,d diimport, %,d ditolak%n", rowsRead, imported, rejected));
+            
+            System.out.println("Import selesai: " + result);
+            int printed = 0;
+            for (RejectedRow row : result.getRejectedRows()) {
+                if (printed++ == MAX_PRINTED_REJECTS) {
+                    System.out.println("  ... " + (result.getRejected() - MAX_PRINTED_REJECTS) + " baris tolak lainnya");
+                    break;
+                }
+                System.out.println("  " + row);
+            }
+            
+            return result.getRejected() > 0 ? 2 : 0;
+        } catch (IOException e) {
+            System.err.println("Error saat import CSV: " + e.getMessage());
+            return 1;
+        } finally {
+            DatabaseConfig.shutdownPool();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,356 @@
+package com.erajaya.datamining.batch;
+
+import com.erajaya.datamining.config.DatabaseConfig;
+import com.erajaya.datamining.model.WeightScenario;
+import com.erajaya.datamining.service.ColumnarSAWEngine;
+import com.erajaya.datamining.service.CsvResultSink;
+import com.erajaya.datamining.service.PDFReportService;
+import com.erajaya.datamining.service.ParetoSkyline;
+import com.erajaya.datamining.service.SAWResultExporter;
+import com.erajaya.datamining.service.SAWService;
+import com.erajaya.datamining.service.SMAASimulator;
+import com.erajaya.datamining.service.ScenarioRanking;
+import com.erajaya.datamining.service.TableResultSink;
+import com.erajaya.datamining.service.TeeResultSink;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Mode batch tanpa GUI untuk job ranking terjadwal: validasi, perhitungan
+ * SAW, penyimpanan ke saw_results, lalu opsional export CSV dan laporan PDF.
+ * Kelas ini tidak menyentuh Swing/AWT maupun FlatLaf.
+ *
+ * Penggunaan: java -jar app.jar --batch [opsi]
+ *   --mode=memory|streaming|database  cara perhitungan (default memory)
+ *   --skip-validation                 lewati validasi data
+ *   --threads=N                       jumlah thread perhitungan (mode memory)
+ *   --csv=FILE                        export ranking ke CSV (gzip jika berakhiran .gz)
+ *   --scores-csv=FILE                 mode streaming: tulis skor (kode, nama, skor) ke CSV
+ *                                     dalam pass yang sama dengan saw_results
+ *   --reports=DIR                     generate semua laporan PDF ke folder
+ *   --non-dominated                   laporan PDF hanya memuat alternatif non-dominated
+ *   --smaa=N                          simulasi ketidakpastian bobot N iterasi
+ *   --scenario=NAMA:w1,w2,...         ranking skenario bobot bernama (boleh diulang)
+ */
+public class BatchRunner {
+    
+    public static final int EXIT_OK = 0;
+    public static final int EXIT_USAGE = 1;
+    public static final int EXIT_DATABASE = 2;
+    public static final int EXIT_VALIDATION = 3;
+    public static final int EXIT_CALCULATION = 4;
+    public static final int EXIT_OUTPUT = 5;
+    
+    private String mode = "memory";
+    private boolean skipValidation;
+    private int threads;
+    private String csvFile;
+    private String scoresCsvFile;
+    private String reportDir;
+    private boolean nonDominatedOnly;
+    private int smaaIterations;
+    private final List<WeightScenario> scenarios = new ArrayList<>();
+    
+    /**
+     * Menjalankan mode batch
+     * @param args Argumen command line (termasuk --batch)
+     * @return Exit code
+     */
+    public static int run(String[] args) {
+        BatchRunner runner = new BatchRunner();
+        if (!runner.parseArgs(args)) {
+            printUsage();
+            return EXIT_USAGE;
+        }
+        
+        try {
+            return runner.execute();
+        } finally {
+            DatabaseConfig.shutdownPool();
+        }
+    }
+    
+    private boolean parseArgs(String[] args) {
+        for (String arg : args) {
+            if (arg.equals("--batch")) {
+                continue;
+            } else if (arg.equals("--skip-validation")) {
+                skipValidation = true;
+            } else if (arg.equals("--non-dominated")) {
+                nonDominatedOnly = true;
+            } else if (arg.startsWith("--mode=")) {
+                mode = arg.substring("--mode=".length());
+                if (!mode.equals("memory") && !mode.equals("streaming") && !mode.equals("database")) {
+                    System.err.println("Mode tidak dikenal: " + mode);
+                    return false;
+                }
+            } else if (arg.startsWith("--threads=")) {
+                try {
+                    threads = Integer.parseInt(arg.substring("--threads=".length()));
+                } catch (NumberFormatException e) {
+                    System.err.println("Jumlah thread tidak valid: " + arg);
+                    return false;
+                }
+            } else if (arg.startsWith("--smaa=")) {
+                try {
+                    smaaIterations = Integer.parseInt(arg.substring("--smaa=".length()));
+                } catch (NumberFormatException e) {
+                    System.err.println("Jumlah iterasi SMAA tidak valid: " + arg);
+                    return false;
+                }
+            } else if (arg.startsWith("--scenario=")) {
+                WeightScenario scenario = parseScenario(arg.substring("--scenario=".length()));
+                if (scenario == null) {
+                    System.err.println("Skenario tidak valid (format NAMA:w1,w2,...): " + arg);
+                    return false;
+                }
+                scenarios.add(scenario);
+            } else if (arg.startsWith("--scores-csv=")) {
+                scoresCsvFile = arg.substring("--scores-csv=".length());
+            } else if (arg.startsWith("--csv=")) {
+                csvFile = arg.substring("--csv=".length());
+            } else if (arg.startsWith("--reports=")) {
+                reportDir = arg.substring("--reports=".length());
+            } else {
+                System.err.println("Opsi tidak dikenal: " + arg);
+                return false;
+            }
+        }
+        
+        if (scoresCsvFile != null && !mode.equals("streaming")) {
+            System.err.println("--scores-csv hanya bisa dipakai dengan --mode=streaming");
+            return false;
+        }
+        return true;
+    }
+    
+    private static WeightScenario parseScenario(String value) {
+        int colon = value.indexOf(':');
+        if (colon <= 0) {
+            return null;
+        }
+        
+        String[] parts = value.substring(colon + 1).split(",");
+        double[] weights = new double[parts.length];
+        try {
+            for (int j = 0; j < parts.length; j++) {
+                weights[j] = Double.parseDouble(parts[j].trim());
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        return new WeightScenario(value.substring(0, colon), weights);
+    }
+    
+    private int execute() {
+        long jobStart = System.nanoTime();
+        
+        // 1. Koneksi database
+        long start = System.nanoTime();
+        if (!DatabaseConfig.testConnection()) {
+            System.err.println("Koneksi database gagal");
+            return EXIT_DATABASE;
+        }
+        printTiming("Koneksi database", start);
+        
+        SAWService sawService = new SAWService();
+        if (threads > 0) {
+            sawService.setParallelism(threads, ColumnarSAWEngine.DEFAULT_PARALLEL_THRESHOLD);
+        }
+        
+        // 2. Validasi
+        if (!skipValidation) {
+            start = System.nanoTime();
+            List<String> errors = sawService.validateData();
+            printTiming("Validasi data", start);
+            
+            if (!errors.isEmpty()) {
+                System.err.println("Validasi gagal (" + errors.size() + " error):");
+                for (String error : errors) {
+                    System.err.println("  - " + error);
+                }
+                return EXIT_VALIDATION;
+            }
+        }
+        
+        // 3. Perhitungan dan penyimpanan
+        start = System.nanoTime();
+        int calculated = calculate(sawService);
+        if (calculated < 0) {
+            System.err.println("Perhitungan SAW gagal (mode " + mode + ")");
+            return EXIT_CALCULATION;
+        }
+        printTiming("Perhitungan SAW (" + mode + ", " + calculated + " alternatif)", start);
+        
+        int exitCode = EXIT_OK;
+        
+        if (nonDominatedOnly) {
+            start = System.nanoTime();
+            ParetoSkyline skyline = sawService.getSkyline();
+            if (skyline != null) {
+                printTiming("Skyline Pareto (" + skyline.getAlgorithm() + ", " + skyline.getSkylineSize() +
+                    " non-dominated, " + skyline.getDominatedCount() + " didominasi)", start);
+            }
+        }
+        
+        // 4. Export CSV
+        if (csvFile != null) {
+            start = System.nanoTime();
+            try {
+                long rows = new SAWResultExporter(sawService).exportCsv(Paths.get(csvFile), csvFile.endsWith(".gz"), null);
+                printTiming("Export CSV (" + rows + " baris) ke " + csvFile, start);
+            } catch (IOException e) {
+                System.err.println("Export CSV gagal: " + e.getMessage());
+                exitCode = EXIT_OUTPUT;
+            }
+        }
+        
+        // 5. Laporan PDF
+        if (reportDir != null) {
+            start = System.nanoTime();
+            File dir = new File(reportDir);
+            if (!dir.isDirectory() && !dir.mkdirs()) {
+                System.err.println("Folder laporan tidak bisa dibuat: " + reportDir);
+                exitCode = EXIT_OUTPUT;
+            } else {
+                PDFReportService reportService = new PDFReportService();
+                reportService.setNonDominatedOnly(nonDominatedOnly);
+                if (reportService.generateAllReports(dir.getAbsolutePath())) {
+                    printTiming("Laporan PDF ke " + dir.getAbsolutePath(), start);
+                } else {
+                    System.err.println("Sebagian laporan PDF gagal dibuat");
+                    exitCode = EXIT_OUTPUT;
+                }
+            }
+        }
+        
+        // 6. Skenario bobot
+        if (!scenarios.isEmpty()) {
+            start = System.nanoTime();
+            try {
+                for (ScenarioRanking ranking : sawService.evaluateScenarios(scenarios)) {
+                    WeightScenario scenario = ranking.getScenario();
+                    System.out.printf("Skenario %s (id %d): peringkat 1 %s%n", scenario.getName(), scenario.getId(),
+                        ranking.size() > 0 ? ranking.getAlternativeAtRank(0).getCode() : "-");
+                }
+                printTiming("Skenario bobot (" + scenarios.size() + " skenario)", start);
+            } catch (IllegalArgumentException e) {
+                System.err.println(e.getMessage());
+                exitCode = EXIT_CALCULATION;
+            } catch (IllegalStateException e) {
+                System.err.println(e.getMessage());
+                exitCode = EXIT_OUTPUT;
+            }
+        }
+        
+        // 7. Simulasi ketidakpastian bobot
+        if (smaaIterations > 0) {
+            start = System.nanoTime();
+            if (!runSMAA(sawService)) {
+                exitCode = EXIT_CALCULATION;
+            } else {
+                printTiming("Simulasi SMAA", start);
+            }
+        }
+        
+        printTiming("Total", jobStart);
+        return exitCode;
+    }
+    
+    /**
+     * @return Jumlah alternatif yang dihitung dan disimpan, -1 jika gagal
+     */
+    private int calculate(SAWService sawService) {
+        switch (mode) {
+            case "streaming":
+                if (scoresCsvFile == null) {
+                    return sawService.calculateSAWStreaming(new TableResultSink());
+                }
+                try (Writer writer = openCsvWriter(scoresCsvFile)) {
+                    return sawService.calculateSAWStreaming(
+                        new TeeResultSink(new TableResultSink(), new CsvResultSink(writer)));
+                } catch (IOException e) {
+                    System.err.println("File skor CSV gagal ditulis: " + e.getMessage());
+                    return -1;
+                }
+            case "database":
+                return sawService.calculateSAWInDatabase();
+            default:
+                try {
+                    return sawService.calculateSAW().size();
+                } catch (IllegalStateException e) {
+                    System.err.println(e.getMessage());
+                    return -1;
+                }
+        }
+    }
+    
+    private static Writer openCsvWriter(String file) throws IOException {
+        OutputStream out = Files.newOutputStream(Paths.get(file));
+        if (file.endsWith(".gz")) {
+            out = new GZIPOutputStream(out);
+        }
+        return new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+    
+    private boolean runSMAA(SAWService sawService) {
+        SMAASimulator simulator = sawService.createSMAASimulator();
+        if (simulator == null) {
+            System.err.println("Simulasi SMAA dilewati: tidak ada data alternatif");
+            return true;
+        }
+        if (threads > 0) {
+            simulator.withParallelism(threads);
+        }
+        
+        try {
+            SMAASimulator.SMAAResult result = simulator.withIterations(smaaIterations).run();
+            System.out.println("SMAA: " + result);
+            
+            String[] names = result.getCriteriaNames();
+            int printed = 0;
+            for (SMAASimulator.RankAcceptability acceptability : result.getAcceptabilities()) {
+                if (printed++ == 10) {
+                    break;
+                }
+                StringBuilder line = new StringBuilder(String.format("  %-10s P(rank 1) %6.2f%%",
+                    acceptability.getAlternative().getCode(), acceptability.getProbability(1) * 100));
+                double[] central = acceptability.getCentralWeights();
+                if (central != null) {
+                    line.append("  bobot sentral");
+                    for (int j = 0; j < central.length; j++) {
+                        line.append(String.format(" %s=%.3f", names[j], central[j]));
+                    }
+                }
+                System.out.println(line);
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.err.println("Simulasi SMAA dibatalkan");
+            return false;
+        }
+    }
+    
+    private static void printTiming(String label, long startNanos) {
+        System.out.printf("%-60s %8.1f ms%n", label, (System.nanoTime() - startNanos) / 1e6);
+    }
+    
+    private static void printUsage() {
+        System.err.println("Penggunaan: --batch [--mode=memory|streaming|database] [--skip-validation]");
+        System.err.println("                    [--threads=N] [--csv=FILE[.gz]] [--reports=DIR] [--non-dominated]");
+        System.err.println("                    [--scores-csv=FILE[.gz]] [--smaa=N] [--scenario=NAMA:w1,w2,...]...");
+        System.err.println("Exit code: 0 sukses, 1 argumen salah, 2 database, 3 validasi, 4 perhitungan, 5 export/laporan");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,127 @@
+package com.erajaya.datamining.benchmark;
+
+import com.erajaya.datamining.config.DatabaseConfig;
+import com.erajaya.datamining.dao.AlternativeDAO;
+import com.erajaya.datamining.dao.CachingAlternativeDAO;
+import com.erajaya.datamining.model.Alternative;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark latensi AlternativeDAO.findById / findByCode dengan beberapa
+ * thread sekaligus, sekali tanpa cache prepared statement dan sekali dengan
+ * cache (cachePrepStmts + useServerPrepStmts), lalu sekali lagi lewat
+ * CachingAlternativeDAO.
+ *
+ * Penggunaan: java -cp ... com.erajaya.datamining.benchmark.DAOBenchmark [threads] [iterasi per thread]
+ */
+public class DAOBenchmark {
+    
+    private static final int WARMUP_ITERATIONS = 200;
+    
+    public static void main(String[] args) throws Exception {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+        
+        AlternativeDAO dao = new AlternativeDAO();
+        List<Alternative> alternatives = dao.findAll();
+        if (alternatives.isEmpty()) {
+            System.err.println("Tabel alternatives kosong, benchmark dibatalkan");
+            System.exit(1);
+        }
+        
+        int[] ids = new int[alternatives.size()];
+        String[] codes = new String[alternatives.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = alternatives.get(i).getId();
+            codes[i] = alternatives.get(i).getCode();
+        }
+        
+        System.out.printf("DAO benchmark: %d thread x %d iterasi, %d alternatif%n", threads, iterations, ids.length);
+        run("Tanpa cache prepared statement", false, dao, ids, codes, threads, iterations);
+        run("Dengan cache prepared statement", true, dao, ids, codes, threads, iterations);
+        run("Dengan cache Alternative", true, new CachingAlternativeDAO(), ids, codes, threads, iterations);
+        System.out.println("  cache: " + CachingAlternativeDAO.getStats());
+        
+        DatabaseConfig.shutdownPool();
+    }
+    
+    private static void run(String label, boolean cached, AlternativeDAO dao, int[] ids, String[] codes,
+                            int threads, int iterations) throws InterruptedException {
+        Properties overrides = new Properties();
+        overrides.setProperty("db.cachePrepStmts", String.valueOf(cached));
+        overrides.setProperty("db.useServerPrepStmts", String.valueOf(cached));
+        overrides.setProperty("db.pool.maxSize", String.valueOf(Math.max(threads, 1)));
+        DatabaseConfig.configure(overrides);
+        
+        // Warm-up: isi pool dan cache statement
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            dao.findById(ids[i % ids.length]);
+            dao.findByCode(codes[i % codes.length]);
+        }
+        
+        long[][] byId = new long[threads][iterations];
+        long[][] byCode = new long[threads][iterations];
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        
+        for (int t = 0; t < threads; t++) {
+            int worker = t;
+            executor.execute(() -> {
+                SplittableRandom random = new SplittableRandom(worker);
+                try {
+                    start.await();
+                    for (int i = 0; i < iterations; i++) {
+                        int index = random.nextInt(ids.length);
+                        
+                        long begin = System.nanoTime();
+                        dao.findById(ids[index]);
+                        byId[worker][i] = System.nanoTime() - begin;
+                        
+                        begin = System.nanoTime();
+                        dao.findByCode(codes[index]);
+                        byCode[worker][i] = System.nanoTime() - begin;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        
+        long begin = System.nanoTime();
+        start.countDown();
+        done.await();
+        long elapsed = System.nanoTime() - begin;
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+        
+        System.out.println();
+        System.out.println(label);
+        printLatency("  findById  ", byId);
+        printLatency("  findByCode", byCode);
+        System.out.printf("  throughput: %.0f query/detik%n", 2.0 * threads * iterations / (elapsed / 1e9));
+        System.out.println("  pool: " + DatabaseConfig.getPoolMetrics());
+    }
+    
+    private static void printLatency(String label, long[][] samples) {
+        long[] all = Arrays.stream(samples).flatMapToLong(Arrays::stream).sorted().toArray();
+        double avg = Arrays.stream(all).average().orElse(0) / 1000.0;
+        System.out.printf("%s avg %.1f us, p50 %.1f us, p95 %.1f us, p99 %.1f us%n",
+            label, avg, percentile(all, 0.50), percentile(all, 0.95), percentile(all, 0.99));
+    }
+    
+    private static double percentile(long[] sorted, double p) {
+        int index = (int) Math.min(sorted.length - 1, Math.round(p * (sorted.length - 1)));
+        return sorted[index] / 1000.0;
+    }
+}
\ No newline at end of file
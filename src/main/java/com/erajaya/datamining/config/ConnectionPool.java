@@ -0,0 +1,386 @@
+package com.erajaya.datamining.config;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pool koneksi JDBC sederhana dengan ukuran min/max.
+ * Connection yang dipinjam adalah proxy: close() mengembalikan koneksi ke
+ * pool, bukan menutup koneksi fisik, sehingga kode DAO dengan
+ * try-with-resources tidak perlu diubah.
+ *
+ * Setiap peminjaman divalidasi dengan isValid(). Thread housekeeper menutup
+ * koneksi idle yang melewati batas waktu (tetap menyisakan ukuran minimum)
+ * dan mencetak stack trace peminjam untuk koneksi yang tidak dikembalikan.
+ * Deteksi kebocoran nonaktif jika leakThresholdMs <= 0; stack trace peminjam
+ * hanya direkam saat deteksi aktif.
+ */
+public class ConnectionPool {
+    
+    private final String url;
+    private final Properties connectionProps;
+    private final int minSize;
+    private final int maxSize;
+    private final long idleTimeoutMs;
+    private final long maxWaitMs;
+    private final long leakThresholdMs;
+    private final int validationTimeoutSec;
+    
+    // Koneksi idle, yang terakhir dikembalikan dipakai lebih dulu (LIFO)
+    private final LinkedBlockingDeque<PooledConnection> idle = new LinkedBlockingDeque<>();
+    private final Map<Connection, PooledConnection> borrowed = new ConcurrentHashMap<>();
+    private final Semaphore permits;
+    private final ScheduledExecutorService housekeeper;
+    
+    // Metrik
+    private final AtomicLong borrowCount = new AtomicLong();
+    private final AtomicLong createdCount = new AtomicLong();
+    private final AtomicLong closedCount = new AtomicLong();
+    private final AtomicLong validationFailures = new AtomicLong();
+    private final AtomicLong timeoutCount = new AtomicLong();
+    private final AtomicLong leakCount = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    
+    private volatile boolean shutdown;
+    
+    public ConnectionPool(String url, Properties connectionProps, int minSize, int maxSize,
+                          long idleTimeoutMs, long maxWaitMs, long leakThresholdMs, int validationTimeoutSec) {
+        this.url = url;
+        this.connectionProps = connectionProps;
+        this.maxSize = Math.max(1, maxSize);
+        this.minSize = Math.max(0, Math.min(minSize, this.maxSize));
+        this.idleTimeoutMs = idleTimeoutMs;
+        this.maxWaitMs = maxWaitMs;
+        this.leakThresholdMs = leakThresholdMs;
+        this.validationTimeoutSec = validationTimeoutSec;
+        this.permits = new Semaphore(this.maxSize, true);
+        
+        this.housekeeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "db-pool-housekeeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(1000, (isLeakDetectionEnabled() ? Math.min(idleTimeoutMs, leakThresholdMs) : idleTimeoutMs) / 2);
+        housekeeper.scheduleWithFixedDelay(this::housekeep, 0, period, TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Meminjam koneksi dari pool
+     * @return Proxy koneksi; close() mengembalikannya ke pool
+     * @throws SQLException jika pool habis sampai batas waktu tunggu atau koneksi gagal dibuat
+     */
+    public Connection getConnection() throws SQLException {
+        if (shutdown) {
+            throw new SQLException("Pool koneksi sudah ditutup");
+        }
+        
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS)) {
+                timeoutCount.incrementAndGet();
+                throw new SQLException("Pool koneksi habis (maksimal " + maxSize + " koneksi, menunggu " + maxWaitMs + " ms)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Menunggu koneksi dibatalkan", e);
+        }
+        totalWaitNanos.addAndGet(System.nanoTime() - start);
+        
+        try {
+            PooledConnection pooled = takeValidIdle();
+            if (pooled == null) {
+                pooled = new PooledConnection(createPhysical());
+            }
+            
+            pooled.borrowedAt = System.currentTimeMillis();
+            pooled.borrowTrace = isLeakDetectionEnabled()
+                ? new Throwable("Koneksi dipinjam oleh thread " + Thread.currentThread().getName())
+                : null;
+            pooled.leakReported = false;
+            
+            Connection proxy = pooled.newProxy();
+            borrowed.put(proxy, pooled);
+            borrowCount.incrementAndGet();
+            return proxy;
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+    
+    private PooledConnection takeValidIdle() {
+        PooledConnection pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            try {
+                if (pooled.physical.isValid(validationTimeoutSec)) {
+                    return pooled;
+                }
+            } catch (SQLException e) {
+                // Dianggap tidak valid
+            }
+            validationFailures.incrementAndGet();
+            closePhysical(pooled);
+        }
+        return null;
+    }
+    
+    private Connection createPhysical() throws SQLException {
+        Connection conn = DriverManager.getConnection(url, connectionProps);
+        createdCount.incrementAndGet();
+        return conn;
+    }
+    
+    /**
+     * Dipanggil oleh proxy saat close(): reset status koneksi lalu kembalikan ke pool
+     */
+    private void release(Connection proxy) {
+        PooledConnection pooled = borrowed.remove(proxy);
+        if (pooled == null) {
+            return;
+        }
+        
+        try {
+            Connection conn = pooled.physical;
+            if (!conn.getAutoCommit()) {
+                conn.rollback();
+                conn.setAutoCommit(true);
+            }
+            if (conn.isReadOnly()) {
+                conn.setReadOnly(false);
+            }
+            conn.clearWarnings();
+            
+            if (shutdown) {
+                closePhysical(pooled);
+            } else {
+                pooled.lastUsedAt = System.currentTimeMillis();
+                idle.offerFirst(pooled);
+            }
+        } catch (SQLException e) {
+            closePhysical(pooled);
+        } finally {
+            permits.release();
+        }
+    }
+    
+    private void closePhysical(PooledConnection pooled) {
+        try {
+            pooled.physical.close();
+        } catch (SQLException e) {
+            // Koneksi sudah terputus
+        }
+        closedCount.incrementAndGet();
+    }
+    
+    /**
+     * Eviction koneksi idle, pengisian ukuran minimum dan deteksi kebocoran
+     */
+    private void housekeep() {
+        try {
+            long now = System.currentTimeMillis();
+            
+            // Koneksi idle paling lama ada di belakang deque
+            PooledConnection oldest;
+            while (idle.size() + borrowed.size() > minSize
+                   && (oldest = idle.peekLast()) != null
+                   && now - oldest.lastUsedAt > idleTimeoutMs) {
+                if (idle.removeLastOccurrence(oldest)) {
+                    closePhysical(oldest);
+                }
+            }
+            
+            while (!shutdown && idle.size() + borrowed.size() < minSize) {
+                PooledConnection pooled = new PooledConnection(createPhysical());
+                pooled.lastUsedAt = now;
+                idle.offerLast(pooled);
+            }
+            
+            if (isLeakDetectionEnabled()) {
+                for (PooledConnection pooled : borrowed.values()) {
+                    Throwable trace = pooled.borrowTrace;
+                    if (!pooled.leakReported && trace != null && now - pooled.borrowedAt > leakThresholdMs) {
+                        pooled.leakReported = true;
+                        leakCount.incrementAndGet();
+                        System.err.println("Peringatan: koneksi database belum dikembalikan setelah "
+                            + (now - pooled.borrowedAt) + " ms");
+                        trace.printStackTrace();
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            // Database belum tersedia, dicoba lagi pada putaran berikutnya
+        } catch (RuntimeException e) {
+            System.err.println("Error pada housekeeper pool koneksi: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Menutup semua koneksi idle; koneksi yang sedang dipinjam ditutup saat dikembalikan
+     */
+    public void shutdown() {
+        shutdown = true;
+        housekeeper.shutdownNow();
+        PooledConnection pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            closePhysical(pooled);
+        }
+    }
+    
+    /**
+     * Mendapatkan metrik pool saat ini
+     */
+    public Metrics getMetrics() {
+        long borrows = borrowCount.get();
+        return new Metrics(
+            maxSize,
+            borrowed.size(),
+            idle.size(),
+            permits.getQueueLength(),
+            borrows,
+            createdCount.get(),
+            closedCount.get(),
+            validationFailures.get(),
+            timeoutCount.get(),
+            leakCount.get(),
+            borrows == 0 ? 0.0 : totalWaitNanos.get() / 1_000_000.0 / borrows
+        );
+    }
+    
+    private boolean isLeakDetectionEnabled() {
+        return leakThresholdMs > 0;
+    }
+    
+    /**
+     * Koneksi fisik beserta status peminjamannya
+     */
+    private final class PooledConnection {
+        final Connection physical;
+        volatile long lastUsedAt;
+        volatile long borrowedAt;
+        volatile Throwable borrowTrace;
+        volatile boolean leakReported;
+        
+        PooledConnection(Connection physical) {
+            this.physical = physical;
+            this.lastUsedAt = System.currentTimeMillis();
+        }
+        
+        Connection newProxy() {
+            return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new ProxyHandler(this));
+        }
+    }
+    
+    /**
+     * Meneruskan semua method ke koneksi fisik kecuali close()/isClosed()
+     */
+    private final class ProxyHandler implements InvocationHandler {
+        private final PooledConnection pooled;
+        private volatile boolean closed;
+        
+        ProxyHandler(PooledConnection pooled) {
+            this.pooled = pooled;
+        }
+        
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        release((Connection) proxy);
+                    }
+                    return null;
+                case "isClosed":
+                    return closed || pooled.physical.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "PooledConnection[" + pooled.physical + "]";
+                default:
+                    break;
+            }
+            
+            if (closed) {
+                throw new SQLException("Koneksi sudah dikembalikan ke pool");
+            }
+            
+            try {
+                return method.invoke(pooled.physical, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+    
+    /**
+     * Ringkasan metrik pool
+     */
+    public static final class Metrics {
+        private final int maxSize;
+        private final int active;
+        private final int idle;
+        private final int waiting;
+        private final long borrowCount;
+        private final long createdCount;
+        private final long closedCount;
+        private final long validationFailures;
+        private final long timeoutCount;
+        private final long leakCount;
+        private final double averageWaitMs;
+        
+        Metrics(int maxSize, int active, int idle, int waiting, long borrowCount, long createdCount,
+                long closedCount, long validationFailures, long timeoutCount, long leakCount, double averageWaitMs) {
+            this.maxSize = maxSize;
+            this.active = active;
+            this.idle = idle;
+            this.waiting = waiting;
+            this.borrowCount = borrowCount;
+            this.createdCount = createdCount;
+            this.closedCount = closedCount;
+            this.validationFailures = validationFailures;
+            this.timeoutCount = timeoutCount;
+            this.leakCount = leakCount;
+            this.averageWaitMs = averageWaitMs;
+        }
+        
+        // Getters
+        public int getMaxSize() { return maxSize; }
+        public int getActive() { return active; }
+        public int getIdle() { return idle; }
+        public int getWaiting() { return waiting; }
+        public long getBorrowCount() { return borrowCount; }
+        public long getCreatedCount() { return createdCount; }
+        public long getClosedCount() { return closedCount; }
+        public long getValidationFailures() { return validationFailures; }
+        public long getTimeoutCount() { return timeoutCount; }
+        public long getLeakCount() { return leakCount; }
+        public double getAverageWaitMs() { return averageWaitMs; }
+        
+        @Override
+        public String toString() {
+            return String.format("active=%d, idle=%d, max=%d, waiting=%d, borrowed=%d, created=%d, closed=%d, "
+                + "invalid=%d, timeouts=%d, leaks=%d, avgWait=%.3f ms",
+                active, idle, maxSize, waiting, borrowCount, createdCount, closedCount,
+                validationFailures, timeoutCount, leakCount, averageWaitMs);
+        }
+    }
+}
\ No newline at end of file
@@ -8,7 +8,17 @@ import java.io.InputStream;
 import java.io.IOException;
 
 /**
- * Konfigurasi koneksi database MySQL
+ * Konfigurasi koneksi database MySQL.
+ * Koneksi diambil dari pool (lihat ConnectionPool) yang diatur lewat
+ * database.properties: db.pool.enabled, db.pool.minSize, db.pool.maxSize,
+ * db.pool.idleTimeoutMs, db.pool.maxWaitMs, db.pool.leakThresholdMs dan
+ * db.pool.validationTimeoutSec. db.pool.leakThresholdMs <= 0 mematikan
+ * deteksi kebocoran koneksi.
+ *
+ * Prepared statement di-cache per koneksi oleh Connector/J sehingga SQL
+ * yang sama tidak di-parse ulang setiap pemanggilan DAO: db.cachePrepStmts,
+ * db.useServerPrepStmts, db.prepStmtCacheSize dan db.prepStmtCacheSqlLimit.
+ * Query dengan fetch size > 0 dibaca lewat cursor server (db.useCursorFetch).
  */
 public class DatabaseConfig {
     private static final String CONFIG_FILE = "/database.properties";
@@ -20,6 +30,12 @@ public class DatabaseConfig {
     private static String PASSWORD = "";
     private static String DRIVER = "com.mysql.cj.jdbc.Driver";
     
+    // Properti koneksi JDBC (user, password dan opsi driver)
+    private static final Properties CONNECTION_PROPS = new Properties();
+    
+    // Pool koneksi, null jika db.pool.enabled=false
+    private static volatile ConnectionPool pool;
+    
     static {
         loadConfig();
         try {
@@ -33,23 +49,101 @@ public class DatabaseConfig {
         try (InputStream input = DatabaseConfig.class.getResourceAsStream(CONFIG_FILE)) {
             if (input != null) {
                 props.load(input);
-                URL = props.getProperty("db.url", URL);
-                USERNAME = props.getProperty("db.username", USERNAME);
-                PASSWORD = props.getProperty("db.password", PASSWORD);
-                DRIVER = props.getProperty("db.driver", DRIVER);
             }
         } catch (IOException e) {
             System.out.println("Menggunakan konfigurasi default database");
         }
+        
+        applyConfig();
+    }
+    
+    /**
+     * Mengubah sebagian konfigurasi saat aplikasi berjalan (misalnya untuk
+     * benchmark). Pool lama ditutup dan pool baru dibuat dengan konfigurasi baru.
+     * @param overrides Properti database.properties yang diganti
+     */
+    public static synchronized void configure(Properties overrides) {
+        props.putAll(overrides);
+        ConnectionPool oldPool = pool;
+        pool = null;
+        if (oldPool != null) {
+            oldPool.shutdown();
+        }
+        applyConfig();
+    }
+    
+    private static void applyConfig() {
+        URL = props.getProperty("db.url", URL);
+        USERNAME = props.getProperty("db.username", USERNAME);
+        PASSWORD = props.getProperty("db.password", PASSWORD);
+        DRIVER = props.getProperty("db.driver", DRIVER);
+        
+        CONNECTION_PROPS.setProperty("user", USERNAME);
+        CONNECTION_PROPS.setProperty("password", PASSWORD);
+        // Batch INSERT dikirim sebagai satu statement multi-row
+        CONNECTION_PROPS.setProperty("rewriteBatchedStatements",
+            props.getProperty("db.rewriteBatchedStatements", "true"));
+        
+        // Cache prepared statement per koneksi (koneksi dipakai ulang oleh pool)
+        CONNECTION_PROPS.setProperty("cachePrepStmts", props.getProperty("db.cachePrepStmts", "true"));
+        CONNECTION_PROPS.setProperty("useServerPrepStmts", props.getProperty("db.useServerPrepStmts", "true"));
+        CONNECTION_PROPS.setProperty("prepStmtCacheSize", props.getProperty("db.prepStmtCacheSize", "250"));
+        CONNECTION_PROPS.setProperty("prepStmtCacheSqlLimit", props.getProperty("db.prepStmtCacheSqlLimit", "2048"));
+        
+        // Fetch size > 0 dibaca bertahap lewat cursor server, bukan di-buffer seluruhnya
+        CONNECTION_PROPS.setProperty("useCursorFetch", props.getProperty("db.useCursorFetch", "true"));
+        
+        if (Boolean.parseBoolean(props.getProperty("db.pool.enabled", "true"))) {
+            pool = new ConnectionPool(URL, CONNECTION_PROPS,
+                getIntProperty("db.pool.minSize", 2),
+                getIntProperty("db.pool.maxSize", 10),
+                getIntProperty("db.pool.idleTimeoutMs", 300000),
+                getIntProperty("db.pool.maxWaitMs", 10000),
+                getIntProperty("db.pool.leakThresholdMs", 60000),
+                getIntProperty("db.pool.validationTimeoutSec", 2));
+        }
+    }
+    
+    private static int getIntProperty(String key, int defaultValue) {
+        try {
+            return Integer.parseInt(props.getProperty(key, String.valueOf(defaultValue)).trim());
+        } catch (NumberFormatException e) {
+            System.err.println("Nilai " + key + " tidak valid, memakai default " + defaultValue);
+            return defaultValue;
+        }
     }
     
     /**
-     * Mendapatkan koneksi database
+     * Mendapatkan koneksi database dari pool.
+     * close() pada koneksi ini mengembalikannya ke pool.
      * @return Connection object
      * @throws SQLException jika koneksi gagal
      */
     public static Connection getConnection() throws SQLException {
-        return DriverManager.getConnection(URL, USERNAME, PASSWORD);
+        ConnectionPool current = pool;
+        if (current != null) {
+            return current.getConnection();
+        }
+        return DriverManager.getConnection(URL, CONNECTION_PROPS);
+    }
+    
+    /**
+     * Mendapatkan metrik pool koneksi
+     * @return Metrik pool, atau null jika pool tidak aktif
+     */
+    public static ConnectionPool.Metrics getPoolMetrics() {
+        ConnectionPool current = pool;
+        return current != null ? current.getMetrics() : null;
+    }
+    
+    /**
+     * Menutup semua koneksi di pool (dipanggil saat aplikasi keluar)
+     */
+    public static void shutdownPool() {
+        ConnectionPool current = pool;
+        if (current != null) {
+            current.shutdown();
+        }
     }
     
     /**
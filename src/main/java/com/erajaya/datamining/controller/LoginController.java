@@ -22,55 +22,73 @@ public class LoginController {
     }
     
     /**
-     * Melakukan autentikasi user
+     * Melakukan autentikasi user. Cek koneksi dan query login berjalan di
+     * background agar form login tetap responsif.
      * @param username Username
      * @param password Password
      */
     public void authenticate(String username, String password) {
-        try {
-            // Validasi input
-            if (username.trim().isEmpty()) {
-                loginView.showStatus("Username tidak boleh kosong!", Color.RED);
-                return;
-            }
-            
-            if (password.trim().isEmpty()) {
-                loginView.showStatus("Password tidak boleh kosong!", Color.RED);
-                return;
-            }
-            
-            // Cek koneksi database
-            if (!testDatabaseConnection()) {
-                loginView.showStatus("Koneksi database gagal! Periksa konfigurasi.", Color.RED);
-                return;
-            }
-            
-            // Lakukan autentikasi
-            User user = userDAO.authenticate(username.trim(), password);
+        // Validasi input
+        if (username.trim().isEmpty()) {
+            loginView.showStatus("Username tidak boleh kosong!", Color.RED);
+            return;
+        }
+        
+        if (password.trim().isEmpty()) {
+            loginView.showStatus("Password tidak boleh kosong!", Color.RED);
+            return;
+        }
+        
+        SwingWorker<User, Void> worker = new SwingWorker<User, Void>() {
+            private boolean connected;
             
-            if (user != null) {
-                // Login berhasil
-                loginView.showStatus("Login berhasil! Membuka dashboard...", Color.GREEN);
-                
-                // Simpan session user
-                UserSession.setCurrentUser(user);
+            @Override
+            protected User doInBackground() {
+                // Cek koneksi database
+                connected = testDatabaseConnection();
+                if (!connected) {
+                    return null;
+                }
                 
-                // Delay sebentar untuk menampilkan pesan sukses
-                Timer timer = new Timer(1000, e -> openDashboard(user));
-                timer.setRepeats(false);
-                timer.start();
-                
-            } else {
-                // Login gagal
-                loginView.showStatus("Username atau password salah!", Color.RED);
-                loginView.clearForm();
+                // Lakukan autentikasi
+                return userDAO.authenticate(username.trim(), password);
             }
             
-        } catch (Exception e) {
-            System.err.println("Error during authentication: " + e.getMessage());
-            e.printStackTrace();
-            loginView.showStatus("Terjadi kesalahan sistem: " + e.getMessage(), Color.RED);
-        }
+            @Override
+            protected void done() {
+                try {
+                    User user = get();
+                    
+                    if (!connected) {
+                        loginView.showStatus("Koneksi database gagal! Periksa konfigurasi.", Color.RED);
+                    } else if (user != null) {
+                        // Login berhasil
+                        loginView.showStatus("Login berhasil! Membuka dashboard...", Color.GREEN);
+                        
+                        // Simpan session user
+                        UserSession.setCurrentUser(user);
+                        
+                        // Delay sebentar untuk menampilkan pesan sukses
+                        Timer timer = new Timer(1000, e -> openDashboard(user));
+                        timer.setRepeats(false);
+                        timer.start();
+                        
+                    } else {
+                        // Login gagal
+                        loginView.showStatus("Username atau password salah!", Color.RED);
+                        loginView.clearForm();
+                    }
+                    
+                } catch (Exception e) {
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    System.err.println("Error during authentication: " + cause.getMessage());
+                    cause.printStackTrace();
+                    loginView.showStatus("Terjadi kesalahan sistem: " + cause.getMessage(), Color.RED);
+                }
+            }
+        };
+        
+        worker.execute();
     }
     
     /**
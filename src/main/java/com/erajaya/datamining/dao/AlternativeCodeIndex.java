@@ -0,0 +1,264 @@
+package com.erajaya.datamining.dao;
+
+import com.erajaya.datamining.config.DatabaseConfig;
+import com.erajaya.datamining.model.Alternative;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Index kode alternatif di memori untuk cek duplikat kode.
+ * Hanya Bloom filter yang disimpan: jawaban "pasti belum ada" diberikan
+ * tanpa menyentuh database, sedangkan kode yang lolos Bloom filter (termasuk
+ * false positive) dikonfirmasi oleh query AlternativeDAO. Unique key di
+ * tabel alternatives tetap menjadi acuan akhir.
+ *
+ * Kode disimpan dalam bentuk ternormalisasi (trim, huruf besar) karena
+ * UNIQUE key code di MySQL tidak membedakan huruf besar/kecil.
+ *
+ * Bloom filter dibangun di thread background (warmUp), tidak pernah di
+ * thread pemanggil. Selama belum siap mightContain() selalu menjawab true
+ * sehingga cek jatuh ke database. Kode baru ditambahkan dari change feed
+ * AlternativeDAO (code ikut dikirim, tanpa query ulang); kode lama dari
+ * UPDATE/DELETE tidak bisa dihapus dari Bloom filter, jadi filter dibangun
+ * ulang saat kode basi terlalu banyak atau setelah REFRESH_INTERVAL_MS
+ * (perubahan dari proses lain).
+ */
+public final class AlternativeCodeIndex {
+    
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final int MIN_CAPACITY = 1024;
+    private static final long REFRESH_INTERVAL_MS = 10 * 60 * 1000L;
+    private static final long RETRY_DELAY_MS = 30 * 1000L;
+    private static final int FETCH_SIZE = 1000;
+    
+    private static final AlternativeCodeIndex INSTANCE = new AlternativeCodeIndex();
+    
+    private BloomFilter bloom;              // null sampai pembangunan pertama selesai
+    private int codeCount;                  // kode yang sudah ditambahkan ke bloom
+    private int staleSinceBuild;            // kode lama dari UPDATE/DELETE yang masih di bloom
+    private long loadedAt;
+    private long retryAfter;                // jeda setelah pembangunan gagal
+    private List<String> addedWhileBuilding; // non-null selama pembangunan berjalan
+    
+    private AlternativeCodeIndex() {
+        AlternativeDAO.addChangeListener(this::onChange);
+    }
+    
+    public static AlternativeCodeIndex getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Mulai membangun index di background jika belum ada, misalnya saat
+     * dashboard dibuka, agar cek kode pertama tidak perlu menunggu
+     */
+    public synchronized void warmUp() {
+        if (bloom == null) {
+            startBuild();
+        }
+    }
+    
+    /**
+     * Cek apakah kode mungkin sudah dipakai. Tidak pernah mengakses database.
+     * @param code Kode alternatif
+     * @return false jika kode pasti belum ada, true jika perlu dicek ke database
+     */
+    public synchronized boolean mightContain(String code) {
+        if (code == null) {
+            return true;
+        }
+        if (bloom == null || System.currentTimeMillis() - loadedAt >= REFRESH_INTERVAL_MS) {
+            startBuild();
+        }
+        return bloom == null || bloom.mightContain(AlternativeDAO.normalizeCode(code));
+    }
+    
+    /**
+     * Membuang index dan membangunnya ulang di background
+     */
+    public synchronized void invalidate() {
+        bloom = null;
+        retryAfter = 0;
+        startBuild();
+    }
+    
+    private void startBuild() {
+        if (addedWhileBuilding != null || System.currentTimeMillis() < retryAfter) {
+            return;
+        }
+        
+        addedWhileBuilding = new ArrayList<>();
+        Thread thread = new Thread(this::build, "alternative-code-index");
+        thread.setDaemon(true);
+        thread.start();
+    }
+    
+    /**
+     * Membaca semua kode lewat cursor dan mengisi Bloom filter baru, lalu
+     * menambahkan kode yang masuk selama pembacaan
+     */
+    private void build() {
+        BloomFilter fresh = null;
+        int count = 0;
+        
+        try (Connection conn = DatabaseConfig.getConnection()) {
+            try (PreparedStatement stmt = conn.prepareStatement("SELECT COUNT(*) FROM alternatives");
+                 ResultSet rs = stmt.executeQuery()) {
+                
+                int total = rs.next() ? rs.getInt(1) : 0;
+                fresh = new BloomFilter(Math.max(MIN_CAPACITY, total * 2), FALSE_POSITIVE_RATE);
+            }
+            
+            try (PreparedStatement stmt = conn.prepareStatement("SELECT code FROM alternatives",
+                     ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                
+                stmt.setFetchSize(FETCH_SIZE);
+                
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        fresh.add(AlternativeDAO.normalizeCode(rs.getString("code")));
+                        count++;
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error saat memuat index kode alternatif: " + e.getMessage());
+            fresh = null;
+        }
+        
+        synchronized (this) {
+            List<String> added = addedWhileBuilding;
+            addedWhileBuilding = null;
+            
+            if (fresh == null) {
+                // Filter lama (jika ada) tetap dipakai, coba lagi setelah jeda
+                retryAfter = System.currentTimeMillis() + RETRY_DELAY_MS;
+                return;
+            }
+            
+            for (String code : added) {
+                fresh.add(code);
+            }
+            bloom = fresh;
+            codeCount = count + added.size();
+            staleSinceBuild = 0;
+            loadedAt = System.currentTimeMillis();
+        }
+    }
+    
+    /**
+     * Mencatat kode dari batch insert tanpa membaca ulang database
+     */
+    synchronized void recordInserted(List<Alternative> alternatives) {
+        for (Alternative alternative : alternatives) {
+            add(alternative.getCode());
+        }
+    }
+    
+    private void add(String code) {
+        code = AlternativeDAO.normalizeCode(code);
+        if (addedWhileBuilding != null) {
+            addedWhileBuilding.add(code);
+        }
+        if (bloom == null) {
+            return;
+        }
+        
+        bloom.add(code);
+        codeCount++;
+        if (codeCount > bloom.getCapacity()) {
+            startBuild();
+        }
+    }
+    
+    private synchronized void onChange(AlternativeDAO.ChangeType type, int alternativeId, String code) {
+        // Batch insert sudah dicatat lewat recordInserted
+        if (type == AlternativeDAO.ChangeType.BULK_INSERT || (bloom == null && addedWhileBuilding == null)) {
+            return;
+        }
+        
+        if (type != AlternativeDAO.ChangeType.INSERT) {
+            staleSinceBuild++;
+        }
+        
+        if (type != AlternativeDAO.ChangeType.DELETE) {
+            if (code == null) {
+                // Kode baru tidak diketahui, bangun ulang agar tidak ada false negative
+                invalidate();
+                return;
+            }
+            add(code);
+        }
+        
+        // Bloom filter tidak bisa menghapus, bangun ulang jika terlalu banyak kode basi
+        if (staleSinceBuild > Math.max(MIN_CAPACITY, codeCount) / 10) {
+            startBuild();
+        }
+    }
+    
+    /**
+     * Bloom filter sederhana di atas long[] dengan double hashing
+     */
+    static final class BloomFilter {
+        private final long[] bits;
+        private final int bitCount;
+        private final int hashCount;
+        private final int capacity;
+        
+        BloomFilter(int capacity, double falsePositiveRate) {
+            double ln2 = Math.log(2);
+            long m = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (ln2 * ln2));
+            this.bitCount = (int) Math.max(64, Math.min(m, Integer.MAX_VALUE - 63));
+            this.bits = new long[(bitCount + 63) / 64];
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / capacity * ln2));
+            this.capacity = capacity;
+        }
+        
+        void add(String value) {
+            long hash = hash64(value);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < hashCount; i++) {
+                int bit = Math.floorMod(h1 + i * h2, bitCount);
+                bits[bit >>> 6] |= 1L << bit;
+            }
+        }
+        
+        boolean mightContain(String value) {
+            long hash = hash64(value);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < hashCount; i++) {
+                int bit = Math.floorMod(h1 + i * h2, bitCount);
+                if ((bits[bit >>> 6] & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        
+        int getCapacity() {
+            return capacity;
+        }
+        
+        // FNV-1a 64-bit diikuti finalizer MurmurHash3 agar kedua setengah hash tersebar rata
+        private static long hash64(String value) {
+            long h = 0xcbf29ce484222325L;
+            for (int i = 0; i < value.length(); i++) {
+                h ^= value.charAt(i);
+                h *= 0x100000001b3L;
+            }
+            h ^= h >>> 33;
+            h *= 0xff51afd7ed558ccdL;
+            h ^= h >>> 33;
+            h *= 0xc4ceb9fe1a85ec53L;
+            h ^= h >>> 33;
+            return h;
+        }
+    }
+}
\ No newline at end of file
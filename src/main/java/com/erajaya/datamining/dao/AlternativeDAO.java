@@ -7,12 +7,73 @@ import java.math.BigDecimal;
 import java.sql.*;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Data Access Object untuk Alternative
  */
 public class AlternativeDAO {
     
+    /**
+     * Jenis perubahan data alternatif. BULK_INSERT dikirim sekali per batch
+     * import dengan ID -1.
+     */
+    public enum ChangeType {
+        INSERT, UPDATE, DELETE, BULK_INSERT
+    }
+    
+    /**
+     * Pendengar perubahan tabel alternatives. Dipanggil setelah perubahan
+     * berhasil dan koneksi dikembalikan ke pool; code berisi code baru untuk
+     * INSERT/UPDATE (null untuk DELETE dan BULK_INSERT) sehingga pendengar
+     * tidak perlu query ulang ke database.
+     */
+    public interface ChangeListener {
+        void alternativeChanged(ChangeType type, int alternativeId, String code);
+    }
+    
+    // Baris per round trip cursor server (db.useCursorFetch) saat streaming
+    private static final int FETCH_SIZE = 1000;
+    
+    // Versi data alternatif, naik setiap kali insert/update/delete berhasil
+    private static final AtomicLong CHANGE_VERSION = new AtomicLong();
+    private static final List<ChangeListener> LISTENERS = new CopyOnWriteArrayList<>();
+    
+    /**
+     * Mendapatkan versi data alternatif saat ini
+     * @return Versi yang naik setiap ada perubahan
+     */
+    public static long getChangeVersion() {
+        return CHANGE_VERSION.get();
+    }
+    
+    public static void addChangeListener(ChangeListener listener) {
+        LISTENERS.add(listener);
+    }
+    
+    public static void removeChangeListener(ChangeListener listener) {
+        LISTENERS.remove(listener);
+    }
+    
+    /**
+     * Menaikkan versi data dan memberi tahu semua pendengar
+     */
+    protected static void fireChange(ChangeType type, int alternativeId, String code) {
+        CHANGE_VERSION.incrementAndGet();
+        for (ChangeListener listener : LISTENERS) {
+            listener.alternativeChanged(type, alternativeId, code);
+        }
+    }
+    
+    /**
+     * Code dalam bentuk pembanding UNIQUE key (tanpa spasi tepi, huruf besar)
+     */
+    static String normalizeCode(String code) {
+        return code == null ? "" : code.trim().toUpperCase(Locale.ROOT);
+    }
+    
     /**
      * Mendapatkan semua alternatif
      * @return List of alternatives
@@ -35,6 +96,205 @@ public class AlternativeDAO {
         return alternatives;
     }
     
+    /**
+     * Mendapatkan satu halaman alternatif urut kode dengan keyset pagination.
+     * Query memakai index unik kolom code (WHERE code > ?), sehingga latensi
+     * per halaman tetap sama walaupun halaman berada jauh di belakang.
+     * @param afterCode Kode terakhir halaman sebelumnya, null untuk halaman pertama
+     * @param limit Jumlah baris per halaman
+     * @return List alternatif, kosong jika sudah habis
+     */
+    public List<Alternative> findPage(String afterCode, int limit) {
+        List<Alternative> alternatives = new ArrayList<>();
+        String sql = afterCode == null
+            ? "SELECT * FROM alternatives ORDER BY code LIMIT ?"
+            : "SELECT * FROM alternatives WHERE code > ? ORDER BY code LIMIT ?";
+        
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            
+            int param = 1;
+            if (afterCode != null) {
+                stmt.setString(param++, afterCode);
+            }
+            stmt.setInt(param, limit);
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    alternatives.add(mapResultSetToAlternative(rs));
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error saat mengambil halaman alternatif: " + e.getMessage());
+        }
+        
+        return alternatives;
+    }
+    
+    /**
+     * Mendapatkan satu halaman alternatif urut kode mulai dari kode tertentu
+     * (inklusif). Dipakai bersama findPageBoundaries untuk lompat langsung ke
+     * halaman mana pun tanpa OFFSET.
+     * @param fromCode Kode pertama halaman
+     * @param limit Jumlah baris per halaman
+     * @return List alternatif
+     */
+    public List<Alternative> findPageFrom(String fromCode, int limit) {
+        List<Alternative> alternatives = new ArrayList<>();
+        String sql = "SELECT * FROM alternatives WHERE code >= ? ORDER BY code LIMIT ?";
+        
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            
+            stmt.setString(1, fromCode);
+            stmt.setInt(2, limit);
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    alternatives.add(mapResultSetToAlternative(rs));
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error saat mengambil halaman alternatif: " + e.getMessage());
+        }
+        
+        return alternatives;
+    }
+    
+    /**
+     * Mendapatkan kode pertama setiap halaman urut kode. Hanya index unik
+     * kolom code yang dibaca (tanpa baris tabel), sehingga satu query cukup
+     * untuk memetakan semua halaman.
+     * @param pageSize Jumlah baris per halaman
+     * @return Kode pertama halaman ke-0, ke-1, dst.
+     */
+    public List<String> findPageBoundaries(int pageSize) {
+        List<String> boundaries = new ArrayList<>();
+        String sql = "SELECT code FROM (SELECT code, ROW_NUMBER() OVER (ORDER BY code) AS rn FROM alternatives) t " +
+                     "WHERE MOD(rn - 1, ?) = 0 ORDER BY code";
+        
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            
+            stmt.setInt(1, pageSize);
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    boundaries.add(rs.getString("code"));
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error saat mengambil batas halaman alternatif: " + e.getMessage());
+        }
+        
+        return boundaries;
+    }
+    
+    /**
+     * Menghitung jumlah alternatif
+     * @return Jumlah baris tabel alternatives
+     */
+    public int countAll() {
+        String sql = "SELECT COUNT(*) FROM alternatives";
+        
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
+            
+            if (rs.next()) {
+                return rs.getInt(1);
+            }
+        } catch (SQLException e) {
+            System.err.println("Error saat menghitung alternatif: " + e.getMessage());
+        }
+        
+        return 0;
+    }
+    
+    /**
+     * Mendapatkan satu halaman alternatif urut ranking SAW dengan keyset
+     * pagination pada index saw_results.ranking. Hanya alternatif yang
+     * sudah memiliki hasil SAW yang ikut.
+     * @param afterRank Ranking terakhir halaman sebelumnya, 0 untuk halaman pertama
+     * @param limit Jumlah baris per halaman
+     * @return List alternatif dengan total score dan ranking
+     */
+    public List<Alternative> findRankedPage(int afterRank, int limit) {
+        List<Alternative> alternatives = new ArrayList<>();
+        String sql = "SELECT a.*, sr.total_score, sr.ranking " +
+                    "FROM saw_results sr " +
+                    "JOIN alternatives a ON a.id = sr.alternative_id " +
+                    "WHERE sr.ranking > ? " +
+                    "ORDER BY sr.ranking LIMIT ?";
+        
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            
+            stmt.setInt(1, afterRank);
+            stmt.setInt(2, limit);
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    Alternative alt = mapResultSetToAlternative(rs);
+                    alt.setTotalScore(rs.getBigDecimal("total_score"));
+                    alt.setRanking(rs.getInt("ranking"));
+                    alternatives.add(alt);
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error saat mengambil halaman ranking: " + e.getMessage());
+        }
+        
+        return alternatives;
+    }
+    
+    /**
+     * Membaca seluruh hasil SAW urut ranking lewat cursor server
+     * (fetch size FETCH_SIZE seperti DecisionMatrixDAO), sehingga paling
+     * banyak FETCH_SIZE baris ditahan di memori berapa pun jumlah
+     * alternatifnya. Berhenti di tengah cukup menutup cursor.
+     * @param handler Penerima setiap baris; kembalikan false untuk berhenti
+     * @return true jika semua baris terbaca tanpa dihentikan atau error
+     */
+    public boolean streamRanked(RankedRowHandler handler) {
+        String sql = "SELECT a.*, sr.total_score, sr.ranking " +
+                    "FROM saw_results sr " +
+                    "JOIN alternatives a ON a.id = sr.alternative_id " +
+                    "ORDER BY sr.ranking";
+        
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            
+            stmt.setFetchSize(FETCH_SIZE);
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    Alternative alt = mapResultSetToAlternative(rs);
+                    alt.setTotalScore(rs.getBigDecimal("total_score"));
+                    alt.setRanking(rs.getInt("ranking"));
+                    if (!handler.accept(alt)) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        } catch (SQLException e) {
+            System.err.println("Error saat membaca hasil ranking: " + e.getMessage());
+            return false;
+        }
+    }
+    
+    /**
+     * Penerima baris hasil ranking saat streaming
+     */
+    public interface RankedRowHandler {
+        /**
+         * @param alternative Alternatif dengan total score dan ranking
+         * @return true untuk lanjut ke baris berikutnya
+         */
+        boolean accept(Alternative alternative);
+    }
+    
     /**
      * Mendapatkan alternatif berdasarkan ID
      * @param id ID alternatif
@@ -93,6 +353,7 @@ public class AlternativeDAO {
     public boolean save(Alternative alternative) {
         String sql = "INSERT INTO alternatives (code, name, price, quality_score, spare_parts_score, description) " +
                     "VALUES (?, ?, ?, ?, ?, ?)";
+        boolean saved = false;
         
         try (Connection conn = DatabaseConfig.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
@@ -112,13 +373,72 @@ public class AlternativeDAO {
                         alternative.setId(generatedKeys.getInt(1));
                     }
                 }
-                return true;
+                saved = true;
             }
         } catch (SQLException e) {
             System.err.println("Error saat menyimpan alternatif: " + e.getMessage());
         }
         
-        return false;
+        // Setelah koneksi dikembalikan, agar pendengar tidak menahan dua koneksi
+        if (saved) {
+            fireChange(ChangeType.INSERT, alternative.getId(), alternative.getCode());
+        }
+        return saved;
+    }
+    
+    /**
+     * Menyimpan banyak alternatif dalam satu transaksi dengan JDBC batch
+     * (dikirim sebagai INSERT multi-baris oleh driver karena
+     * rewriteBatchedStatements aktif). ID hasil generate diisi ke setiap objek.
+     * @param alternatives Alternatif baru
+     * @return Jumlah baris tersimpan, -1 jika gagal (seluruh batch di-rollback)
+     */
+    public int saveBatch(List<Alternative> alternatives) {
+        if (alternatives.isEmpty()) {
+            return 0;
+        }
+        
+        String sql = "INSERT INTO alternatives (code, name, price, quality_score, spare_parts_score, description) " +
+                    "VALUES (?, ?, ?, ?, ?, ?)";
+        
+        try (Connection conn = DatabaseConfig.getConnection()) {
+            conn.setAutoCommit(false);
+            
+            try (PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                for (Alternative alternative : alternatives) {
+                    stmt.setString(1, alternative.getCode());
+                    stmt.setString(2, alternative.getName());
+                    stmt.setBigDecimal(3, alternative.getPrice());
+                    stmt.setInt(4, alternative.getQualityScore());
+                    stmt.setInt(5, alternative.getSparePartsScore());
+                    stmt.setString(6, alternative.getDescription());
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+                
+                try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
+                    for (Alternative alternative : alternatives) {
+                        if (!generatedKeys.next()) {
+                            break;
+                        }
+                        alternative.setId(generatedKeys.getInt(1));
+                    }
+                }
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            System.err.println("Error saat menyimpan batch alternatif: " + e.getMessage());
+            return -1;
+        }
+        
+        AlternativeCodeIndex.getInstance().recordInserted(alternatives);
+        fireChange(ChangeType.BULK_INSERT, -1, null);
+        return alternatives.size();
     }
     
     /**
@@ -129,6 +449,7 @@ public class AlternativeDAO {
     public boolean update(Alternative alternative) {
         String sql = "UPDATE alternatives SET code = ?, name = ?, price = ?, quality_score = ?, " +
                     "spare_parts_score = ?, description = ? WHERE id = ?";
+        boolean updated = false;
         
         try (Connection conn = DatabaseConfig.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -141,12 +462,15 @@ public class AlternativeDAO {
             stmt.setString(6, alternative.getDescription());
             stmt.setInt(7, alternative.getId());
             
-            return stmt.executeUpdate() > 0;
+            updated = stmt.executeUpdate() > 0;
         } catch (SQLException e) {
             System.err.println("Error saat update alternatif: " + e.getMessage());
         }
         
-        return false;
+        if (updated) {
+            fireChange(ChangeType.UPDATE, alternative.getId(), alternative.getCode());
+        }
+        return updated;
     }
     
     /**
@@ -156,17 +480,21 @@ public class AlternativeDAO {
      */
     public boolean delete(int id) {
         String sql = "DELETE FROM alternatives WHERE id = ?";
+        boolean deleted = false;
         
         try (Connection conn = DatabaseConfig.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
             stmt.setInt(1, id);
-            return stmt.executeUpdate() > 0;
+            deleted = stmt.executeUpdate() > 0;
         } catch (SQLException e) {
             System.err.println("Error saat menghapus alternatif: " + e.getMessage());
         }
         
-        return false;
+        if (deleted) {
+            fireChange(ChangeType.DELETE, id, null);
+        }
+        return deleted;
     }
     
     /**
@@ -176,6 +504,11 @@ public class AlternativeDAO {
      * @return true jika code sudah ada
      */
     public boolean isCodeExists(String code, int excludeId) {
+        // Kode yang pasti belum ada tidak perlu dicek ke database
+        if (!AlternativeCodeIndex.getInstance().mightContain(code)) {
+            return false;
+        }
+        
         String sql = "SELECT COUNT(*) FROM alternatives WHERE code = ? AND id != ?";
         
         try (Connection conn = DatabaseConfig.getConnection();
@@ -275,7 +608,7 @@ public class AlternativeDAO {
      * @return Alternative object
      * @throws SQLException
      */
-    private Alternative mapResultSetToAlternative(ResultSet rs) throws SQLException {
+    static Alternative mapResultSetToAlternative(ResultSet rs) throws SQLException {
         Alternative alt = new Alternative();
         alt.setId(rs.getInt("id"));
         alt.setCode(rs.getString("code"));
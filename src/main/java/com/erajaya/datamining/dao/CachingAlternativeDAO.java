@@ -0,0 +1,243 @@
+package com.erajaya.datamining.dao;
+
+import com.erajaya.datamining.model.Alternative;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AlternativeDAO dengan cache read-through untuk findById, findByCode dan
+ * isCodeExists. Cache dipakai bersama oleh semua instance, dibatasi jumlah
+ * alternatif (LRU berkunci ID) dan umur entri (TTL), dan dibersihkan lewat
+ * change feed AlternativeDAO setiap kali save/update/delete berhasil.
+ * Pencarian code memakai map code -> ID terpisah dengan code yang
+ * dinormalisasi (trim, huruf besar) seperti UNIQUE key code di MySQL.
+ *
+ * Hanya hasil yang ditemukan yang disimpan; alternatif yang tidak ada selalu
+ * dicek ke database, sehingga insert baru tidak perlu invalidasi.
+ */
+public class CachingAlternativeDAO extends AlternativeDAO {
+    
+    private static final int MAX_ENTRIES = 10000;
+    private static final long TTL_MILLIS = 5 * 60 * 1000L;
+    
+    // Satu entri per alternatif berkunci ID, urut akses (LRU)
+    private static final Map<Integer, CacheEntry> CACHE = new LinkedHashMap<Integer, CacheEntry>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, CacheEntry> eldest) {
+            if (size() > MAX_ENTRIES) {
+                CODE_TO_ID.remove(eldest.getValue().codeKey, eldest.getKey());
+                EVICTIONS.incrementAndGet();
+                return true;
+            }
+            return false;
+        }
+    };
+    
+    // Code ternormalisasi -> ID, selalu sinkron dengan CACHE (dijaga lock CACHE)
+    private static final Map<String, Integer> CODE_TO_ID = new HashMap<>();
+    
+    private static final AtomicLong HITS = new AtomicLong();
+    private static final AtomicLong MISSES = new AtomicLong();
+    private static final AtomicLong EVICTIONS = new AtomicLong();
+    private static final AtomicLong INVALIDATIONS = new AtomicLong();
+    
+    static {
+        addChangeListener((type, alternativeId, code) -> {
+            if (type == ChangeType.UPDATE || type == ChangeType.DELETE) {
+                invalidate(alternativeId);
+            }
+        });
+    }
+    
+    @Override
+    public Alternative findById(int id) {
+        Alternative cached = get(id);
+        if (cached != null) {
+            return cached;
+        }
+        
+        long version = getChangeVersion();
+        Alternative alternative = super.findById(id);
+        put(alternative, version);
+        return alternative;
+    }
+    
+    @Override
+    public Alternative findByCode(String code) {
+        if (code == null) {
+            return null;
+        }
+        
+        Alternative cached = getByCode(normalizeCode(code));
+        if (cached != null) {
+            return cached;
+        }
+        
+        long version = getChangeVersion();
+        Alternative alternative = super.findByCode(code);
+        put(alternative, version);
+        return alternative;
+    }
+    
+    /**
+     * Code bersifat unik, sehingga kode yang lolos index kode cukup dicek
+     * dengan findByCode yang ter-cache
+     */
+    @Override
+    public boolean isCodeExists(String code, int excludeId) {
+        if (!AlternativeCodeIndex.getInstance().mightContain(code)) {
+            return false;
+        }
+        
+        Alternative alternative = findByCode(code);
+        return alternative != null && alternative.getId() != excludeId;
+    }
+    
+    private static Alternative get(int id) {
+        synchronized (CACHE) {
+            return hit(id, CACHE.get(id));
+        }
+    }
+    
+    private static Alternative getByCode(String codeKey) {
+        synchronized (CACHE) {
+            Integer id = CODE_TO_ID.get(codeKey);
+            return hit(id, id == null ? null : CACHE.get(id));
+        }
+    }
+    
+    /**
+     * Salinan entri yang masih berlaku; entri kedaluwarsa dibuang
+     * (dipanggil di dalam lock CACHE)
+     */
+    private static Alternative hit(Integer id, CacheEntry entry) {
+        if (entry != null && entry.expiresAt > System.currentTimeMillis()) {
+            HITS.incrementAndGet();
+            return new Alternative(entry.alternative);
+        }
+        if (entry != null) {
+            remove(id);
+            EVICTIONS.incrementAndGet();
+        }
+        
+        MISSES.incrementAndGet();
+        return null;
+    }
+    
+    private static void put(Alternative alternative, long loadedVersion) {
+        if (alternative == null) {
+            return;
+        }
+        
+        // Salinan disimpan agar perubahan objek oleh pemanggil tidak mengotori cache
+        CacheEntry entry = new CacheEntry(new Alternative(alternative), normalizeCode(alternative.getCode()),
+            System.currentTimeMillis() + TTL_MILLIS);
+        synchronized (CACHE) {
+            // Ada perubahan selama query berjalan, hasilnya mungkin sudah basi
+            if (getChangeVersion() != loadedVersion) {
+                return;
+            }
+            remove(alternative.getId());
+            CACHE.put(alternative.getId(), entry);
+            CODE_TO_ID.put(entry.codeKey, alternative.getId());
+        }
+    }
+    
+    /**
+     * Menghapus entri satu alternatif beserta kunci code-nya
+     * (dipanggil di dalam lock CACHE)
+     */
+    private static void remove(int alternativeId) {
+        CacheEntry entry = CACHE.remove(alternativeId);
+        if (entry != null) {
+            CODE_TO_ID.remove(entry.codeKey, alternativeId);
+        }
+    }
+    
+    /**
+     * Menghapus entri milik satu alternatif, termasuk code lama setelah
+     * code diubah
+     */
+    private static void invalidate(int alternativeId) {
+        synchronized (CACHE) {
+            remove(alternativeId);
+        }
+        INVALIDATIONS.incrementAndGet();
+    }
+    
+    /**
+     * Mengosongkan cache, misalnya setelah data diubah langsung di database
+     */
+    public static void clear() {
+        synchronized (CACHE) {
+            CACHE.clear();
+            CODE_TO_ID.clear();
+        }
+    }
+    
+    /**
+     * Mendapatkan statistik cache untuk menentukan ukuran cache
+     */
+    public static CacheStats getStats() {
+        int size;
+        synchronized (CACHE) {
+            size = CACHE.size();
+        }
+        return new CacheStats(size, HITS.get(), MISSES.get(), EVICTIONS.get(), INVALIDATIONS.get());
+    }
+    
+    /**
+     * Satu entri cache beserta code ternormalisasi dan waktu kedaluwarsanya
+     */
+    private static final class CacheEntry {
+        final Alternative alternative;
+        final String codeKey;
+        final long expiresAt;
+        
+        CacheEntry(Alternative alternative, String codeKey, long expiresAt) {
+            this.alternative = alternative;
+            this.codeKey = codeKey;
+            this.expiresAt = expiresAt;
+        }
+    }
+    
+    /**
+     * Statistik cache pada satu waktu
+     */
+    public static final class CacheStats {
+        private final int size;
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final long invalidations;
+        
+        CacheStats(int size, long hits, long misses, long evictions, long invalidations) {
+            this.size = size;
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.invalidations = invalidations;
+        }
+        
+        // Getters
+        public int getSize() { return size; }
+        public long getHits() { return hits; }
+        public long getMisses() { return misses; }
+        public long getEvictions() { return evictions; }
+        public long getInvalidations() { return invalidations; }
+        
+        public double getHitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+        
+        @Override
+        public String toString() {
+            return String.format("size=%d, hits=%d, misses=%d, hitRate=%.1f%%, evictions=%d, invalidations=%d",
+                size, hits, misses, getHitRate() * 100, evictions, invalidations);
+        }
+    }
+}
\ No newline at end of file
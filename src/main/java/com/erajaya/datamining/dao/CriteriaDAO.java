@@ -0,0 +1,59 @@
+package com.erajaya.datamining.dao;
+
+import com.erajaya.datamining.config.DatabaseConfig;
+import com.erajaya.datamining.model.Criteria;
+import com.erajaya.datamining.model.Criteria.CriteriaType;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Data Access Object untuk Criteria
+ */
+public class CriteriaDAO {
+    
+    /**
+     * Mendapatkan semua kriteria sesuai urutan ID
+     * @return List of criteria
+     */
+    public List<Criteria> findAll() {
+        List<Criteria> criteriaList = new ArrayList<>();
+        String sql = "SELECT * FROM criteria ORDER BY id";
+        
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
+            
+            while (rs.next()) {
+                criteriaList.add(mapResultSetToCriteria(rs));
+            }
+        } catch (SQLException e) {
+            System.err.println("Error saat mengambil semua kriteria: " + e.getMessage());
+        }
+        
+        return criteriaList;
+    }
+    
+    /**
+     * Mapping ResultSet ke Criteria object
+     * @param rs ResultSet
+     * @return Criteria object
+     * @throws SQLException
+     */
+    private Criteria mapResultSetToCriteria(ResultSet rs) throws SQLException {
+        Criteria criteria = new Criteria();
+        criteria.setId(rs.getInt("id"));
+        criteria.setName(rs.getString("name"));
+        criteria.setWeight(rs.getBigDecimal("weight"));
+        criteria.setType(CriteriaType.fromString(rs.getString("type")));
+        criteria.setDescription(rs.getString("description"));
+        
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        if (createdAt != null) {
+            criteria.setCreatedAt(createdAt.toLocalDateTime());
+        }
+        
+        return criteria;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,323 @@
+package com.erajaya.datamining.dao;
+
+import com.erajaya.datamining.config.DatabaseConfig;
+import com.erajaya.datamining.model.Criteria;
+import com.erajaya.datamining.model.DecisionMatrix;
+
+import java.sql.*;
+import java.util.*;
+
+/**
+ * Data Access Object untuk membangun matriks keputusan SAW.
+ * Tabel evaluations di-pivot di MySQL menjadi k kolom sehingga setiap
+ * alternatif hanya dikirim satu kali (id, code, name dan nilai kriteria),
+ * sedangkan kriteria bawaan (Harga, Kualitas, Suku Cadang) dibaca langsung
+ * dari kolom tabel alternatives agar tetap sinkron dengan form alternatif.
+ */
+public class DecisionMatrixDAO {
+    
+    // Jumlah baris per pengambilan cursor (useCursorFetch), memori tetap terbatas
+    private static final int FETCH_SIZE = 1000;
+    
+    // Kriteria yang nilainya disimpan di tabel alternatives (nama kriteria -> kolom)
+    private static final Map<String, String> BUILT_IN_COLUMNS = new HashMap<>();
+    
+    static {
+        BUILT_IN_COLUMNS.put("harga", "price");
+        BUILT_IN_COLUMNS.put("kualitas", "quality_score");
+        BUILT_IN_COLUMNS.put("suku cadang", "spare_parts_score");
+    }
+    
+    /**
+     * Mendapatkan kolom tabel alternatives untuk kriteria bawaan
+     * @param criteria Kriteria
+     * @return Nama kolom, atau null jika nilai kriteria ada di tabel evaluations
+     */
+    public static String getBuiltInColumn(Criteria criteria) {
+        return criteria.getName() != null
+            ? BUILT_IN_COLUMNS.get(criteria.getName().trim().toLowerCase())
+            : null;
+    }
+    
+    /**
+     * Membangun matriks keputusan untuk semua alternatif
+     * @param criteriaList Kriteria sesuai urutan kolom
+     * @return Matriks keputusan (kosong jika gagal)
+     */
+    public DecisionMatrix load(List<Criteria> criteriaList) {
+        return load(criteriaList, null);
+    }
+    
+    /**
+     * Mendapatkan nilai setiap kriteria untuk satu alternatif
+     * @param criteriaList Kriteria sesuai urutan kolom
+     * @param alternativeId ID alternatif
+     * @return Nilai per kriteria, atau null jika alternatif tidak ditemukan
+     *         atau nilainya belum lengkap (tidak ikut dihitung)
+     */
+    public double[] loadRow(List<Criteria> criteriaList, int alternativeId) {
+        DecisionMatrix matrix = load(criteriaList, alternativeId);
+        if (matrix.isEmpty()) {
+            return null;
+        }
+        
+        double[] values = new double[matrix.getCriteriaCount()];
+        for (int j = 0; j < values.length; j++) {
+            values[j] = matrix.getValue(0, j);
+        }
+        return values;
+    }
+    
+    private DecisionMatrix load(List<Criteria> criteriaList, Integer onlyAlternativeId) {
+        int k = criteriaList.size();
+        String[] builtInColumns = getBuiltInColumns(criteriaList);
+        MatrixCollector collector = new MatrixCollector(k);
+        
+        if (!stream(criteriaList, onlyAlternativeId, collector)) {
+            return new DecisionMatrix(criteriaList, new int[0], new String[0], new String[0],
+                new double[k][0], builtInColumns);
+        }
+        
+        return collector.toMatrix(criteriaList, builtInColumns);
+    }
+    
+    /**
+     * Membaca alternatif satu per satu dengan cursor forward-only tanpa
+     * menampung seluruh tabel di memori. Driver mengambil FETCH_SIZE baris
+     * per round trip dari cursor server.
+     * @param criteriaList Kriteria sesuai urutan kolom
+     * @param handler Penerima setiap baris (array nilai dipakai ulang antar baris)
+     * @return true jika seluruh baris berhasil dibaca
+     */
+    public boolean stream(List<Criteria> criteriaList, RowHandler handler) {
+        return stream(criteriaList, null, handler);
+    }
+    
+    private boolean stream(List<Criteria> criteriaList, Integer onlyAlternativeId, RowHandler handler) {
+        int k = criteriaList.size();
+        List<Integer> params = new ArrayList<>();
+        String sql = buildPivotQuery(criteriaList, params, onlyAlternativeId != null ? "a.id = ?" : null) +
+                     " ORDER BY a.code, a.id";
+        
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            
+            stmt.setFetchSize(FETCH_SIZE);
+            
+            int param = 1;
+            for (Integer criteriaId : params) {
+                stmt.setInt(param++, criteriaId);
+            }
+            if (onlyAlternativeId != null) {
+                stmt.setInt(param, onlyAlternativeId);
+            }
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                double[] values = new double[k];
+                
+                while (rs.next()) {
+                    for (int j = 0; j < k; j++) {
+                        values[j] = rs.getDouble(4 + j);
+                        if (rs.wasNull()) {
+                            values[j] = Double.NaN;
+                        }
+                    }
+                    handler.accept(rs.getInt(1), rs.getString(2), rs.getString(3), values);
+                }
+            }
+            return true;
+        } catch (SQLException e) {
+            System.err.println("Error saat membaca matriks keputusan: " + e.getMessage());
+            return false;
+        }
+    }
+    
+    /**
+     * Kolom tabel alternatives untuk setiap kriteria, null jika nilainya
+     * ada di tabel evaluations
+     */
+    public static String[] getBuiltInColumns(List<Criteria> criteriaList) {
+        String[] columns = new String[criteriaList.size()];
+        for (int j = 0; j < columns.length; j++) {
+            columns[j] = getBuiltInColumn(criteriaList.get(j));
+        }
+        return columns;
+    }
+    
+    /**
+     * Mendapatkan nilai min dan max setiap kriteria dengan agregasi SQL atas
+     * query pivot, hanya dari alternatif yang semua nilainya terisi
+     * @param criteriaList Kriteria sesuai urutan kolom
+     * @return Array {min[], max[]}, atau null jika gagal / tidak ada alternatif lengkap
+     */
+    public double[][] loadColumnExtremes(List<Criteria> criteriaList) {
+        int k = criteriaList.size();
+        double[] min = new double[k];
+        double[] max = new double[k];
+        
+        List<Integer> params = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("SELECT COUNT(*) AS total");
+        for (int j = 0; j < k; j++) {
+            sql.append(", MIN(m.c").append(j).append(") AS min_").append(j)
+               .append(", MAX(m.c").append(j).append(") AS max_").append(j);
+        }
+        sql.append(" FROM (").append(buildPivotQuery(criteriaList, params, null)).append(") m");
+        String complete = buildCompleteCondition(k, "m");
+        if (!complete.isEmpty()) {
+            sql.append(" WHERE ").append(complete);
+        }
+        
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+            
+            int param = 1;
+            for (Integer criteriaId : params) {
+                stmt.setInt(param++, criteriaId);
+            }
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (!rs.next() || rs.getInt("total") == 0) {
+                    return null;
+                }
+                for (int j = 0; j < k; j++) {
+                    min[j] = rs.getDouble("min_" + j);
+                    max[j] = rs.getDouble("max_" + j);
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error saat mengambil min/max kriteria: " + e.getMessage());
+            return null;
+        }
+        
+        return new double[][]{min, max};
+    }
+    
+    /**
+     * Query pivot: satu baris per alternatif berisi id, code, name lalu satu
+     * kolom DOUBLE per kriteria dengan alias c0, c1, ... sesuai urutan kriteria.
+     * Nilai evaluations diambil dengan MAX(CASE ...) per kriteria dan bernilai
+     * NULL jika belum diisi. Query yang sama dipakai SqlPushdownSAWEngine agar
+     * engine SQL dan engine Java membaca matriks yang identik.
+     * @param criteriaList Kriteria sesuai urutan kolom
+     * @param params Diisi ID kriteria sesuai urutan placeholder
+     * @param where Kondisi WHERE atas alternatives (alias a), null jika tanpa filter
+     * @return SQL tanpa ORDER BY
+     */
+    public static String buildPivotQuery(List<Criteria> criteriaList, List<Integer> params, String where) {
+        StringBuilder select = new StringBuilder("SELECT a.id, a.code, a.name");
+        StringBuilder groupBy = new StringBuilder("a.id, a.code, a.name");
+        List<Integer> evaluationIds = new ArrayList<>();
+        
+        for (int j = 0; j < criteriaList.size(); j++) {
+            Criteria criteria = criteriaList.get(j);
+            String column = getBuiltInColumn(criteria);
+            if (column != null) {
+                select.append(", CAST(a.").append(column).append(" AS DOUBLE) AS c").append(j);
+                groupBy.append(", a.").append(column);
+            } else {
+                select.append(", MAX(CASE WHEN e.criteria_id = ? THEN CAST(e.value AS DOUBLE) END) AS c").append(j);
+                params.add(criteria.getId());
+                evaluationIds.add(criteria.getId());
+            }
+        }
+        
+        String whereClause = where != null ? " WHERE " + where : "";
+        if (evaluationIds.isEmpty()) {
+            return select + " FROM alternatives a" + whereClause;
+        }
+        
+        StringBuilder placeholders = new StringBuilder();
+        for (int i = 0; i < evaluationIds.size(); i++) {
+            placeholders.append(i == 0 ? "?" : ", ?");
+        }
+        params.addAll(evaluationIds);
+        
+        return select +
+               " FROM alternatives a" +
+               " LEFT JOIN evaluations e ON e.alternative_id = a.id" +
+               " AND e.criteria_id IN (" + placeholders + ")" +
+               whereClause +
+               " GROUP BY " + groupBy;
+    }
+    
+    /**
+     * Kondisi baris pivot yang semua nilai kriterianya terisi
+     * @param k Jumlah kriteria
+     * @param alias Alias subquery pivot
+     * @return Kondisi "alias.c0 IS NOT NULL AND ...", kosong jika k = 0
+     */
+    public static String buildCompleteCondition(int k, String alias) {
+        StringBuilder condition = new StringBuilder();
+        for (int j = 0; j < k; j++) {
+            condition.append(j == 0 ? "" : " AND ").append(alias).append(".c").append(j).append(" IS NOT NULL");
+        }
+        return condition.toString();
+    }
+    
+    /**
+     * Penerima baris matriks keputusan saat streaming
+     */
+    public interface RowHandler {
+        /**
+         * @param id ID alternatif
+         * @param code Kode alternatif
+         * @param name Nama alternatif
+         * @param values Nilai per kriteria (NaN jika belum diisi); array dipakai
+         *               ulang, salin jika perlu disimpan
+         */
+        void accept(int id, String code, String name, double[] values);
+    }
+    
+    /**
+     * Mengumpulkan baris hasil streaming menjadi array kolom yang bertambah otomatis.
+     * Baris yang nilainya belum lengkap dicatat terpisah untuk validasi.
+     */
+    private static class MatrixCollector implements RowHandler {
+        private int capacity = 256;
+        private int[] ids = new int[capacity];
+        private String[] codes = new String[capacity];
+        private String[] names = new String[capacity];
+        private final double[][] columns;
+        private final List<DecisionMatrix.IncompleteRow> incompleteRows = new ArrayList<>();
+        private int n = 0;
+        
+        MatrixCollector(int k) {
+            this.columns = new double[k][capacity];
+        }
+        
+        @Override
+        public void accept(int id, String code, String name, double[] values) {
+            if (!DecisionMatrix.isComplete(values)) {
+                incompleteRows.add(new DecisionMatrix.IncompleteRow(id, code, values));
+                return;
+            }
+            if (n == capacity) {
+                capacity *= 2;
+                ids = Arrays.copyOf(ids, capacity);
+                codes = Arrays.copyOf(codes, capacity);
+                names = Arrays.copyOf(names, capacity);
+                for (int j = 0; j < columns.length; j++) {
+                    columns[j] = Arrays.copyOf(columns[j], capacity);
+                }
+            }
+            
+            ids[n] = id;
+            codes[n] = code;
+            names[n] = name;
+            for (int j = 0; j < columns.length; j++) {
+                columns[j][n] = values[j];
+            }
+            n++;
+        }
+        
+        DecisionMatrix toMatrix(List<Criteria> criteriaList, String[] builtInColumns) {
+            // Potong array sesuai jumlah alternatif
+            double[][] trimmed = new double[columns.length][];
+            for (int j = 0; j < columns.length; j++) {
+                trimmed[j] = Arrays.copyOf(columns[j], n);
+            }
+            return new DecisionMatrix(criteriaList, Arrays.copyOf(ids, n), Arrays.copyOf(codes, n),
+                Arrays.copyOf(names, n), trimmed, builtInColumns, incompleteRows);
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.erajaya.datamining.dao;
+
+import com.erajaya.datamining.config.DatabaseConfig;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.*;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Data Access Object untuk tabel saw_results.
+ * Penulisan hasil dilakukan dalam satu transaksi dengan JDBC batch, dan
+ * hanya baris yang skor atau ranking-nya berubah yang dikirim ke database,
+ * sehingga pembaca tidak pernah melihat tabel yang setengah kosong.
+ */
+public class SAWResultDAO {
+    
+    private static final int BATCH_SIZE = 1000;
+    
+    // Alias baris (MySQL 8.0.19+) menggantikan VALUES(col) yang sudah deprecated
+    private static final String UPSERT_SQL =
+        "INSERT INTO saw_results (alternative_id, total_score, ranking) VALUES (?, ?, ?) AS new " +
+        "ON DUPLICATE KEY UPDATE total_score = new.total_score, ranking = new.ranking, " +
+        "calculation_date = CURRENT_TIMESTAMP";
+    
+    /**
+     * Menyamakan isi saw_results dengan hasil perhitungan penuh.
+     * Baris tersimpan dibaca terurut alternative_id dan di-merge-join dengan
+     * hasil yang juga diurutkan berdasarkan ID, sehingga tidak ada map berisi
+     * seluruh tabel. Baris yang tidak berubah dibiarkan, baris baru di-insert,
+     * baris berubah di-update dan baris milik alternatif yang sudah tidak
+     * dihitung dihapus.
+     * @param ids ID alternatif
+     * @param scores Skor per alternatif
+     * @param ranks Ranking per alternatif
+     * @return Jumlah baris yang ditulis atau dihapus, -1 jika gagal
+     */
+    public int replaceAll(int[] ids, double[] scores, int[] ranks) {
+        String selectSql = "SELECT alternative_id, total_score, ranking FROM saw_results " +
+                           "ORDER BY alternative_id FOR UPDATE";
+        String insertSql = "INSERT INTO saw_results (alternative_id, total_score, ranking) VALUES (?, ?, ?)";
+        String updateSql = "UPDATE saw_results SET total_score = ?, ranking = ?, " +
+                           "calculation_date = CURRENT_TIMESTAMP WHERE alternative_id = ?";
+        String deleteSql = "DELETE FROM saw_results WHERE alternative_id = ?";
+        int[] order = sortedById(ids);
+        
+        try (Connection conn = DatabaseConfig.getConnection()) {
+            conn.setAutoCommit(false);
+            
+            // Baris tersimpan dikunci sampai commit, jadi insert/update tidak perlu upsert
+            try (PreparedStatement selectStmt = conn.prepareStatement(selectSql);
+                 PreparedStatement insertStmt = conn.prepareStatement(insertSql);
+                 PreparedStatement updateStmt = conn.prepareStatement(updateSql);
+                 PreparedStatement deleteStmt = conn.prepareStatement(deleteSql)) {
+                
+                Batch inserts = new Batch(insertStmt);
+                Batch updates = new Batch(updateStmt);
+                Batch deletes = new Batch(deleteStmt);
+                int next = 0;
+                
+                try (ResultSet rs = selectStmt.executeQuery()) {
+                    while (rs.next()) {
+                        int storedId = rs.getInt("alternative_id");
+                        
+                        // Hasil dengan ID lebih kecil belum pernah tersimpan
+                        while (next < order.length && ids[order[next]] < storedId) {
+                            int i = order[next++];
+                            insertStmt.setInt(1, ids[i]);
+                            insertStmt.setBigDecimal(2, toScore(scores[i]));
+                            insertStmt.setInt(3, ranks[i]);
+                            inserts.add();
+                        }
+                        
+                        if (next < order.length && ids[order[next]] == storedId) {
+                            int i = order[next++];
+                            BigDecimal score = toScore(scores[i]);
+                            if (rs.getBigDecimal("total_score").compareTo(score) != 0 || rs.getInt("ranking") != ranks[i]) {
+                                updateStmt.setBigDecimal(1, score);
+                                updateStmt.setInt(2, ranks[i]);
+                                updateStmt.setInt(3, storedId);
+                                updates.add();
+                            }
+                        } else {
+                            // Alternatif sudah tidak ada di hasil
+                            deleteStmt.setInt(1, storedId);
+                            deletes.add();
+                        }
+                    }
+                }
+                
+                while (next < order.length) {
+                    int i = order[next++];
+                    insertStmt.setInt(1, ids[i]);
+                    insertStmt.setBigDecimal(2, toScore(scores[i]));
+                    insertStmt.setInt(3, ranks[i]);
+                    inserts.add();
+                }
+                
+                int written = inserts.flush() + updates.flush() + deletes.flush();
+                conn.commit();
+                return written;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            System.err.println("Error saat menyimpan hasil SAW: " + e.getMessage());
+            return -1;
+        }
+    }
+    
+    /**
+     * Upsert sebagian baris hasil (misalnya setelah perubahan satu alternatif)
+     * dalam satu transaksi
+     * @param ids ID alternatif
+     * @param scores Skor per alternatif
+     * @param ranks Ranking per alternatif
+     * @return true jika berhasil
+     */
+    public boolean upsert(int[] ids, double[] scores, int[] ranks) {
+        try (Connection conn = DatabaseConfig.getConnection()) {
+            conn.setAutoCommit(false);
+            
+            try (PreparedStatement upsertStmt = conn.prepareStatement(UPSERT_SQL)) {
+                for (int i = 0; i < ids.length; i++) {
+                    upsertStmt.setInt(1, ids[i]);
+                    upsertStmt.setBigDecimal(2, toScore(scores[i]));
+                    upsertStmt.setInt(3, ranks[i]);
+                    upsertStmt.addBatch();
+                    
+                    if ((i + 1) % BATCH_SIZE == 0) {
+                        upsertStmt.executeBatch();
+                    }
+                }
+                upsertStmt.executeBatch();
+                conn.commit();
+                return true;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            System.err.println("Error saat menyimpan perubahan ranking SAW: " + e.getMessage());
+            return false;
+        }
+    }
+    
+    /**
+     * Menghitung jumlah baris hasil SAW yang tersimpan
+     * @return Jumlah baris saw_results
+     */
+    public int count() {
+        String sql = "SELECT COUNT(*) FROM saw_results";
+        
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
+            
+            if (rs.next()) {
+                return rs.getInt(1);
+            }
+        } catch (SQLException e) {
+            System.err.println("Error saat menghitung hasil SAW: " + e.getMessage());
+        }
+        
+        return 0;
+    }
+    
+    /**
+     * Statistik hasil SAW dari agregasi saw_results. Alternatif terbaik dan
+     * terburuk dibaca lewat index ranking, bukan dari seluruh hasil.
+     * @return Map totalAlternatives, maxScore, minScore, avgScore,
+     *         bestAlternative dan worstAlternative; kosong jika belum ada hasil
+     */
+    public Map<String, Object> getStatistics() {
+        String aggregateSql = "SELECT COUNT(*) AS total, MAX(total_score) AS max_score, " +
+                              "MIN(total_score) AS min_score, AVG(total_score) AS avg_score FROM saw_results";
+        String nameSql = "SELECT a.name FROM saw_results sr JOIN alternatives a ON a.id = sr.alternative_id " +
+                         "ORDER BY sr.ranking %s LIMIT 1";
+        Map<String, Object> stats = new HashMap<>();
+        
+        try (Connection conn = DatabaseConfig.getConnection()) {
+            try (PreparedStatement stmt = conn.prepareStatement(aggregateSql);
+                 ResultSet rs = stmt.executeQuery()) {
+                
+                if (!rs.next() || rs.getInt("total") == 0) {
+                    return stats;
+                }
+                stats.put("totalAlternatives", rs.getInt("total"));
+                stats.put("maxScore", rs.getDouble("max_score"));
+                stats.put("minScore", rs.getDouble("min_score"));
+                stats.put("avgScore", rs.getDouble("avg_score"));
+            }
+            
+            stats.put("bestAlternative", findName(conn, String.format(nameSql, "ASC")));
+            stats.put("worstAlternative", findName(conn, String.format(nameSql, "DESC")));
+        } catch (SQLException e) {
+            System.err.println("Error saat mengambil statistik SAW: " + e.getMessage());
+            stats.clear();
+        }
+        
+        return stats;
+    }
+    
+    private static String findName(Connection conn, String sql) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
+            return rs.next() ? rs.getString(1) : null;
+        }
+    }
+    
+    private static BigDecimal toScore(double score) {
+        return BigDecimal.valueOf(score).setScale(4, RoundingMode.HALF_UP);
+    }
+    
+    /**
+     * Urutan baris hasil berdasarkan ID alternatif (ID dan indeks dikemas
+     * dalam satu long agar bisa diurutkan tanpa boxing)
+     */
+    private static int[] sortedById(int[] ids) {
+        long[] keys = new long[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            keys[i] = ((long) ids[i] << 32) | i;
+        }
+        Arrays.sort(keys);
+        
+        int[] order = new int[ids.length];
+        for (int i = 0; i < keys.length; i++) {
+            order[i] = (int) keys[i];
+        }
+        return order;
+    }
+    
+    /**
+     * JDBC batch yang dikirim setiap BATCH_SIZE baris
+     */
+    private static final class Batch {
+        private final PreparedStatement stmt;
+        private int pending;
+        private int total;
+        
+        Batch(PreparedStatement stmt) {
+            this.stmt = stmt;
+        }
+        
+        void add() throws SQLException {
+            stmt.addBatch();
+            total++;
+            if (++pending == BATCH_SIZE) {
+                stmt.executeBatch();
+                pending = 0;
+            }
+        }
+        
+        int flush() throws SQLException {
+            if (pending > 0) {
+                stmt.executeBatch();
+                pending = 0;
+            }
+            return total;
+        }
+    }
+}
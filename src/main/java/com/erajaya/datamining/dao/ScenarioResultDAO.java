@@ -0,0 +1,195 @@
+package com.erajaya.datamining.dao;
+
+import com.erajaya.datamining.config.DatabaseConfig;
+import com.erajaya.datamining.model.Alternative;
+import com.erajaya.datamining.model.WeightScenario;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Data Access Object untuk tabel saw_scenarios dan saw_scenario_results.
+ * Setiap skenario bobot disimpan berdasarkan nama; hasil ranking semua
+ * skenario ditulis dalam satu transaksi dengan JDBC batch.
+ */
+public class ScenarioResultDAO {
+    
+    private static final int BATCH_SIZE = 1000;
+    
+    /**
+     * Menyimpan skenario dan ranking-nya, menggantikan hasil lama dengan nama yang sama.
+     * ID skenario diisi ke setiap WeightScenario setelah berhasil.
+     * @param scenarios Skenario bobot
+     * @param ids ID alternatif per baris
+     * @param scores Skor [skenario][baris]
+     * @param ranks Ranking [skenario][baris]
+     * @return true jika berhasil
+     */
+    public boolean saveAll(List<WeightScenario> scenarios, int[] ids, double[][] scores, int[][] ranks) {
+        String upsertScenarioSql = "INSERT INTO saw_scenarios (name, weights) VALUES (?, ?) AS new " +
+                                   "ON DUPLICATE KEY UPDATE weights = new.weights, calculation_date = CURRENT_TIMESTAMP";
+        String selectIdSql = "SELECT id FROM saw_scenarios WHERE name = ?";
+        String deleteSql = "DELETE FROM saw_scenario_results WHERE scenario_id = ?";
+        String insertSql = "INSERT INTO saw_scenario_results (scenario_id, alternative_id, total_score, ranking) VALUES (?, ?, ?, ?)";
+        
+        try (Connection conn = DatabaseConfig.getConnection()) {
+            conn.setAutoCommit(false);
+            
+            try (PreparedStatement upsertStmt = conn.prepareStatement(upsertScenarioSql);
+                 PreparedStatement selectStmt = conn.prepareStatement(selectIdSql);
+                 PreparedStatement deleteStmt = conn.prepareStatement(deleteSql);
+                 PreparedStatement insertStmt = conn.prepareStatement(insertSql)) {
+                
+                int[] scenarioIds = new int[scenarios.size()];
+                for (int s = 0; s < scenarios.size(); s++) {
+                    WeightScenario scenario = scenarios.get(s);
+                    upsertStmt.setString(1, scenario.getName());
+                    upsertStmt.setString(2, formatWeights(scenario.getWeights()));
+                    upsertStmt.executeUpdate();
+                    
+                    // LAST_INSERT_ID tidak berlaku untuk baris yang di-update, baca ulang berdasarkan nama
+                    selectStmt.setString(1, scenario.getName());
+                    try (ResultSet rs = selectStmt.executeQuery()) {
+                        if (!rs.next()) {
+                            throw new SQLException("Skenario " + scenario.getName() + " tidak ditemukan setelah disimpan");
+                        }
+                        scenarioIds[s] = rs.getInt(1);
+                    }
+                    
+                    deleteStmt.setInt(1, scenarioIds[s]);
+                    deleteStmt.executeUpdate();
+                    
+                    int pending = 0;
+                    for (int i = 0; i < ids.length; i++) {
+                        insertStmt.setInt(1, scenarioIds[s]);
+                        insertStmt.setInt(2, ids[i]);
+                        insertStmt.setBigDecimal(3, toScore(scores[s][i]));
+                        insertStmt.setInt(4, ranks[s][i]);
+                        insertStmt.addBatch();
+                        
+                        if (++pending == BATCH_SIZE) {
+                            insertStmt.executeBatch();
+                            pending = 0;
+                        }
+                    }
+                    if (pending > 0) {
+                        insertStmt.executeBatch();
+                    }
+                }
+                
+                conn.commit();
+                for (int s = 0; s < scenarios.size(); s++) {
+                    scenarios.get(s).setId(scenarioIds[s]);
+                }
+                return true;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            System.err.println("Error saat menyimpan hasil skenario: " + e.getMessage());
+            return false;
+        }
+    }
+    
+    /**
+     * Mendapatkan semua skenario yang pernah disimpan
+     * @return List skenario urut nama
+     */
+    public List<WeightScenario> findAllScenarios() {
+        List<WeightScenario> scenarios = new ArrayList<>();
+        String sql = "SELECT * FROM saw_scenarios ORDER BY name";
+        
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
+            
+            while (rs.next()) {
+                WeightScenario scenario = new WeightScenario(rs.getString("name"), parseWeights(rs.getString("weights")));
+                scenario.setId(rs.getInt("id"));
+                
+                Timestamp calculationDate = rs.getTimestamp("calculation_date");
+                if (calculationDate != null) {
+                    scenario.setCalculationDate(calculationDate.toLocalDateTime());
+                }
+                scenarios.add(scenario);
+            }
+        } catch (SQLException e) {
+            System.err.println("Error saat mengambil skenario: " + e.getMessage());
+        }
+        
+        return scenarios;
+    }
+    
+    /**
+     * Mendapatkan ranking teratas satu skenario. Hanya identitas alternatif
+     * yang dibaca karena kriteria skenario diatur dari tabel criteria dan
+     * belum tentu memakai kolom harga/kualitas/suku cadang.
+     * @param scenarioId ID skenario
+     * @param limit Jumlah baris
+     * @return List alternatif (id, code, name) dengan total skor dan ranking skenario
+     */
+    public List<Alternative> findTopRanked(int scenarioId, int limit) {
+        List<Alternative> alternatives = new ArrayList<>();
+        String sql = "SELECT a.id, a.code, a.name, r.total_score, r.ranking " +
+                    "FROM saw_scenario_results r " +
+                    "JOIN alternatives a ON a.id = r.alternative_id " +
+                    "WHERE r.scenario_id = ? " +
+                    "ORDER BY r.ranking LIMIT ?";
+        
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            
+            stmt.setInt(1, scenarioId);
+            stmt.setInt(2, limit);
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    Alternative alt = new Alternative();
+                    alt.setId(rs.getInt("id"));
+                    alt.setCode(rs.getString("code"));
+                    alt.setName(rs.getString("name"));
+                    alt.setTotalScore(rs.getBigDecimal("total_score"));
+                    alt.setRanking(rs.getInt("ranking"));
+                    alternatives.add(alt);
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error saat mengambil ranking skenario: " + e.getMessage());
+        }
+        
+        return alternatives;
+    }
+    
+    private static String formatWeights(double[] weights) {
+        StringBuilder text = new StringBuilder();
+        for (int j = 0; j < weights.length; j++) {
+            if (j > 0) {
+                text.append(',');
+            }
+            text.append(BigDecimal.valueOf(weights[j]).setScale(4, RoundingMode.HALF_UP).toPlainString());
+        }
+        return text.toString();
+    }
+    
+    private static double[] parseWeights(String text) {
+        if (text == null || text.isEmpty()) {
+            return new double[0];
+        }
+        String[] parts = text.split(",");
+        double[] weights = new double[parts.length];
+        for (int j = 0; j < parts.length; j++) {
+            weights[j] = Double.parseDouble(parts[j].trim());
+        }
+        return weights;
+    }
+    
+    private static BigDecimal toScore(double score) {
+        return BigDecimal.valueOf(score).setScale(4, RoundingMode.HALF_UP);
+    }
+}
\ No newline at end of file
@@ -39,6 +39,23 @@ public class Alternative {
         this.description = description;
     }
     
+    /**
+     * Salinan dari alternatif lain (termasuk ID dan hasil SAW)
+     */
+    public Alternative(Alternative other) {
+        this.id = other.id;
+        this.code = other.code;
+        this.name = other.name;
+        this.price = other.price;
+        this.qualityScore = other.qualityScore;
+        this.sparePartsScore = other.sparePartsScore;
+        this.description = other.description;
+        this.createdAt = other.createdAt;
+        this.updatedAt = other.updatedAt;
+        this.totalScore = other.totalScore;
+        this.ranking = other.ranking;
+    }
+    
     // Getters and Setters
     public int getId() {
         return id;
@@ -0,0 +1,213 @@
+package com.erajaya.datamining.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.AbstractList;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Model untuk matriks keputusan SAW dalam format kolom.
+ * Baris ke-i pada setiap kolom milik alternatif dengan ids[i], codes[i]
+ * dan names[i]. Objek Alternative tidak disimpan; getAlternative(i)
+ * membuatnya dari array saat dibutuhkan untuk tampilan.
+ *
+ * Alternatif dengan nilai kriteria yang belum lengkap tidak masuk matriks
+ * (sama seperti engine SQL) dan hanya dicatat di getIncompleteRows()
+ * untuk pesan validasi.
+ */
+public class DecisionMatrix {
+    private final List<Criteria> criteria;
+    private final int[] ids;
+    private final String[] codes;
+    private final String[] names;
+    private final double[][] columns;   // [kriteria][alternatif], selalu terisi
+    private final String[] builtInColumns; // Kolom tabel alternatives per kriteria, null jika dari evaluations
+    private final List<IncompleteRow> incompleteRows;
+    
+    public DecisionMatrix(List<Criteria> criteria, int[] ids, String[] codes, String[] names,
+                          double[][] columns, String[] builtInColumns) {
+        this(criteria, ids, codes, names, columns, builtInColumns, Collections.emptyList());
+    }
+    
+    public DecisionMatrix(List<Criteria> criteria, int[] ids, String[] codes, String[] names,
+                          double[][] columns, String[] builtInColumns, List<IncompleteRow> incompleteRows) {
+        this.criteria = criteria;
+        this.ids = ids;
+        this.codes = codes;
+        this.names = names;
+        this.columns = columns;
+        this.builtInColumns = builtInColumns;
+        this.incompleteRows = Collections.unmodifiableList(incompleteRows);
+    }
+    
+    /**
+     * Memeriksa apakah semua nilai kriteria satu baris sudah terisi
+     * @param values Nilai per kriteria (NaN jika belum diisi)
+     * @return true jika tidak ada nilai NaN
+     */
+    public static boolean isComplete(double[] values) {
+        for (double value : values) {
+            if (Double.isNaN(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Membuat objek Alternative untuk satu baris. Harga, kualitas dan suku
+     * cadang diisi dari kolom kriteria bawaan jika kriteria tersebut dipakai.
+     * @param row Indeks baris
+     * @return Alternative baru (tidak dipakai bersama)
+     */
+    public Alternative getAlternative(int row) {
+        Alternative alt = new Alternative();
+        alt.setId(ids[row]);
+        alt.setCode(codes[row]);
+        alt.setName(names[row]);
+        
+        for (int j = 0; j < builtInColumns.length; j++) {
+            setBuiltInValue(alt, builtInColumns[j], columns[j][row]);
+        }
+        return alt;
+    }
+    
+    /**
+     * Membuat Alternative ringan (tanpa deskripsi dan timestamp) dari satu
+     * baris nilai kriteria, misalnya baris streaming
+     * @param builtInColumns Kolom tabel alternatives per kriteria
+     * @param values Nilai per kriteria sesuai urutan builtInColumns
+     * @return Alternative baru
+     */
+    public static Alternative toAlternative(int id, String code, String name, String[] builtInColumns, double[] values) {
+        Alternative alternative = new Alternative();
+        alternative.setId(id);
+        alternative.setCode(code);
+        alternative.setName(name);
+        for (int j = 0; j < values.length; j++) {
+            setBuiltInValue(alternative, builtInColumns[j], values[j]);
+        }
+        return alternative;
+    }
+    
+    /**
+     * Mengisi field Alternative dari nilai kolom kriteria bawaan
+     * @param alt Alternatif tujuan
+     * @param column Kolom tabel alternatives, null jika bukan kriteria bawaan
+     * @param value Nilai kriteria, NaN diabaikan
+     */
+    public static void setBuiltInValue(Alternative alt, String column, double value) {
+        if (column == null || Double.isNaN(value)) {
+            return;
+        }
+        switch (column) {
+            case "price":
+                alt.setPrice(BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP));
+                break;
+            case "quality_score":
+                alt.setQualityScore((int) value);
+                break;
+            case "spare_parts_score":
+                alt.setSparePartsScore((int) value);
+                break;
+            default:
+                break;
+        }
+    }
+    
+    /**
+     * List alternatif read-only; setiap get() membuat Alternative dari array
+     */
+    public List<Alternative> getAlternatives() {
+        return new AlternativeView();
+    }
+    
+    private final class AlternativeView extends AbstractList<Alternative> implements RandomAccess {
+        @Override
+        public Alternative get(int index) {
+            return getAlternative(index);
+        }
+        
+        @Override
+        public int size() {
+            return ids.length;
+        }
+    }
+    
+    // Getters
+    public List<Criteria> getCriteria() {
+        return criteria;
+    }
+    
+    public int[] getIds() {
+        return ids;
+    }
+    
+    public String getCode(int row) {
+        return codes[row];
+    }
+    
+    public String getName(int row) {
+        return names[row];
+    }
+    
+    public String getBuiltInColumn(int criteriaIndex) {
+        return builtInColumns[criteriaIndex];
+    }
+    
+    public double[][] getColumns() {
+        return columns;
+    }
+    
+    public double getValue(int row, int criteriaIndex) {
+        return columns[criteriaIndex][row];
+    }
+    
+    public int size() {
+        return ids.length;
+    }
+    
+    public int getCriteriaCount() {
+        return columns.length;
+    }
+    
+    public boolean isEmpty() {
+        return ids.length == 0;
+    }
+    
+    /**
+     * Alternatif yang dilewati karena ada nilai kriteria yang belum diisi
+     */
+    public List<IncompleteRow> getIncompleteRows() {
+        return incompleteRows;
+    }
+    
+    /**
+     * Baris alternatif yang tidak ikut dihitung
+     */
+    public static final class IncompleteRow {
+        private final int id;
+        private final String code;
+        private final double[] values;
+        
+        public IncompleteRow(int id, String code, double[] values) {
+            this.id = id;
+            this.code = code;
+            this.values = values.clone();
+        }
+        
+        public int getId() {
+            return id;
+        }
+        
+        public String getCode() {
+            return code;
+        }
+        
+        public double getValue(int criteriaIndex) {
+            return values[criteriaIndex];
+        }
+    }
+}
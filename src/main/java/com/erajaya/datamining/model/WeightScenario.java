@@ -0,0 +1,67 @@
+package com.erajaya.datamining.model;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+/**
+ * Model untuk skenario bobot bernama (misalnya budget, premium, service)
+ */
+public class WeightScenario {
+    private int id;
+    private String name;
+    private double[] weights;
+    private LocalDateTime calculationDate;
+    
+    // Constructors
+    public WeightScenario() {}
+    
+    public WeightScenario(String name, double[] weights) {
+        this.name = name;
+        this.weights = weights;
+    }
+    
+    // Getters and Setters
+    public int getId() {
+        return id;
+    }
+    
+    public void setId(int id) {
+        this.id = id;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public void setName(String name) {
+        this.name = name;
+    }
+    
+    /**
+     * Bobot per kriteria sesuai urutan kriteria
+     */
+    public double[] getWeights() {
+        return weights;
+    }
+    
+    public void setWeights(double[] weights) {
+        this.weights = weights;
+    }
+    
+    public LocalDateTime getCalculationDate() {
+        return calculationDate;
+    }
+    
+    public void setCalculationDate(LocalDateTime calculationDate) {
+        this.calculationDate = calculationDate;
+    }
+    
+    @Override
+    public String toString() {
+        return "WeightScenario{" +
+                "id=" + id +
+                ", name='" + name + '\'' +
+                ", weights=" + Arrays.toString(weights) +
+                '}';
+    }
+}
\ No newline at end of file
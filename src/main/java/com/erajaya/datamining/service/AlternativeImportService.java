@@ -0,0 +1,273 @@
+package com.erajaya.datamining.service;
+
+import com.erajaya.datamining.dao.AlternativeDAO;
+import com.erajaya.datamining.model.Alternative;
+import com.erajaya.datamining.util.CsvReader;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Import alternatif dari file CSV secara streaming.
+ * Setiap baris divalidasi dengan aturan yang sama dengan validasi SAW
+ * (AlternativeValidator) dan dicek duplikat kodenya, lalu baris yang valid
+ * disimpan per chunk dalam satu transaksi batch. Jika satu chunk gagal
+ * (misalnya kode yang baru dimasukkan proses lain), chunk tersebut diulang
+ * per baris agar hanya baris bermasalah yang ditolak.
+ *
+ * Format: baris header berisi code,name,price,quality_score,spare_parts_score
+ * dan opsional description; urutan kolom bebas.
+ */
+public class AlternativeImportService {
+    
+    public static final int DEFAULT_CHUNK_SIZE = 5000;
+    private static final int MAX_REPORTED_REJECTS = 1000;
+    private static final String[] REQUIRED_COLUMNS = {"code", "name", "price", "quality_score", "spare_parts_score"};
+    
+    /**
+     * Menerima laporan progres import
+     */
+    public interface ProgressListener {
+        void onProgress(long rowsRead, long imported, long rejected);
+    }
+    
+    private final AlternativeDAO alternativeDAO;
+    private final int chunkSize;
+    
+    public AlternativeImportService() {
+        this(new AlternativeDAO(), DEFAULT_CHUNK_SIZE);
+    }
+    
+    public AlternativeImportService(AlternativeDAO alternativeDAO, int chunkSize) {
+        this.alternativeDAO = alternativeDAO;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+    
+    /**
+     * Import alternatif dari file CSV (UTF-8)
+     * @param file File CSV
+     * @param listener Penerima progres, boleh null
+     * @return Ringkasan import
+     * @throws IOException Jika file tidak bisa dibaca atau header tidak lengkap
+     */
+    public ImportResult importCsv(Path file, ProgressListener listener) throws IOException {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return importCsv(reader, listener);
+        }
+    }
+    
+    /**
+     * Import alternatif dari reader CSV
+     */
+    public ImportResult importCsv(Reader reader, ProgressListener listener) throws IOException {
+        long startTime = System.nanoTime();
+        ImportResult result = new ImportResult();
+        
+        try (CsvReader csv = new CsvReader(reader)) {
+            List<String> header = csv.readRecord();
+            if (header == null) {
+                throw new IOException("File CSV kosong");
+            }
+            Map<String, Integer> columns = mapColumns(header);
+            
+            Set<String> seenCodes = new HashSet<>();
+            List<Alternative> chunk = new ArrayList<>(chunkSize);
+            List<Long> chunkLines = new ArrayList<>(chunkSize);
+            
+            List<String> record;
+            while ((record = csv.readRecord()) != null) {
+                long line = csv.getRecordLine();
+                if (record.size() == 1 && record.get(0).trim().isEmpty()) {
+                    continue; // baris kosong
+                }
+                result.rowsRead++;
+                
+                Alternative alt = new Alternative();
+                String error = parseRow(record, columns, alt);
+                if (error == null) {
+                    List<String> errors = AlternativeValidator.validateForSave(alt);
+                    error = errors.isEmpty() ? null : String.join("; ", errors);
+                }
+                if (error == null && !seenCodes.add(alt.getCode())) {
+                    error = "Kode " + alt.getCode() + " muncul lebih dari sekali di file";
+                }
+                if (error == null && alternativeDAO.isCodeExists(alt.getCode())) {
+                    error = "Kode " + alt.getCode() + " sudah ada di database";
+                }
+                
+                if (error != null) {
+                    result.reject(line, alt.getCode(), error);
+                } else {
+                    chunk.add(alt);
+                    chunkLines.add(line);
+                    if (chunk.size() == chunkSize) {
+                        flush(chunk, chunkLines, result);
+                    }
+                }
+                
+                if (listener != null && result.rowsRead % chunkSize == 0) {
+                    listener.onProgress(result.rowsRead, result.imported, result.rejected);
+                }
+            }
+            
+            flush(chunk, chunkLines, result);
+        }
+        
+        result.elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+        if (listener != null) {
+            listener.onProgress(result.rowsRead, result.imported, result.rejected);
+        }
+        return result;
+    }
+    
+    private void flush(List<Alternative> chunk, List<Long> chunkLines, ImportResult result) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        
+        int saved = alternativeDAO.saveBatch(chunk);
+        if (saved >= 0) {
+            result.imported += saved;
+        } else {
+            // Ulangi per baris agar hanya baris yang bermasalah yang ditolak
+            for (int i = 0; i < chunk.size(); i++) {
+                Alternative alt = chunk.get(i);
+                if (alternativeDAO.save(alt)) {
+                    result.imported++;
+                } else {
+                    result.reject(chunkLines.get(i), alt.getCode(), "Gagal disimpan ke database");
+                }
+            }
+        }
+        
+        chunk.clear();
+        chunkLines.clear();
+    }
+    
+    private static Map<String, Integer> mapColumns(List<String> header) throws IOException {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        
+        for (String column : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(column)) {
+                throw new IOException("Kolom '" + column + "' tidak ada di header CSV");
+            }
+        }
+        return columns;
+    }
+    
+    /**
+     * Mengisi alternatif dari satu record
+     * @return Pesan error jika format salah, null jika berhasil
+     */
+    private static String parseRow(List<String> record, Map<String, Integer> columns, Alternative alt) {
+        String code = field(record, columns, "code");
+        alt.setCode(code);
+        alt.setName(field(record, columns, "name"));
+        
+        String description = field(record, columns, "description");
+        alt.setDescription(description == null || description.isEmpty() ? null : description);
+        
+        String price = field(record, columns, "price");
+        try {
+            alt.setPrice(price == null || price.isEmpty() ? null : new BigDecimal(price));
+        } catch (NumberFormatException e) {
+            return "Format harga alternatif " + code + " tidak valid: " + price;
+        }
+        
+        try {
+            alt.setQualityScore(Integer.parseInt(field(record, columns, "quality_score")));
+            alt.setSparePartsScore(Integer.parseInt(field(record, columns, "spare_parts_score")));
+        } catch (NumberFormatException e) {
+            return "Skor alternatif " + code + " harus berupa bilangan bulat";
+        }
+        
+        return null;
+    }
+    
+    private static String field(List<String> record, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        return record.get(index).trim();
+    }
+    
+    /**
+     * Baris yang ditolak beserta alasannya
+     */
+    public static final class RejectedRow {
+        private final long line;
+        private final String code;
+        private final String reason;
+        
+        RejectedRow(long line, String code, String reason) {
+            this.line = line;
+            this.code = code;
+            this.reason = reason;
+        }
+        
+        // Getters
+        public long getLine() { return line; }
+        public String getCode() { return code; }
+        public String getReason() { return reason; }
+        
+        @Override
+        public String toString() {
+            return "Baris " + line + " (" + code + "): " + reason;
+        }
+    }
+    
+    /**
+     * Ringkasan hasil import. Hanya MAX_REPORTED_REJECTS baris tolak pertama
+     * yang disimpan rinciannya; jumlah totalnya tetap dihitung.
+     */
+    public static final class ImportResult {
+        private long rowsRead;
+        private long imported;
+        private long rejected;
+        private long elapsedMillis;
+        private final List<RejectedRow> rejectedRows = new ArrayList<>();
+        
+        void reject(long line, String code, String reason) {
+            rejected++;
+            if (rejectedRows.size() < MAX_REPORTED_REJECTS) {
+                rejectedRows.add(new RejectedRow(line, code, reason));
+            }
+        }
+        
+        // Getters
+        public long getRowsRead() { return rowsRead; }
+        public long getImported() { return imported; }
+        public long getRejected() { return rejected; }
+        public long getElapsedMillis() { return elapsedMillis; }
+        
+        public List<RejectedRow> getRejectedRows() {
+            return Collections.unmodifiableList(rejectedRows);
+        }
+        
+        public double getRowsPerMinute() {
+            return elapsedMillis == 0 ? 0.0 : rowsRead * 60000.0 / elapsedMillis;
+        }
+        
+        @Override
+        public String toString() {
+            return String.format("%d baris dibaca, %d diimport, %d ditolak dalam %.1f detik (%.0f baris/menit)",
+                rowsRead, imported, rejected, elapsedMillis / 1000.0, getRowsPerMinute());
+        }
+    }
+}
\ No newline at end of file
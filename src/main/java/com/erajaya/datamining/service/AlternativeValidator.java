@@ -0,0 +1,91 @@
+package com.erajaya.datamining.service;
+
+import com.erajaya.datamining.model.Alternative;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Aturan validasi data satu alternatif. Dipakai bersama oleh validasi
+ * sebelum perhitungan SAW dan oleh import CSV, sehingga baris yang lolos
+ * import juga lolos validasi SAW.
+ */
+public final class AlternativeValidator {
+    
+    // Panjang kolom sesuai tabel alternatives
+    public static final int MAX_CODE_LENGTH = 10;
+    public static final int MAX_NAME_LENGTH = 100;
+    
+    private AlternativeValidator() {
+    }
+    
+    /**
+     * Validasi nilai yang dipakai perhitungan SAW (harga dan skor)
+     * @param alt Alternatif yang dicek
+     * @param errors List untuk menampung pesan error
+     */
+    public static void validateScores(Alternative alt, List<String> errors) {
+        if (alt.getPrice() == null) {
+            errors.add("Harga alternatif " + alt.getCode() + " tidak valid");
+        } else {
+            validateBuiltInValue("price", alt.getCode(), alt.getPrice().doubleValue(), errors);
+        }
+        validateBuiltInValue("quality_score", alt.getCode(), alt.getQualityScore(), errors);
+        validateBuiltInValue("spare_parts_score", alt.getCode(), alt.getSparePartsScore(), errors);
+    }
+    
+    /**
+     * Validasi satu nilai kriteria bawaan (kolom tabel alternatives)
+     * @param column Kolom tabel alternatives (price, quality_score, spare_parts_score)
+     * @param code Kode alternatif untuk pesan error
+     * @param value Nilai yang dicek
+     * @param errors List untuk menampung pesan error
+     */
+    public static void validateBuiltInValue(String column, String code, double value, List<String> errors) {
+        switch (column) {
+            case "price":
+                if (!(value > 0)) {
+                    errors.add("Harga alternatif " + code + " tidak valid");
+                }
+                break;
+            case "quality_score":
+                if (!(value >= 1 && value <= 100)) {
+                    errors.add("Skor kualitas alternatif " + code + " harus antara 1-100");
+                }
+                break;
+            case "spare_parts_score":
+                if (!(value >= 1 && value <= 100)) {
+                    errors.add("Skor suku cadang alternatif " + code + " harus antara 1-100");
+                }
+                break;
+            default:
+                break;
+        }
+    }
+    
+    /**
+     * Validasi lengkap sebelum alternatif disimpan: kode, nama dan nilai SAW
+     * @param alt Alternatif yang dicek
+     * @return List pesan error, kosong jika valid
+     */
+    public static List<String> validateForSave(Alternative alt) {
+        List<String> errors = new ArrayList<>();
+        
+        String code = alt.getCode();
+        if (code == null || code.trim().isEmpty()) {
+            errors.add("Kode alternatif harus diisi");
+        } else if (code.length() > MAX_CODE_LENGTH) {
+            errors.add("Kode alternatif " + code + " lebih dari " + MAX_CODE_LENGTH + " karakter");
+        }
+        
+        String name = alt.getName();
+        if (name == null || name.trim().isEmpty()) {
+            errors.add("Nama produk alternatif " + code + " harus diisi");
+        } else if (name.length() > MAX_NAME_LENGTH) {
+            errors.add("Nama produk alternatif " + code + " lebih dari " + MAX_NAME_LENGTH + " karakter");
+        }
+        
+        validateScores(alt, errors);
+        return errors;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,71 @@
+package com.erajaya.datamining.service;
+
+/**
+ * Statistik per kolom matriks keputusan (min, max, jumlah kuadrat) yang
+ * dihitung dalam satu kali baca dan dipakai bersama oleh semua metode MCDM:
+ * SAW memakai min/max, TOPSIS memakai jumlah kuadrat dan min/max.
+ */
+public final class ColumnStatistics {
+    
+    private final double[] min;
+    private final double[] max;
+    private final double[] sumSquares;
+    
+    private ColumnStatistics(double[] min, double[] max, double[] sumSquares) {
+        this.min = min;
+        this.max = max;
+        this.sumSquares = sumSquares;
+    }
+    
+    /**
+     * Menghitung statistik semua kolom
+     * @param columns Matriks keputusan [kriteria][alternatif]
+     */
+    public static ColumnStatistics of(double[][] columns) {
+        int k = columns.length;
+        double[] min = new double[k];
+        double[] max = new double[k];
+        double[] sumSquares = new double[k];
+        
+        for (int j = 0; j < k; j++) {
+            double[] column = columns[j];
+            double lo = Double.POSITIVE_INFINITY;
+            double hi = Double.NEGATIVE_INFINITY;
+            double squares = 0.0;
+            for (double value : column) {
+                if (value < lo) {
+                    lo = value;
+                }
+                if (value > hi) {
+                    hi = value;
+                }
+                squares += value * value;
+            }
+            min[j] = lo;
+            max[j] = hi;
+            sumSquares[j] = squares;
+        }
+        
+        return new ColumnStatistics(min, max, sumSquares);
+    }
+    
+    // Getters
+    public double getMin(int criteria) {
+        return min[criteria];
+    }
+    
+    public double getMax(int criteria) {
+        return max[criteria];
+    }
+    
+    public double getSumSquares(int criteria) {
+        return sumSquares[criteria];
+    }
+    
+    /**
+     * Panjang vektor kolom, pembagi normalisasi TOPSIS
+     */
+    public double getNorm(int criteria) {
+        return Math.sqrt(sumSquares[criteria]);
+    }
+}
\ No newline at end of file
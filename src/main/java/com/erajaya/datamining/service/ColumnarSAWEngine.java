@@ -0,0 +1,520 @@
+package com.erajaya.datamining.service;
+
+import com.erajaya.datamining.model.Alternative;
+import com.erajaya.datamining.model.DecisionMatrix;
+import com.erajaya.datamining.model.SAWResult;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Engine perhitungan SAW berbasis kolom (columnar).
+ * Setiap kriteria disimpan sebagai satu array double yang bersebelahan,
+ * sehingga normalisasi dan pembobotan berjalan sebagai loop per kolom
+ * tanpa membuat objek per alternatif. Objek SAWResult hanya dibuat
+ * untuk baris yang benar-benar ditampilkan atau disimpan.
+ *
+ * Untuk katalog besar, engine dapat berjalan paralel di ForkJoinPool:
+ * reduksi min/max per kolom, pembobotan per potongan baris, dan merge sort
+ * paralel untuk ranking. Di bawah threshold engine tetap berjalan sekuensial.
+ */
+public class ColumnarSAWEngine {
+    
+    // Jumlah baris minimum agar mode paralel dipakai
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 100_000;
+    
+    // Ukuran potongan baris per task fork-join
+    private static final int CHUNK_SIZE = 16_384;
+    
+    // Jumlah baris per blok perkalian multi-skenario, muat di cache L1/L2
+    private static final int SCENARIO_BLOCK = 2048;
+    
+    // Pool per jumlah thread, dipakai bersama oleh semua engine
+    private static final Map<Integer, ForkJoinPool> POOLS = new ConcurrentHashMap<>();
+    
+    private final int size;
+    private final int[] ids;
+    private final double[][] columns;      // [kriteria][alternatif]
+    private final double[][] normalized;   // [kriteria][alternatif]
+    private final double[] scores;
+    private int[] order;                   // index baris terurut berdasarkan skor (descending)
+    private int[] ranks;                   // ranking per baris (1 = terbaik)
+    
+    private int parallelism = 1;           // 1 = sekuensial
+    private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+    
+    /**
+     * @param ids ID alternatif per baris
+     * @param columns Nilai kriteria dalam format kolom [kriteria][alternatif]
+     */
+    public ColumnarSAWEngine(int[] ids, double[][] columns) {
+        this.size = ids.length;
+        this.ids = ids;
+        this.columns = columns;
+        this.normalized = new double[columns.length][size];
+        this.scores = new double[size];
+    }
+    
+    /**
+     * Membuat engine dari matriks keputusan hasil DecisionMatrixDAO
+     * @param matrix Matriks keputusan
+     * @return Engine yang siap dihitung
+     */
+    public static ColumnarSAWEngine fromMatrix(DecisionMatrix matrix) {
+        return new ColumnarSAWEngine(matrix.getIds(), matrix.getColumns());
+    }
+    
+    /**
+     * Mengatur mode paralel
+     * @param threads Jumlah thread (1 = sekuensial)
+     * @param threshold Jumlah baris minimum untuk berjalan paralel
+     * @return Engine ini
+     */
+    public ColumnarSAWEngine withParallelism(int threads, int threshold) {
+        this.parallelism = Math.max(1, threads);
+        this.parallelThreshold = Math.max(1, threshold);
+        return this;
+    }
+    
+    private boolean isParallel() {
+        return parallelism > 1 && size >= parallelThreshold;
+    }
+    
+    private ForkJoinPool pool() {
+        return sharedPool(parallelism);
+    }
+    
+    /**
+     * Pool fork-join bersama untuk jumlah thread tertentu
+     */
+    static ForkJoinPool sharedPool(int threads) {
+        return POOLS.computeIfAbsent(threads, ForkJoinPool::new);
+    }
+    
+    /**
+     * Menjalankan normalisasi, pembobotan dan ranking
+     * @param weights Bobot per kriteria
+     * @param isBenefit true untuk kriteria benefit, false untuk cost
+     */
+    public void compute(double[] weights, boolean[] isBenefit) {
+        normalize(isBenefit);
+        score(weights);
+        rank();
+    }
+    
+    /**
+     * Normalisasi setiap kolom: benefit = x / max, cost = min / x
+     */
+    public void normalize(boolean[] isBenefit) {
+        if (size == 0) {
+            return;
+        }
+        
+        // Nilai acuan per kolom: max untuk benefit, min untuk cost
+        double[] reference = new double[columns.length];
+        for (int j = 0; j < columns.length; j++) {
+            if (isParallel()) {
+                double[] minMax = pool().invoke(new MinMaxTask(columns[j], 0, size));
+                reference[j] = isBenefit[j] ? minMax[1] : minMax[0];
+            } else {
+                reference[j] = isBenefit[j] ? max(columns[j]) : min(columns[j]);
+            }
+        }
+        
+        runRange((from, to) -> normalizeRange(isBenefit, reference, from, to));
+    }
+    
+    private void normalizeRange(boolean[] isBenefit, double[] reference, int from, int to) {
+        for (int j = 0; j < columns.length; j++) {
+            double[] column = columns[j];
+            double[] target = normalized[j];
+            double ref = reference[j];
+            
+            if (isBenefit[j]) {
+                for (int i = from; i < to; i++) {
+                    target[i] = column[i] / ref;
+                }
+            } else {
+                for (int i = from; i < to; i++) {
+                    target[i] = ref / column[i];
+                }
+            }
+        }
+    }
+    
+    /**
+     * Menghitung nilai preferensi: Vi = sum(wj * rij), dijalankan per kolom
+     */
+    public void score(double[] weights) {
+        runRange((from, to) -> scoreRange(weights, from, to));
+    }
+    
+    private void scoreRange(double[] weights, int from, int to) {
+        Arrays.fill(scores, from, to, 0.0);
+        
+        for (int j = 0; j < normalized.length; j++) {
+            double weight = weights[j];
+            double[] column = normalized[j];
+            for (int i = from; i < to; i++) {
+                scores[i] += weight * column[i];
+            }
+        }
+    }
+    
+    /**
+     * Mengurutkan baris berdasarkan skor (descending) dan mengisi ranking.
+     * Skor yang sama diurutkan berdasarkan ID alternatif (kecil lebih dulu);
+     * aturan ini dipakai juga oleh IncrementalSAWRanker, SqlPushdownSAWEngine
+     * dan sink hasil SAW agar semua engine menghasilkan ranking yang sama.
+     */
+    public void rank() {
+        order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        
+        if (isParallel()) {
+            pool().invoke(new SortTask(order, new int[size], scores, ids, 0, size));
+        } else {
+            sortByScoreDesc(order, scores, ids);
+        }
+        
+        ranks = new int[size];
+        int[] sorted = order;
+        runRange((from, to) -> {
+            for (int r = from; r < to; r++) {
+                ranks[sorted[r]] = r + 1;
+            }
+        });
+    }
+    
+    /**
+     * Menghitung skor untuk banyak vektor bobot sekaligus: matriks normalisasi
+     * (n x k) dikali matriks bobot (k x S) per blok baris, sehingga setiap blok
+     * kolom normalisasi dibaca sekali untuk semua skenario.
+     * normalize() harus sudah dipanggil.
+     * @param weightSets Bobot per skenario [skenario][kriteria]
+     * @return Skor per skenario [skenario][alternatif]
+     */
+    public double[][] scoreScenarios(double[][] weightSets) {
+        int scenarios = weightSets.length;
+        double[][] result = new double[scenarios][size];
+        
+        runRange((from, to) -> {
+            for (int blockStart = from; blockStart < to; blockStart += SCENARIO_BLOCK) {
+                int blockEnd = Math.min(to, blockStart + SCENARIO_BLOCK);
+                for (int j = 0; j < normalized.length; j++) {
+                    double[] column = normalized[j];
+                    for (int s = 0; s < scenarios; s++) {
+                        double weight = weightSets[s][j];
+                        double[] out = result[s];
+                        for (int i = blockStart; i < blockEnd; i++) {
+                            out[i] += weight * column[i];
+                        }
+                    }
+                }
+            }
+        });
+        
+        return result;
+    }
+    
+    /**
+     * Mengurutkan baris berdasarkan kolom skor lain (misalnya hasil
+     * scoreScenarios) dengan aturan yang sama seperti rank()
+     * @param keys Skor per baris
+     * @return Index baris terurut dari skor tertinggi
+     */
+    public int[] rankOrder(double[] keys) {
+        int[] sorted = new int[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = i;
+        }
+        
+        if (isParallel()) {
+            pool().invoke(new SortTask(sorted, new int[size], keys, ids, 0, size));
+        } else {
+            sortByScoreDesc(sorted, keys, ids);
+        }
+        return sorted;
+    }
+    
+    /**
+     * Membuat SAWResult untuk satu baris
+     * @param row Index baris
+     * @param alternative Alternatif pada baris tersebut (boleh null)
+     * @param weights Bobot kriteria untuk nilai terbobot
+     * @return SAWResult lengkap dengan detail normalisasi
+     */
+    public SAWResult toResult(int row, Alternative alternative, double[] weights) {
+        SAWResult result = alternative != null
+            ? new SAWResult(alternative, scale(scores[row]), getRanking(row))
+            : new SAWResult(ids[row], scale(scores[row]), getRanking(row));
+        
+        BigDecimal[] normalizedValues = new BigDecimal[normalized.length];
+        BigDecimal[] weightedValues = new BigDecimal[normalized.length];
+        for (int j = 0; j < normalized.length; j++) {
+            normalizedValues[j] = scale(normalized[j][row]);
+            weightedValues[j] = scale(weights[j] * normalized[j][row]);
+        }
+        
+        result.setNormalizedValues(normalizedValues);
+        result.setWeightedValues(weightedValues);
+        return result;
+    }
+    
+    /**
+     * Mengubah kolom menjadi matriks baris [alternatif][kriteria] untuk tampilan
+     */
+    public double[][] toRowMatrix(double[][] source) {
+        double[][] matrix = new double[size][source.length];
+        for (int j = 0; j < source.length; j++) {
+            for (int i = 0; i < size; i++) {
+                matrix[i][j] = source[j][i];
+            }
+        }
+        return matrix;
+    }
+    
+    // Getters
+    public int size() {
+        return size;
+    }
+    
+    public int getCriteriaCount() {
+        return columns.length;
+    }
+    
+    public int getId(int row) {
+        return ids[row];
+    }
+    
+    public double getScore(int row) {
+        return scores[row];
+    }
+    
+    public int getRanking(int row) {
+        return ranks != null ? ranks[row] : 0;
+    }
+    
+    /**
+     * @param position Posisi ranking berbasis 0
+     * @return Index baris pada posisi tersebut
+     */
+    public int getRowAtRank(int position) {
+        return order[position];
+    }
+    
+    public double[][] getColumns() {
+        return columns;
+    }
+    
+    public double[][] getNormalizedColumns() {
+        return normalized;
+    }
+    
+    public double[] getScores() {
+        return scores;
+    }
+    
+    // Helper methods
+    private static double max(double[] column) {
+        double max = column[0];
+        for (int i = 1; i < column.length; i++) {
+            if (column[i] > max) {
+                max = column[i];
+            }
+        }
+        return max;
+    }
+    
+    private static double min(double[] column) {
+        double min = column[0];
+        for (int i = 1; i < column.length; i++) {
+            if (column[i] < min) {
+                min = column[i];
+            }
+        }
+        return min;
+    }
+    
+    private static BigDecimal scale(double value) {
+        return BigDecimal.valueOf(value).setScale(4, RoundingMode.HALF_UP);
+    }
+    
+    /**
+     * Menjalankan body untuk seluruh baris, paralel per potongan jika aktif
+     */
+    private void runRange(RangeBody body) {
+        if (isParallel()) {
+            pool().invoke(new RangeTask(body, 0, size));
+        } else {
+            body.run(0, size);
+        }
+    }
+    
+    @FunctionalInterface
+    private interface RangeBody {
+        void run(int from, int to);
+    }
+    
+    /**
+     * Task fork-join untuk loop per potongan baris
+     */
+    private static class RangeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        
+        private final RangeBody body;
+        private final int from;
+        private final int to;
+        
+        RangeTask(RangeBody body, int from, int to) {
+            this.body = body;
+            this.from = from;
+            this.to = to;
+        }
+        
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK_SIZE) {
+                body.run(from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new RangeTask(body, from, mid), new RangeTask(body, mid, to));
+        }
+    }
+    
+    /**
+     * Reduksi paralel min/max satu kolom, hasil {min, max}
+     */
+    private static class MinMaxTask extends RecursiveTask<double[]> {
+        private static final long serialVersionUID = 1L;
+        
+        private final double[] column;
+        private final int from;
+        private final int to;
+        
+        MinMaxTask(double[] column, int from, int to) {
+            this.column = column;
+            this.from = from;
+            this.to = to;
+        }
+        
+        @Override
+        protected double[] compute() {
+            if (to - from <= CHUNK_SIZE) {
+                double min = column[from];
+                double max = column[from];
+                for (int i = from + 1; i < to; i++) {
+                    if (column[i] < min) min = column[i];
+                    if (column[i] > max) max = column[i];
+                }
+                return new double[]{min, max};
+            }
+            int mid = (from + to) >>> 1;
+            MinMaxTask left = new MinMaxTask(column, from, mid);
+            left.fork();
+            double[] right = new MinMaxTask(column, mid, to).compute();
+            double[] leftResult = left.join();
+            return new double[]{Math.min(leftResult[0], right[0]), Math.max(leftResult[1], right[1])};
+        }
+    }
+    
+    /**
+     * Merge sort paralel: kedua bagian diurutkan bersamaan lalu digabung
+     */
+    private static class SortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        
+        private final int[] index;
+        private final int[] buffer;
+        private final double[] keys;
+        private final int[] ids;
+        private final int from;
+        private final int to;
+        
+        SortTask(int[] index, int[] buffer, double[] keys, int[] ids, int from, int to) {
+            this.index = index;
+            this.buffer = buffer;
+            this.keys = keys;
+            this.ids = ids;
+            this.from = from;
+            this.to = to;
+        }
+        
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK_SIZE) {
+                mergeSort(index, buffer, keys, ids, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new SortTask(index, buffer, keys, ids, from, mid),
+                      new SortTask(index, buffer, keys, ids, mid, to));
+            merge(index, buffer, keys, ids, from, mid, to);
+        }
+    }
+    
+    /**
+     * Merge sort stabil pada array index primitif, dibandingkan berdasarkan
+     * skor; skor yang sama mempertahankan urutan index asal
+     */
+    static void sortByScoreDesc(int[] index, double[] keys) {
+        sortByScoreDesc(index, keys, null);
+    }
+    
+    /**
+     * Merge sort pada array index primitif, dibandingkan berdasarkan skor lalu ID
+     * @param ids ID per baris untuk skor yang sama, null untuk urutan index asal
+     */
+    static void sortByScoreDesc(int[] index, double[] keys, int[] ids) {
+        int[] buffer = new int[index.length];
+        mergeSort(index, buffer, keys, ids, 0, index.length);
+    }
+    
+    /**
+     * true jika baris a berada di depan baris b: skor lebih tinggi, atau skor
+     * sama dengan ID lebih kecil (jika ids null, skor sama tidak saling mendahului)
+     */
+    static boolean ranksBefore(int a, int b, double[] keys, int[] ids) {
+        if (keys[a] != keys[b]) {
+            return keys[a] > keys[b];
+        }
+        return ids != null && ids[a] < ids[b];
+    }
+    
+    static void mergeSort(int[] index, int[] buffer, double[] keys, int[] ids, int from, int to) {
+        if (to - from < 2) {
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        mergeSort(index, buffer, keys, ids, from, mid);
+        mergeSort(index, buffer, keys, ids, mid, to);
+        merge(index, buffer, keys, ids, from, mid, to);
+    }
+    
+    static void merge(int[] index, int[] buffer, double[] keys, int[] ids, int from, int mid, int to) {
+        // Sudah terurut, tidak perlu merge
+        if (!ranksBefore(index[mid], index[mid - 1], keys, ids)) {
+            return;
+        }
+        
+        System.arraycopy(index, from, buffer, from, to - from);
+        int left = from;
+        int right = mid;
+        for (int k = from; k < to; k++) {
+            if (right >= to || (left < mid && !ranksBefore(buffer[right], buffer[left], keys, ids))) {
+                index[k] = buffer[left++];
+            } else {
+                index[k] = buffer[right++];
+            }
+        }
+    }
+}
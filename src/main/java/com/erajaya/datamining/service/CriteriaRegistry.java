@@ -0,0 +1,163 @@
+package com.erajaya.datamining.service;
+
+import com.erajaya.datamining.dao.CriteriaDAO;
+import com.erajaya.datamining.model.Criteria;
+import com.erajaya.datamining.model.Criteria.CriteriaType;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Registry kriteria SAW yang dimuat dari tabel criteria.
+ * Jika tabel kosong atau tidak dapat dibaca, dipakai tiga kriteria default
+ * (Harga 0.40 cost, Kualitas 0.35 benefit, Suku Cadang 0.25 benefit).
+ * Default tidak disimpan sebagai registry aktif; getInstance() mencoba
+ * membaca database lagi paling cepat RETRY_DELAY_MS setelah gagal, sehingga
+ * pembacaan lain tidak menambah query (atau menunggu pool) di setiap panggilan.
+ */
+public class CriteriaRegistry {
+    
+    private static final long RETRY_DELAY_MS = 30 * 1000L;
+    
+    private static volatile CriteriaRegistry instance;
+    
+    // Waktu paling cepat getInstance() mencoba memuat lagi setelah gagal
+    private static volatile long retryAfter;
+    
+    // Registry default dibuat satu kali agar identitasnya tetap antar pemanggilan
+    private static final CriteriaRegistry DEFAULTS = new CriteriaRegistry(getDefaultCriteria());
+    
+    private final List<Criteria> criteria;
+    private final String[] names;
+    private final double[] weights;
+    private final boolean[] isBenefit;
+    
+    private CriteriaRegistry(List<Criteria> criteria) {
+        this.criteria = Collections.unmodifiableList(criteria);
+        int k = criteria.size();
+        this.names = new String[k];
+        this.weights = new double[k];
+        this.isBenefit = new boolean[k];
+        
+        for (int j = 0; j < k; j++) {
+            Criteria c = criteria.get(j);
+            names[j] = c.getName();
+            weights[j] = c.getWeightAsDouble();
+            isBenefit[j] = c.isBenefit();
+        }
+    }
+    
+    /**
+     * Mendapatkan registry aktif. Selama tabel criteria belum berhasil dibaca,
+     * dipakai default dan database dicoba lagi setelah RETRY_DELAY_MS.
+     */
+    public static CriteriaRegistry getInstance() {
+        CriteriaRegistry registry = instance;
+        if (registry != null) {
+            return registry;
+        }
+        return System.currentTimeMillis() < retryAfter ? DEFAULTS : reload();
+    }
+    
+    /**
+     * Memuat ulang kriteria dari database (misalnya setelah bobot diubah).
+     * Registry lama tetap dipakai jika isinya sama, agar snapshot hasil SAW
+     * yang dihitung dengan registry tersebut tetap berlaku.
+     */
+    public static synchronized CriteriaRegistry reload() {
+        List<Criteria> criteria = new CriteriaDAO().findAll();
+        if (criteria.isEmpty()) {
+            // Gagal membaca: registry terakhir yang berhasil dimuat tetap berlaku
+            retryAfter = System.currentTimeMillis() + RETRY_DELAY_MS;
+            return instance != null ? instance : DEFAULTS;
+        }
+        
+        CriteriaRegistry loaded = new CriteriaRegistry(criteria);
+        if (instance == null || !instance.hasSameContent(loaded)) {
+            instance = loaded;
+        }
+        return instance;
+    }
+    
+    private boolean hasSameContent(CriteriaRegistry other) {
+        if (other.criteria.size() != criteria.size()) {
+            return false;
+        }
+        for (int j = 0; j < criteria.size(); j++) {
+            if (criteria.get(j).getId() != other.criteria.get(j).getId()
+                    || !Objects.equals(names[j], other.names[j])) {
+                return false;
+            }
+        }
+        return Arrays.equals(weights, other.weights) && Arrays.equals(isBenefit, other.isBenefit);
+    }
+    
+    /**
+     * Kriteria default sesuai data awal tabel criteria
+     */
+    private static List<Criteria> getDefaultCriteria() {
+        List<Criteria> defaults = new ArrayList<>();
+        defaults.add(new Criteria("Harga", new BigDecimal("0.40"), CriteriaType.COST,
+            "Harga produk (semakin rendah semakin baik)"));
+        defaults.add(new Criteria("Kualitas", new BigDecimal("0.35"), CriteriaType.BENEFIT,
+            "Skor kualitas produk (semakin tinggi semakin baik)"));
+        defaults.add(new Criteria("Suku Cadang", new BigDecimal("0.25"), CriteriaType.BENEFIT,
+            "Ketersediaan suku cadang (semakin tinggi semakin baik)"));
+        return defaults;
+    }
+    
+    // Getters
+    public List<Criteria> getCriteria() {
+        return criteria;
+    }
+    
+    public int size() {
+        return criteria.size();
+    }
+    
+    public String[] getNames() {
+        return names.clone();
+    }
+    
+    public double[] getWeights() {
+        return weights.clone();
+    }
+    
+    public boolean[] getIsBenefit() {
+        return isBenefit.clone();
+    }
+    
+    public String[] getTypes() {
+        String[] types = new String[criteria.size()];
+        for (int j = 0; j < types.length; j++) {
+            types[j] = isBenefit[j] ? "Benefit" : "Cost";
+        }
+        return types;
+    }
+    
+    public String[] getDescriptions() {
+        String[] descriptions = new String[criteria.size()];
+        for (int j = 0; j < descriptions.length; j++) {
+            String description = criteria.get(j).getDescription();
+            descriptions[j] = description != null ? description : criteria.get(j).getTypeDescription();
+        }
+        return descriptions;
+    }
+    
+    /**
+     * Format nilai matriks keputusan untuk tampilan
+     */
+    public String formatValue(int criteriaIndex, double value) {
+        if (Double.isNaN(value)) {
+            return "-";
+        }
+        if (!isBenefit[criteriaIndex] || value != Math.rint(value)) {
+            return String.format("%.2f", value);
+        }
+        return String.format("%.0f", value);
+    }
+}
\ No newline at end of file
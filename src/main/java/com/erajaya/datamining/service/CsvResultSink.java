@@ -0,0 +1,77 @@
+package com.erajaya.datamining.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
+
+/**
+ * Menulis skor streaming sebagai CSV (kode, nama, skor).
+ * Ranking tidak ditulis karena baru diketahui setelah semua baris dibaca.
+ * Skor selalu memakai titik desimal (Locale.ROOT), apa pun locale sistem.
+ */
+public class CsvResultSink implements SAWResultSink {
+    
+    private final BufferedWriter writer;
+    private boolean failed;
+    
+    public CsvResultSink(Writer writer) {
+        this.writer = writer instanceof BufferedWriter ? (BufferedWriter) writer : new BufferedWriter(writer);
+    }
+    
+    @Override
+    public boolean begin(String[] builtInColumns) {
+        try {
+            writer.write("code,name,total_score");
+            writer.newLine();
+            failed = false;
+            return true;
+        } catch (IOException e) {
+            System.err.println("Error saat menulis CSV: " + e.getMessage());
+            return false;
+        }
+    }
+    
+    @Override
+    public void accept(int id, String code, String name, double[] values, double score) {
+        if (failed) {
+            return;
+        }
+        
+        try {
+            writer.write(escape(code));
+            writer.write(',');
+            writer.write(escape(name));
+            writer.write(',');
+            writer.write(String.format(Locale.ROOT, "%.4f", score));
+            writer.newLine();
+        } catch (IOException e) {
+            System.err.println("Error saat menulis CSV: " + e.getMessage());
+            failed = true;
+        }
+    }
+    
+    @Override
+    public boolean finish(boolean completed) {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            System.err.println("Error saat menulis CSV: " + e.getMessage());
+            return false;
+        }
+        return completed && !failed;
+    }
+    
+    /**
+     * Memberi tanda kutip jika nilai mengandung koma, kutip atau baris baru
+     */
+    static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
\ No newline at end of file
@@ -0,0 +1,456 @@
+package com.erajaya.datamining.service;
+
+import java.util.*;
+
+/**
+ * Ranking SAW inkremental untuk perubahan satu alternatif.
+ * Setiap kolom kriteria menyimpan multiset nilai (TreeMap nilai -> jumlah)
+ * sehingga min/max selalu tersedia dalam O(log n). Perubahan satu baris hanya
+ * menghitung ulang skor baris tersebut, kecuali jika nilai ekstrem (max untuk
+ * benefit, min untuk cost) suatu kolom ikut berubah; pada kondisi itu seluruh
+ * skor dihitung ulang karena normalisasi kolom tersebut bergeser.
+ * Urutan ranking disimpan di pohon order-statistic (treap dengan ukuran
+ * subtree) sehingga posisi ranking satu alternatif didapat dalam O(log n).
+ * Skor yang sama diurutkan berdasarkan ID alternatif, sama seperti
+ * ColumnarSAWEngine dan SqlPushdownSAWEngine.
+ */
+public class IncrementalSAWRanker {
+    
+    /**
+     * Skor satu alternatif di dalam urutan ranking
+     */
+    public static final class Entry {
+        private final int id;
+        private final double score;
+        
+        Entry(int id, double score) {
+            this.id = id;
+            this.score = score;
+        }
+        
+        public int getId() {
+            return id;
+        }
+        
+        public double getScore() {
+            return score;
+        }
+    }
+    
+    /**
+     * Hasil satu perubahan: baris lama/baru dan apakah semua skor dihitung ulang
+     */
+    public static final class Change {
+        private final Entry before;
+        private final Entry after;
+        private final boolean fullRescore;
+        
+        Change(Entry before, Entry after, boolean fullRescore) {
+            this.before = before;
+            this.after = after;
+            this.fullRescore = fullRescore;
+        }
+        
+        public Entry getBefore() {
+            return before;
+        }
+        
+        public Entry getAfter() {
+            return after;
+        }
+        
+        public boolean isFullRescore() {
+            return fullRescore;
+        }
+    }
+    
+    // Skor tertinggi di depan, skor sama diurutkan berdasarkan ID
+    private static final Comparator<Entry> RANKING_ORDER = (a, b) -> {
+        int compare = Double.compare(b.score, a.score);
+        return compare != 0 ? compare : Integer.compare(a.id, b.id);
+    };
+    
+    private final double[] weights;
+    private final boolean[] isBenefit;
+    private final List<TreeMap<Double, Integer>> columnValues;
+    private final double[] reference;   // max (benefit) atau min (cost) yang dipakai normalisasi
+    private final Map<Integer, double[]> rows = new HashMap<>();
+    private final Map<Integer, Entry> entries = new HashMap<>();
+    private final OrderStatisticTree ranking = new OrderStatisticTree();
+    
+    public IncrementalSAWRanker(double[] weights, boolean[] isBenefit) {
+        this.weights = weights.clone();
+        this.isBenefit = isBenefit.clone();
+        this.reference = new double[weights.length];
+        this.columnValues = new ArrayList<>(weights.length);
+        for (int j = 0; j < weights.length; j++) {
+            columnValues.add(new TreeMap<>());
+        }
+    }
+    
+    /**
+     * Membuat ranker dari engine kolom yang sudah dihitung
+     * @param engine Engine hasil perhitungan penuh
+     * @param weights Bobot kriteria
+     * @param isBenefit Tipe kriteria
+     * @return Ranker yang berisi semua baris engine
+     */
+    public static IncrementalSAWRanker fromEngine(ColumnarSAWEngine engine, double[] weights, boolean[] isBenefit) {
+        IncrementalSAWRanker ranker = new IncrementalSAWRanker(weights, isBenefit);
+        double[][] columns = engine.getColumns();
+        
+        for (int i = 0; i < engine.size(); i++) {
+            double[] values = new double[columns.length];
+            for (int j = 0; j < columns.length; j++) {
+                values[j] = columns[j][i];
+                ranker.addValue(j, values[j]);
+            }
+            ranker.rows.put(engine.getId(i), values);
+        }
+        
+        ranker.rescoreAll();
+        return ranker;
+    }
+    
+    /**
+     * Menambah atau mengubah nilai satu alternatif
+     * @param id ID alternatif
+     * @param values Nilai per kriteria
+     * @return Perubahan yang terjadi
+     */
+    public synchronized Change upsert(int id, double[] values) {
+        Entry before = entries.get(id);
+        double[] old = rows.put(id, values.clone());
+        
+        for (int j = 0; j < values.length; j++) {
+            if (old != null) {
+                removeValue(j, old[j]);
+            }
+            addValue(j, values[j]);
+        }
+        
+        if (referenceMoved()) {
+            rescoreAll();
+            return new Change(before, entries.get(id), true);
+        }
+        
+        return new Change(before, rescore(id), false);
+    }
+    
+    /**
+     * Menghapus satu alternatif dari ranking
+     * @param id ID alternatif
+     * @return Perubahan yang terjadi, atau null jika ID tidak dikenal
+     */
+    public synchronized Change remove(int id) {
+        double[] old = rows.remove(id);
+        if (old == null) {
+            return null;
+        }
+        
+        Entry before = entries.remove(id);
+        ranking.remove(before);
+        for (int j = 0; j < old.length; j++) {
+            removeValue(j, old[j]);
+        }
+        
+        if (!rows.isEmpty() && referenceMoved()) {
+            rescoreAll();
+            return new Change(before, null, true);
+        }
+        
+        return new Change(before, null, false);
+    }
+    
+    /**
+     * Posisi ranking (1 = terbaik) untuk entry tertentu
+     */
+    public synchronized int getRanking(Entry entry) {
+        return ranking.countBefore(entry) + 1;
+    }
+    
+    /**
+     * Baris yang ranking-nya bisa bergeser akibat perubahan (rentang antara
+     * posisi lama dan posisi baru), berurutan dari ranking terbaik
+     * @param change Perubahan dari upsert/remove
+     * @return List entry beserta ranking barunya dalam array [id, ranking]
+     */
+    public synchronized List<int[]> getAffectedRanks(Change change) {
+        List<int[]> affected = new ArrayList<>();
+        if (ranking.isEmpty()) {
+            return affected;
+        }
+        
+        int from;
+        int to;
+        if (change.isFullRescore()) {
+            from = 0;
+            to = ranking.size() - 1;
+        } else {
+            Entry first = lower(change.getBefore(), change.getAfter());
+            Entry last = upper(change.getBefore(), change.getAfter());
+            from = ranking.countBefore(first);
+            if (last == null) {
+                to = ranking.size() - 1;
+            } else {
+                // Entry lama sudah keluar dari pohon: posisinya kini milik baris berikutnya
+                to = entries.get(last.id) == last ? ranking.countBefore(last) : ranking.countBefore(last) - 1;
+            }
+        }
+        
+        ranking.collect(from, to, affected);
+        return affected;
+    }
+    
+    /**
+     * Semua entry sesuai urutan ranking
+     */
+    public synchronized List<Entry> getRanking() {
+        List<int[]> positions = new ArrayList<>(ranking.size());
+        ranking.collect(0, ranking.size() - 1, positions);
+        List<Entry> result = new ArrayList<>(positions.size());
+        for (int[] position : positions) {
+            result.add(entries.get(position[0]));
+        }
+        return result;
+    }
+    
+    public synchronized Entry getEntry(int id) {
+        return entries.get(id);
+    }
+    
+    public synchronized int size() {
+        return rows.size();
+    }
+    
+    // Helper methods
+    private Entry rescore(int id) {
+        Entry old = entries.get(id);
+        if (old != null) {
+            ranking.remove(old);
+        }
+        
+        Entry entry = new Entry(id, score(rows.get(id)));
+        entries.put(id, entry);
+        ranking.add(entry);
+        return entry;
+    }
+    
+    private void rescoreAll() {
+        ranking.clear();
+        entries.clear();
+        if (rows.isEmpty()) {
+            return;
+        }
+        
+        for (int j = 0; j < reference.length; j++) {
+            reference[j] = currentExtreme(j);
+        }
+        
+        for (Map.Entry<Integer, double[]> row : rows.entrySet()) {
+            Entry entry = new Entry(row.getKey(), score(row.getValue()));
+            entries.put(entry.id, entry);
+            ranking.add(entry);
+        }
+    }
+    
+    private double score(double[] values) {
+        double score = 0.0;
+        for (int j = 0; j < values.length; j++) {
+            double normalized = isBenefit[j] ? values[j] / reference[j] : reference[j] / values[j];
+            score += weights[j] * normalized;
+        }
+        return score;
+    }
+    
+    private boolean referenceMoved() {
+        for (int j = 0; j < reference.length; j++) {
+            if (Double.compare(reference[j], currentExtreme(j)) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private double currentExtreme(int column) {
+        TreeMap<Double, Integer> values = columnValues.get(column);
+        return isBenefit[column] ? values.lastKey() : values.firstKey();
+    }
+    
+    private void addValue(int column, double value) {
+        columnValues.get(column).merge(value, 1, Integer::sum);
+    }
+    
+    private void removeValue(int column, double value) {
+        TreeMap<Double, Integer> values = columnValues.get(column);
+        Integer count = values.get(value);
+        if (count == null) {
+            return;
+        }
+        if (count == 1) {
+            values.remove(value);
+        } else {
+            values.put(value, count - 1);
+        }
+    }
+    
+    private Entry lower(Entry a, Entry b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return RANKING_ORDER.compare(a, b) <= 0 ? a : b;
+    }
+    
+    private Entry upper(Entry a, Entry b) {
+        // Baris baru atau baris terhapus menggeser semua ranking di bawahnya
+        if (a == null || b == null) return null;
+        return RANKING_ORDER.compare(a, b) <= 0 ? b : a;
+    }
+    
+    /**
+     * Treap dengan ukuran subtree: insert, remove dan posisi ranking O(log n)
+     * (ekspektasi), diurutkan dengan RANKING_ORDER
+     */
+    private static final class OrderStatisticTree {
+        
+        private static final class Node {
+            final Entry entry;
+            final int priority;
+            int size = 1;
+            Node left;
+            Node right;
+            
+            Node(Entry entry, int priority) {
+                this.entry = entry;
+                this.priority = priority;
+            }
+        }
+        
+        private final Random random = new Random(0x5A17L);
+        private Node root;
+        
+        int size() {
+            return size(root);
+        }
+        
+        boolean isEmpty() {
+            return root == null;
+        }
+        
+        void clear() {
+            root = null;
+        }
+        
+        void add(Entry entry) {
+            Node[] parts = split(root, entry);
+            root = merge(merge(parts[0], new Node(entry, random.nextInt())), parts[1]);
+        }
+        
+        void remove(Entry entry) {
+            Node[] parts = split(root, entry);
+            // Entry yang dicari adalah elemen pertama bagian kanan
+            if (parts[1] != null && RANKING_ORDER.compare(first(parts[1]), entry) == 0) {
+                parts[1] = removeFirst(parts[1]);
+            }
+            root = merge(parts[0], parts[1]);
+        }
+        
+        /**
+         * Jumlah entry yang berada di depan entry (entry tidak harus ada di pohon)
+         */
+        int countBefore(Entry entry) {
+            int count = 0;
+            Node node = root;
+            while (node != null) {
+                int compare = RANKING_ORDER.compare(entry, node.entry);
+                if (compare < 0) {
+                    node = node.left;
+                } else if (compare > 0) {
+                    count += size(node.left) + 1;
+                    node = node.right;
+                } else {
+                    return count + size(node.left);
+                }
+            }
+            return count;
+        }
+        
+        /**
+         * Menambahkan [id, ranking] untuk posisi from..to (berbasis 0, inklusif)
+         */
+        void collect(int from, int to, List<int[]> out) {
+            if (from <= to) {
+                collect(root, 0, from, to, out);
+            }
+        }
+        
+        private void collect(Node node, int offset, int from, int to, List<int[]> out) {
+            if (node == null) {
+                return;
+            }
+            int position = offset + size(node.left);
+            if (from < position) {
+                collect(node.left, offset, from, to, out);
+            }
+            if (position >= from && position <= to) {
+                out.add(new int[]{node.entry.id, position + 1});
+            }
+            if (to > position) {
+                collect(node.right, position + 1, from, to, out);
+            }
+        }
+        
+        /**
+         * Memecah pohon menjadi {entry sebelum key, entry key dan sesudahnya}
+         */
+        private Node[] split(Node node, Entry key) {
+            if (node == null) {
+                return new Node[2];
+            }
+            if (RANKING_ORDER.compare(node.entry, key) < 0) {
+                Node[] parts = split(node.right, key);
+                node.right = parts[0];
+                parts[0] = update(node);
+                return parts;
+            }
+            Node[] parts = split(node.left, key);
+            node.left = parts[1];
+            parts[1] = update(node);
+            return parts;
+        }
+        
+        private Node merge(Node a, Node b) {
+            if (a == null) return b;
+            if (b == null) return a;
+            if (a.priority > b.priority) {
+                a.right = merge(a.right, b);
+                return update(a);
+            }
+            b.left = merge(a, b.left);
+            return update(b);
+        }
+        
+        private Node removeFirst(Node node) {
+            if (node.left == null) {
+                return node.right;
+            }
+            node.left = removeFirst(node.left);
+            return update(node);
+        }
+        
+        private static Entry first(Node node) {
+            while (node.left != null) {
+                node = node.left;
+            }
+            return node.entry;
+        }
+        
+        private static Node update(Node node) {
+            node.size = size(node.left) + size(node.right) + 1;
+            return node;
+        }
+        
+        private static int size(Node node) {
+            return node != null ? node.size : 0;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.erajaya.datamining.service;
+
+import com.erajaya.datamining.model.Alternative;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Perbandingan beberapa metode MCDM pada data yang sama. Matriks keputusan
+ * diambil dari satu SAWComputation dan statistik kolom dihitung satu kali,
+ * lalu setiap metode hanya menambah satu kali baca matriks untuk skor dan
+ * satu pengurutan untuk ranking.
+ */
+public class McdmComparison {
+    
+    private final List<Alternative> alternatives;
+    private final List<McdmEngine> engines;
+    private final double[][] scores;   // [metode][baris]
+    private final int[][] orders;      // [metode][posisi] -> baris
+    private final int[][] ranks;       // [metode][baris] -> ranking
+    
+    McdmComparison(SAWComputation computation, List<McdmEngine> engines) {
+        this.alternatives = computation.getAlternatives();
+        this.engines = Collections.unmodifiableList(new ArrayList<>(engines));
+        
+        double[][] columns = computation.getMatrix().getColumns();
+        ColumnStatistics stats = ColumnStatistics.of(columns);
+        double[] weights = computation.getCriteria().getWeights();
+        boolean[] isBenefit = computation.getCriteria().getIsBenefit();
+        
+        // Pengurutan memakai aturan yang sama dengan ranking SAW (stabil, paralel jika besar)
+        ColumnarSAWEngine sorter = computation.getEngine();
+        
+        int m = engines.size();
+        int n = computation.size();
+        this.scores = new double[m][];
+        this.orders = new int[m][];
+        this.ranks = new int[m][n];
+        
+        for (int e = 0; e < m; e++) {
+            scores[e] = engines.get(e).score(columns, stats, weights, isBenefit);
+            orders[e] = sorter.rankOrder(scores[e]);
+            for (int r = 0; r < n; r++) {
+                ranks[e][orders[e][r]] = r + 1;
+            }
+        }
+    }
+    
+    /**
+     * Metode bawaan: SAW, Weighted Product dan TOPSIS
+     */
+    public static List<McdmEngine> defaultEngines() {
+        return Arrays.asList(new SawMcdmEngine(), new WeightedProductEngine(), new TopsisEngine());
+    }
+    
+    /**
+     * Korelasi ranking Spearman antara dua metode (1 = ranking sama persis)
+     * @param first Index metode pertama
+     * @param second Index metode kedua
+     */
+    public double getSpearmanCorrelation(int first, int second) {
+        int n = size();
+        if (n < 2) {
+            return 1.0;
+        }
+        
+        double sumSquares = 0.0;
+        for (int i = 0; i < n; i++) {
+            double d = ranks[first][i] - ranks[second][i];
+            sumSquares += d * d;
+        }
+        return 1.0 - 6.0 * sumSquares / ((double) n * ((double) n * n - 1));
+    }
+    
+    /**
+     * Nama semua metode sesuai urutan index
+     */
+    public String[] getMethodNames() {
+        String[] names = new String[engines.size()];
+        for (int e = 0; e < names.length; e++) {
+            names[e] = engines.get(e).getName();
+        }
+        return names;
+    }
+    
+    // Getters
+    public int getMethodCount() {
+        return engines.size();
+    }
+    
+    public int size() {
+        return alternatives.size();
+    }
+    
+    public Alternative getAlternative(int row) {
+        return alternatives.get(row);
+    }
+    
+    public double getScore(int method, int row) {
+        return scores[method][row];
+    }
+    
+    public int getRanking(int method, int row) {
+        return ranks[method][row];
+    }
+    
+    /**
+     * @param method Index metode
+     * @param position Posisi ranking berbasis 0
+     * @return Index baris pada posisi tersebut
+     */
+    public int getRowAtRank(int method, int position) {
+        return orders[method][position];
+    }
+}
\ No newline at end of file
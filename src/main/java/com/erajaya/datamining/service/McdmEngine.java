@@ -0,0 +1,25 @@
+package com.erajaya.datamining.service;
+
+/**
+ * Metode pengambilan keputusan multi-kriteria (MCDM) yang menilai matriks
+ * keputusan yang sama. Setiap implementasi hanya menghitung skor; matriks
+ * dan statistik kolom dimuat dan dihitung satu kali oleh pemanggil
+ * (lihat McdmComparison).
+ */
+public interface McdmEngine {
+    
+    /**
+     * Nama singkat metode untuk tampilan, misalnya "SAW"
+     */
+    String getName();
+    
+    /**
+     * Menghitung nilai preferensi setiap alternatif (semakin tinggi semakin baik)
+     * @param columns Matriks keputusan [kriteria][alternatif]
+     * @param stats Statistik kolom matriks tersebut
+     * @param weights Bobot per kriteria
+     * @param isBenefit true untuk kriteria benefit, false untuk cost
+     * @return Skor per alternatif
+     */
+    double[] score(double[][] columns, ColumnStatistics stats, double[] weights, boolean[] isBenefit);
+}
\ No newline at end of file
@@ -26,6 +26,12 @@ public class PDFReportService {
     private final SAWService sawService;
     private final AlternativeDAO alternativeDAO;
     
+    // true: laporan hasil dan analisis hanya memuat alternatif non-dominated (skyline Pareto)
+    private boolean nonDominatedOnly;
+    
+    // Jumlah baris per halaman keyset saat membaca data laporan (genap agar warna baris tetap selang-seling)
+    private static final int REPORT_PAGE_SIZE = 500;
+    
     // Font styling
     private static Font titleFont = new Font(Font.FontFamily.HELVETICA, 18, Font.BOLD);
     private static Font headerFont = new Font(Font.FontFamily.HELVETICA, 14, Font.BOLD);
@@ -41,6 +47,36 @@ public class PDFReportService {
         this.alternativeDAO = new AlternativeDAO();
     }
     
+    /**
+     * Mengatur apakah alternatif yang didominasi dibuang dari laporan hasil,
+     * analisis dan perbandingan metode
+     */
+    public void setNonDominatedOnly(boolean nonDominatedOnly) {
+        this.nonDominatedOnly = nonDominatedOnly;
+    }
+    
+    public boolean isNonDominatedOnly() {
+        return nonDominatedOnly;
+    }
+    
+    /**
+     * Hasil SAW untuk laporan sesuai mode non-dominated
+     */
+    private List<SAWResult> getReportResults() {
+        return nonDominatedOnly ? sawService.getNonDominatedResults() : sawService.getSAWResults();
+    }
+    
+    private void addNonDominatedNote(Document document) throws DocumentException {
+        ParetoSkyline skyline = sawService.getSkyline();
+        if (nonDominatedOnly && skyline != null) {
+            addParagraph(document, String.format(
+                "Hanya alternatif non-dominated yang ditampilkan (%d dari %d); %d alternatif " +
+                "didominasi produk lain yang tidak lebih buruk di semua kriteria.",
+                skyline.getSkylineSize(), skyline.getSkylineSize() + skyline.getDominatedCount(),
+                skyline.getDominatedCount()), smallFont);
+        }
+    }
+    
     /**
      * Generate Laporan 1: Data Alternatif
      */
@@ -53,28 +89,35 @@ public class PDFReportService {
             // Header
             addReportHeader(document, "LAPORAN DATA ALTERNATIF PRODUK");            
             
-            // Tabel data alternatif
-            List<Alternative> alternatives = alternativeDAO.findAll();
-            
+            // Tabel data alternatif (ditulis per halaman agar memori tetap kecil)
             PdfPTable table = new PdfPTable(6);
             table.setWidthPercentage(100);
             table.setWidths(new int[]{10, 15, 30, 20, 15, 15});
+            table.setHeaderRows(1);
+            table.setComplete(false);
             
             // Header tabel
             addTableHeader(table, new String[]{"Kode", "Produk", "Deskripsi", "Harga", "Kualitas", "Suku Cadang"});
             
             // Data
-            for (Alternative alt : alternatives) {
-                addTableRow(table, new String[]{
-                    alt.getCode(),
-                    alt.getName(),
-                    alt.getDescription() != null ? alt.getDescription() : "-",
-                    alt.getFormattedPrice(),
-                    String.valueOf(alt.getQualityScore()),
-                    String.valueOf(alt.getSparePartsScore())
-                });
+            String afterCode = null;
+            List<Alternative> page;
+            while (!(page = alternativeDAO.findPage(afterCode, REPORT_PAGE_SIZE)).isEmpty()) {
+                for (Alternative alt : page) {
+                    addTableRow(table, new String[]{
+                        alt.getCode(),
+                        alt.getName(),
+                        alt.getDescription() != null ? alt.getDescription() : "-",
+                        alt.getFormattedPrice(),
+                        String.valueOf(alt.getQualityScore()),
+                        String.valueOf(alt.getSparePartsScore())
+                    });
+                }
+                document.add(table);
+                afterCode = page.get(page.size() - 1).getCode();
             }
             
+            table.setComplete(true);
             document.add(table);
             document.add(Chunk.NEWLINE);
             
@@ -125,11 +168,11 @@ public class PDFReportService {
             addParagraph(document, "1. MATRIKS KEPUTUSAN", headerFont);
             String[][] decisionMatrix = sawService.getDecisionMatrixDisplay();
             
-            PdfPTable decisionTable = new PdfPTable(4);
+            PdfPTable decisionTable = new PdfPTable(names.length + 1);
             decisionTable.setWidthPercentage(100);
-            decisionTable.setWidths(new int[]{20, 30, 25, 25});
+            decisionTable.setWidths(createMatrixWidths(names.length));
             
-            addTableHeader(decisionTable, new String[]{"Alternatif", "Harga", "Kualitas", "Suku Cadang"});
+            addTableHeader(decisionTable, createMatrixHeaders(names, ""));
             
             for (String[] row : decisionMatrix) {
                 addTableRow(decisionTable, row);
@@ -141,17 +184,17 @@ public class PDFReportService {
             // Matriks Normalisasi
             addParagraph(document, "2. MATRIKS NORMALISASI", headerFont);
             addParagraph(document, "Normalisasi menggunakan rumus:", normalFont);
-            addParagraph(document, "• Benefit (Kualitas, Suku Cadang): rij = xij / max(xij)", smallFont);
-            addParagraph(document, "• Cost (Harga): rij = min(xij) / xij", smallFont);
+            addParagraph(document, "• Benefit (" + joinNamesByType(names, types, "Benefit") + "): rij = xij / max(xij)", smallFont);
+            addParagraph(document, "• Cost (" + joinNamesByType(names, types, "Cost") + "): rij = min(xij) / xij", smallFont);
             document.add(Chunk.NEWLINE);
             
             String[][] normalizedMatrix = sawService.getNormalizedMatrixDisplay();
             
-            PdfPTable normalizedTable = new PdfPTable(4);
+            PdfPTable normalizedTable = new PdfPTable(names.length + 1);
             normalizedTable.setWidthPercentage(100);
-            normalizedTable.setWidths(new int[]{20, 30, 25, 25});
+            normalizedTable.setWidths(createMatrixWidths(names.length));
             
-            addTableHeader(normalizedTable, new String[]{"Alternatif", "Harga (N)", "Kualitas (N)", "Suku Cadang (N)"});
+            addTableHeader(normalizedTable, createMatrixHeaders(names, " (N)"));
             
             for (String[] row : normalizedMatrix) {
                 addTableRow(normalizedTable, row);
@@ -197,7 +240,8 @@ public class PDFReportService {
             document.add(Chunk.NEWLINE);
             
             // Hasil perhitungan
-            List<SAWResult> results = sawService.getSAWResults();
+            List<SAWResult> results = getReportResults();
+            addNonDominatedNote(document);
             
             PdfPTable resultTable = new PdfPTable(5);
             resultTable.setWidthPercentage(100);
@@ -218,6 +262,8 @@ public class PDFReportService {
             document.add(resultTable);
             document.add(Chunk.NEWLINE);
             
+            addMethodComparison(document);
+            
             // Interpretasi hasil
             addParagraph(document, "Interpretasi Hasil:", headerFont);
             if (!results.isEmpty()) {
@@ -259,18 +305,25 @@ public class PDFReportService {
             // Executive Summary
             addParagraph(document, "EXECUTIVE SUMMARY", headerFont);
             
-            List<SAWResult> results = sawService.getSAWResults();
+            // Hanya 5 alternatif teratas yang dibutuhkan laporan ini
+            List<SAWResult> results;
+            if (nonDominatedOnly) {
+                List<SAWResult> nonDominated = sawService.getNonDominatedResults();
+                results = nonDominated.subList(0, Math.min(5, nonDominated.size()));
+            } else {
+                results = sawService.topK(5);
+            }
             Map<String, Object> stats = sawService.getSAWStatistics();
             
             if (!results.isEmpty()) {
                 addParagraph(document, String.format(
                     "Berdasarkan analisis SAW terhadap %d alternatif produk elektronik, " +
                     "diperoleh hasil bahwa %s merupakan pilihan terbaik dengan skor %.4f. " +
-                    "Analisis ini mempertimbangkan kriteria harga (40%%), kualitas (35%%), " +
-                    "dan ketersediaan suku cadang (25%%).",
-                    results.size(),
+                    "Analisis ini mempertimbangkan kriteria %s.",
+                    (Integer) stats.get("totalAlternatives"),
                     results.get(0).getAlternativeName(),
-                    results.get(0).getTotalScoreAsDouble()
+                    results.get(0).getTotalScoreAsDouble(),
+                    describeCriteriaWeights()
                 ), normalFont);
             }
             document.add(Chunk.NEWLINE);
@@ -454,6 +507,100 @@ public class PDFReportService {
 
     }
     
+    private String[] createMatrixHeaders(String[] criteriaNames, String suffix) {
+        String[] headers = new String[criteriaNames.length + 1];
+        headers[0] = "Alternatif";
+        for (int i = 0; i < criteriaNames.length; i++) {
+            headers[i + 1] = criteriaNames[i] + suffix;
+        }
+        return headers;
+    }
+    
+    private int[] createMatrixWidths(int criteriaCount) {
+        int[] widths = new int[criteriaCount + 1];
+        widths[0] = 20;
+        for (int i = 1; i < widths.length; i++) {
+            widths[i] = 80 / criteriaCount;
+        }
+        return widths;
+    }
+    
+    private String joinNamesByType(String[] names, String[] types, String type) {
+        StringBuilder joined = new StringBuilder();
+        for (int i = 0; i < names.length; i++) {
+            if (types[i].equals(type)) {
+                if (joined.length() > 0) {
+                    joined.append(", ");
+                }
+                joined.append(names[i]);
+            }
+        }
+        return joined.length() > 0 ? joined.toString() : "-";
+    }
+    
+    private String describeCriteriaWeights() {
+        Map<String, Object> criteriaInfo = sawService.getCriteriaInfo();
+        String[] names = (String[]) criteriaInfo.get("names");
+        double[] weights = (double[]) criteriaInfo.get("weights");
+        
+        StringBuilder description = new StringBuilder();
+        for (int i = 0; i < names.length; i++) {
+            if (i > 0) {
+                description.append(i == names.length - 1 ? ", dan " : ", ");
+            }
+            description.append(String.format("%s (%.0f%%)", names[i].toLowerCase(), weights[i] * 100));
+        }
+        return description.toString();
+    }
+    
+    /**
+     * Tabel ranking SAW, WP dan TOPSIS berdampingan beserta korelasi Spearman terhadap SAW
+     */
+    private void addMethodComparison(Document document) throws DocumentException {
+        McdmComparison comparison = sawService.compareMethods();
+        if (comparison == null) {
+            return;
+        }
+        
+        String[] methods = comparison.getMethodNames();
+        addParagraph(document, "Perbandingan Metode (" + String.join(", ", methods) + ")", headerFont);
+        addParagraph(document, "Ranking dihitung dari matriks keputusan dan bobot yang sama. " +
+                "WP: Si = Π xij^±wj; TOPSIS: Ci = D⁻ / (D⁺ + D⁻).", smallFont);
+        
+        PdfPTable table = new PdfPTable(methods.length * 2 + 1);
+        table.setWidthPercentage(100);
+        
+        String[] headers = new String[methods.length * 2 + 1];
+        headers[0] = "Alternatif";
+        for (int m = 0; m < methods.length; m++) {
+            headers[1 + m * 2] = "Rank " + methods[m];
+            headers[2 + m * 2] = "Skor " + methods[m];
+        }
+        addTableHeader(table, headers);
+        
+        ParetoSkyline skyline = nonDominatedOnly ? sawService.getSkyline() : null;
+        for (int p = 0; p < comparison.size(); p++) {
+            int row = comparison.getRowAtRank(0, p);
+            if (skyline != null && skyline.isDominated(row)) {
+                continue;
+            }
+            String[] data = new String[headers.length];
+            data[0] = comparison.getAlternative(row).getName();
+            for (int m = 0; m < methods.length; m++) {
+                data[1 + m * 2] = String.valueOf(comparison.getRanking(m, row));
+                data[2 + m * 2] = String.format("%.4f", comparison.getScore(m, row));
+            }
+            addTableRow(table, data);
+        }
+        
+        document.add(table);
+        for (int m = 1; m < methods.length; m++) {
+            addParagraph(document, String.format("• Korelasi ranking Spearman %s vs %s: %.4f",
+                    methods[0], methods[m], comparison.getSpearmanCorrelation(0, m)), smallFont);
+        }
+        document.add(Chunk.NEWLINE);
+    }
+    
     private void addParagraph(Document document, String text, Font font) throws DocumentException {
         Paragraph paragraph = new Paragraph(text, font);
         paragraph.setSpacingAfter(10);
@@ -551,7 +698,7 @@ public class PDFReportService {
         }
         
         // Analisis berdasarkan kriteria
-        if (alt.getPrice().compareTo(new java.math.BigDecimal("12000000")) < 0) {
+        if (alt.getPrice() != null && alt.getPrice().compareTo(new java.math.BigDecimal("12000000")) < 0) {
             analysis.append(", harga kompetitif");
         }
         if (alt.getQualityScore() >= 90) {
@@ -0,0 +1,252 @@
+package com.erajaya.datamining.service;
+
+import java.util.Arrays;
+
+/**
+ * Skyline Pareto atas kolom kriteria: alternatif yang tidak didominasi
+ * alternatif lain. Alternatif A mendominasi B jika A tidak lebih buruk di
+ * semua kriteria dan lebih baik di minimal satu kriteria (benefit: lebih
+ * tinggi, cost: lebih rendah). Alternatif yang didominasi tidak mungkin
+ * menjadi peringkat pertama SAW untuk bobot positif mana pun.
+ *
+ * Untuk k <= 3 dipakai Sort-Filter-Skyline: baris diurutkan dengan skor
+ * monoton sehingga pendominasi selalu diperiksa lebih dulu, dan window hanya
+ * berisi titik skyline. Untuk k lebih besar dipakai Block-Nested-Loops.
+ */
+public final class ParetoSkyline {
+    
+    public static final String SFS = "SFS";
+    public static final String BNL = "BNL";
+    
+    private final boolean[] dominated;
+    private final int[] skylineRows;
+    private final String algorithm;
+    
+    private ParetoSkyline(boolean[] dominated, String algorithm) {
+        this.dominated = dominated;
+        this.algorithm = algorithm;
+        
+        int count = 0;
+        for (boolean d : dominated) {
+            if (!d) {
+                count++;
+            }
+        }
+        skylineRows = new int[count];
+        for (int i = 0, s = 0; i < dominated.length; i++) {
+            if (!dominated[i]) {
+                skylineRows[s++] = i;
+            }
+        }
+    }
+    
+    /**
+     * Menghitung skyline
+     * @param columns Matriks keputusan [kriteria][alternatif]
+     * @param isBenefit true untuk kriteria benefit, false untuk cost
+     * @return Skyline beserta penanda baris yang didominasi
+     */
+    public static ParetoSkyline compute(double[][] columns, boolean[] isBenefit) {
+        int k = columns.length;
+        int n = k > 0 ? columns[0].length : 0;
+        
+        // Nilai terorientasi: semakin besar semakin baik untuk semua kriteria
+        double[][] oriented = new double[k][];
+        for (int j = 0; j < k; j++) {
+            if (isBenefit[j]) {
+                oriented[j] = columns[j];
+            } else {
+                oriented[j] = new double[n];
+                for (int i = 0; i < n; i++) {
+                    oriented[j][i] = -columns[j][i];
+                }
+            }
+        }
+        
+        if (k <= 3) {
+            return new ParetoSkyline(sortFilter(oriented, n), SFS);
+        }
+        return new ParetoSkyline(blockNestedLoops(oriented, n, identity(n)), BNL);
+    }
+    
+    /**
+     * Sort-Filter-Skyline: urutkan berdasarkan jumlah nilai ternormalisasi
+     * min-max (fungsi monoton), lalu filter dengan window skyline
+     */
+    private static boolean[] sortFilter(double[][] oriented, int n) {
+        double[] keys = new double[n];
+        for (double[] column : oriented) {
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for (double value : column) {
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+            double range = max - min;
+            if (range > 0) {
+                for (int i = 0; i < n; i++) {
+                    keys[i] += (column[i] - min) / range;
+                }
+            }
+        }
+        
+        // Baris dengan kunci terbesar pasti skyline; baris yang didominasinya
+        // dibuang sebelum diurutkan sehingga pengurutan hanya atas sisa kandidat
+        int pivot = 0;
+        for (int i = 1; i < n; i++) {
+            if (keys[i] > keys[pivot]) {
+                pivot = i;
+            }
+        }
+        
+        boolean[] dominated = new boolean[n];
+        int[] order = new int[n];
+        int candidates = 0;
+        for (int i = 0; i < n; i++) {
+            if (dominates(oriented, pivot, i)) {
+                dominated[i] = true;
+            } else {
+                order[candidates++] = i;
+            }
+        }
+        order = Arrays.copyOf(order, candidates);
+        ColumnarSAWEngine.sortByScoreDesc(order, keys);
+        
+        // Pendominasi punya kunci lebih besar, atau sama jika selisihnya hilang
+        // karena pembulatan; window BNL menangani kasus kunci sama tersebut
+        boolean[] remaining = blockNestedLoops(oriented, n, order);
+        for (int row : order) {
+            dominated[row] = remaining[row];
+        }
+        return dominated;
+    }
+    
+    private static boolean dominates(double[][] oriented, int row, int other) {
+        boolean better = false;
+        for (double[] column : oriented) {
+            if (column[row] < column[other]) {
+                return false;
+            }
+            if (column[row] > column[other]) {
+                better = true;
+            }
+        }
+        return better;
+    }
+    
+    /**
+     * Block-Nested-Loops dengan window di memori. Titik di window yang
+     * didominasi kandidat baru dikeluarkan dari window.
+     * @param order Urutan baris yang diproses
+     * @return Penanda didominasi untuk baris di order
+     */
+    private static boolean[] blockNestedLoops(double[][] oriented, int n, int[] order) {
+        int k = oriented.length;
+        boolean[] dominated = new boolean[n];
+        
+        // Window disimpan rata [titik * k] agar perbandingan tidak melompat antar kolom
+        int[] windowRows = new int[16];
+        double[] windowValues = new double[16 * k];
+        int windowSize = 0;
+        double[] candidate = new double[k];
+        
+        for (int row : order) {
+            for (int j = 0; j < k; j++) {
+                candidate[j] = oriented[j][row];
+            }
+            
+            boolean candidateDominated = false;
+            for (int w = 0; w < windowSize; ) {
+                int cmp = compare(windowValues, w * k, candidate, k);
+                if (cmp > 0) {
+                    candidateDominated = true;
+                    break;
+                }
+                if (cmp < 0) {
+                    // Kandidat mendominasi titik window: tukar dengan titik terakhir
+                    dominated[windowRows[w]] = true;
+                    windowSize--;
+                    windowRows[w] = windowRows[windowSize];
+                    System.arraycopy(windowValues, windowSize * k, windowValues, w * k, k);
+                } else {
+                    w++;
+                }
+            }
+            
+            if (candidateDominated) {
+                dominated[row] = true;
+                continue;
+            }
+            
+            if (windowSize == windowRows.length) {
+                windowRows = Arrays.copyOf(windowRows, windowSize * 2);
+                windowValues = Arrays.copyOf(windowValues, windowSize * 2 * k);
+            }
+            windowRows[windowSize] = row;
+            System.arraycopy(candidate, 0, windowValues, windowSize * k, k);
+            windowSize++;
+        }
+        
+        return dominated;
+    }
+    
+    /**
+     * @return 1 jika titik window mendominasi kandidat, -1 jika sebaliknya, 0 jika tidak ada
+     */
+    private static int compare(double[] values, int offset, double[] candidate, int k) {
+        boolean better = false;
+        boolean worse = false;
+        for (int j = 0; j < k; j++) {
+            double v = values[offset + j];
+            if (v > candidate[j]) {
+                better = true;
+            } else if (v < candidate[j]) {
+                worse = true;
+            }
+            if (better && worse) {
+                return 0;
+            }
+        }
+        if (better) {
+            return 1;
+        }
+        return worse ? -1 : 0;
+    }
+    
+    private static int[] identity(int n) {
+        int[] rows = new int[n];
+        for (int i = 0; i < n; i++) {
+            rows[i] = i;
+        }
+        return rows;
+    }
+    
+    /**
+     * @return true jika baris didominasi alternatif lain
+     */
+    public boolean isDominated(int row) {
+        return dominated[row];
+    }
+    
+    /**
+     * Index baris yang tidak didominasi, urut baris
+     */
+    public int[] getSkylineRows() {
+        return skylineRows.clone();
+    }
+    
+    public int getSkylineSize() {
+        return skylineRows.length;
+    }
+    
+    public int getDominatedCount() {
+        return dominated.length - skylineRows.length;
+    }
+    
+    /**
+     * Algoritma yang dipakai: SFS atau BNL
+     */
+    public String getAlgorithm() {
+        return algorithm;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,296 @@
+package com.erajaya.datamining.service;
+
+import com.erajaya.datamining.model.Alternative;
+import com.erajaya.datamining.model.Criteria;
+import com.erajaya.datamining.model.DecisionMatrix;
+import com.erajaya.datamining.model.SAWResult;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Satu kali perhitungan SAW atas data yang dimuat satu kali.
+ * Matriks keputusan, matriks normalisasi, matriks terbobot, hasil ranking
+ * dan laporan validasi diturunkan dari data yang sama saat pertama kali
+ * diminta, sehingga dialog detail, laporan PDF dan validasi tidak perlu
+ * membaca ulang tabel alternatives.
+ *
+ * Hasil SAW tidak disimpan sebagai objek: list hasil membuat SAWResult dari
+ * kolom engine hanya untuk baris yang dibaca.
+ */
+public class SAWComputation {
+    
+    private final long dataVersion;
+    private final CriteriaRegistry criteria;
+    private final DecisionMatrix matrix;
+    private final ColumnarSAWEngine engine;
+    
+    // Tampilan turunan, dibuat saat pertama kali diminta
+    private boolean computed;
+    private double[][] decisionMatrix;
+    private double[][] normalizedMatrix;
+    private double[][] weightedMatrix;
+    private List<SAWResult> results;
+    private List<SAWResult> resultsByRow;
+    private List<String> validationErrors;
+    private SensitivityAnalysis sensitivity;
+    private McdmComparison methodComparison;
+    private ParetoSkyline skyline;
+    private List<SAWResult> nonDominatedResults;
+    
+    SAWComputation(long dataVersion, CriteriaRegistry criteria, DecisionMatrix matrix, ColumnarSAWEngine engine) {
+        this.dataVersion = dataVersion;
+        this.criteria = criteria;
+        this.matrix = matrix;
+        this.engine = engine;
+    }
+    
+    /**
+     * Engine yang sudah dinormalisasi, dibobot dan diurutkan
+     */
+    synchronized ColumnarSAWEngine getEngine() {
+        if (!computed) {
+            engine.compute(criteria.getWeights(), criteria.getIsBenefit());
+            computed = true;
+        }
+        return engine;
+    }
+    
+    /**
+     * Matriks keputusan [alternatif][kriteria]
+     */
+    public synchronized double[][] getDecisionMatrix() {
+        if (decisionMatrix == null) {
+            decisionMatrix = engine.toRowMatrix(matrix.getColumns());
+        }
+        return decisionMatrix;
+    }
+    
+    /**
+     * Matriks normalisasi [alternatif][kriteria]
+     */
+    public synchronized double[][] getNormalizedMatrix() {
+        if (normalizedMatrix == null) {
+            normalizedMatrix = getEngine().toRowMatrix(engine.getNormalizedColumns());
+        }
+        return normalizedMatrix;
+    }
+    
+    /**
+     * Matriks terbobot (bobot x nilai normalisasi) [alternatif][kriteria]
+     */
+    public synchronized double[][] getWeightedMatrix() {
+        if (weightedMatrix == null) {
+            double[][] normalized = getNormalizedMatrix();
+            double[] weights = criteria.getWeights();
+            weightedMatrix = new double[normalized.length][weights.length];
+            for (int i = 0; i < normalized.length; i++) {
+                for (int j = 0; j < weights.length; j++) {
+                    weightedMatrix[i][j] = weights[j] * normalized[i][j];
+                }
+            }
+        }
+        return weightedMatrix;
+    }
+    
+    /**
+     * Hasil SAW sesuai urutan ranking
+     */
+    public synchronized List<SAWResult> getResults() {
+        if (results == null) {
+            ColumnarSAWEngine ranked = getEngine();
+            results = new ResultView(ranked.size(), ranked::getRowAtRank);
+        }
+        return results;
+    }
+    
+    /**
+     * Hasil SAW sesuai urutan baris matriks (urutan kode alternatif)
+     */
+    public synchronized List<SAWResult> getResultsByRow() {
+        if (resultsByRow == null) {
+            getEngine();
+            resultsByRow = new ResultView(engine.size(), row -> row);
+        }
+        return resultsByRow;
+    }
+    
+    /**
+     * Analisis sensitivitas bobot dari matriks normalisasi yang sama
+     */
+    public synchronized SensitivityAnalysis getSensitivityAnalysis() {
+        if (sensitivity == null) {
+            sensitivity = new SensitivityAnalysis(this);
+        }
+        return sensitivity;
+    }
+    
+    /**
+     * Ranking SAW, WP dan TOPSIS atas matriks keputusan yang sama
+     */
+    public synchronized McdmComparison getMethodComparison() {
+        if (methodComparison == null) {
+            methodComparison = new McdmComparison(this, McdmComparison.defaultEngines());
+        }
+        return methodComparison;
+    }
+    
+    /**
+     * Skyline Pareto atas matriks keputusan
+     */
+    public synchronized ParetoSkyline getSkyline() {
+        if (skyline == null) {
+            skyline = ParetoSkyline.compute(matrix.getColumns(), criteria.getIsBenefit());
+        }
+        return skyline;
+    }
+    
+    /**
+     * Hasil SAW sesuai urutan ranking tanpa alternatif yang didominasi.
+     * Ranking tetap ranking keseluruhan.
+     */
+    public synchronized List<SAWResult> getNonDominatedResults() {
+        if (nonDominatedResults == null) {
+            ColumnarSAWEngine ranked = getEngine();
+            ParetoSkyline pareto = getSkyline();
+            int[] rows = new int[pareto.getSkylineSize()];
+            int count = 0;
+            for (int r = 0; r < ranked.size(); r++) {
+                int row = ranked.getRowAtRank(r);
+                if (!pareto.isDominated(row)) {
+                    rows[count++] = row;
+                }
+            }
+            nonDominatedResults = new ResultView(count, position -> rows[position]);
+        }
+        return nonDominatedResults;
+    }
+    
+    /**
+     * Validasi data sebelum perhitungan SAW
+     * @return List pesan error, kosong jika valid
+     */
+    public synchronized List<String> getValidationErrors() {
+        if (validationErrors == null) {
+            validationErrors = Collections.unmodifiableList(validate());
+        }
+        return validationErrors;
+    }
+    
+    private List<String> validate() {
+        List<String> errors = new ArrayList<>();
+        
+        List<Criteria> criteriaList = matrix.getCriteria();
+        
+        // Alternatif dengan nilai belum diisi tidak ikut dihitung oleh engine mana pun
+        for (DecisionMatrix.IncompleteRow row : matrix.getIncompleteRows()) {
+            for (int j = 0; j < criteriaList.size(); j++) {
+                if (Double.isNaN(row.getValue(j))) {
+                    errors.add("Nilai " + criteriaList.get(j).getName() + " alternatif " + row.getCode() + " belum diisi");
+                }
+            }
+        }
+        
+        if (matrix.isEmpty()) {
+            errors.add("Tidak ada data alternatif untuk dihitung");
+            return errors;
+        }
+        
+        if (matrix.size() < 2) {
+            errors.add("Minimal 2 alternatif diperlukan untuk perhitungan SAW");
+        }
+        
+        // Validasi nilai setiap kriteria: kolom bawaan dengan aturan form
+        // alternatif, kolom evaluations harus > 0 untuk cost
+        for (int j = 0; j < criteriaList.size(); j++) {
+            Criteria c = criteriaList.get(j);
+            String column = matrix.getBuiltInColumn(j);
+            
+            for (int i = 0; i < matrix.size(); i++) {
+                double value = matrix.getValue(i, j);
+                if (column != null) {
+                    AlternativeValidator.validateBuiltInValue(column, matrix.getCode(i), value, errors);
+                } else if (c.isCost() && value <= 0) {
+                    errors.add("Nilai " + c.getName() + " alternatif " + matrix.getCode(i) + " harus lebih besar dari 0");
+                }
+            }
+        }
+        
+        // Validasi bobot (harus total = 1.0)
+        double totalWeight = 0.0;
+        for (double weight : criteria.getWeights()) {
+            totalWeight += weight;
+        }
+        
+        if (Math.abs(totalWeight - 1.0) > 0.001) {
+            errors.add("Total bobot kriteria harus sama dengan 1.0 (saat ini: " + totalWeight + ")");
+        }
+        
+        return errors;
+    }
+    
+    /**
+     * List hasil read-only tanpa salinan: setiap get() membuat SAWResult baru
+     * dari kolom engine untuk baris pada posisi tersebut
+     */
+    private final class ResultView extends AbstractList<SAWResult> implements RandomAccess {
+        private final int size;
+        private final IntUnaryOperator rowAt;
+        private final double[] weights = criteria.getWeights();
+        
+        ResultView(int size, IntUnaryOperator rowAt) {
+            this.size = size;
+            this.rowAt = rowAt;
+        }
+        
+        @Override
+        public SAWResult get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index " + index + ", ukuran " + size);
+            }
+            int row = rowAt.applyAsInt(index);
+            return engine.toResult(row, matrix.getAlternative(row), weights);
+        }
+        
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+    
+    /**
+     * Cek apakah perhitungan masih sesuai dengan data dan kriteria saat ini
+     */
+    public boolean isCurrent(long currentVersion, CriteriaRegistry currentCriteria) {
+        return dataVersion == currentVersion && criteria == currentCriteria;
+    }
+    
+    // Getters
+    public long getDataVersion() {
+        return dataVersion;
+    }
+    
+    public CriteriaRegistry getCriteria() {
+        return criteria;
+    }
+    
+    public DecisionMatrix getMatrix() {
+        return matrix;
+    }
+    
+    public List<Alternative> getAlternatives() {
+        return matrix.getAlternatives();
+    }
+    
+    public int size() {
+        return matrix.size();
+    }
+    
+    public boolean isEmpty() {
+        return matrix.isEmpty();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,145 @@
+package com.erajaya.datamining.service;
+
+import com.erajaya.datamining.dao.AlternativeDAO;
+import com.erajaya.datamining.model.Alternative;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Export hasil ranking SAW ke CSV dengan memori tetap.
+ * Baris dibaca dari cursor streaming saw_results + alternatives dan langsung
+ * ditulis ke file lewat buffer, opsional dikompres gzip. File ditulis ke
+ * file sementara lalu dipindahkan, sehingga export yang gagal atau
+ * dibatalkan tidak meninggalkan file setengah jadi.
+ */
+public class SAWResultExporter {
+    
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int PROGRESS_INTERVAL = 10000;
+    
+    /**
+     * Menerima laporan progres export
+     */
+    public interface ProgressListener {
+        /**
+         * @param written Jumlah baris yang sudah ditulis
+         * @param total Perkiraan jumlah baris seluruhnya
+         */
+        void onProgress(long written, long total);
+    }
+    
+    private final SAWService sawService;
+    private final AlternativeDAO alternativeDAO;
+    
+    public SAWResultExporter(SAWService sawService) {
+        this(sawService, new AlternativeDAO());
+    }
+    
+    public SAWResultExporter(SAWService sawService, AlternativeDAO alternativeDAO) {
+        this.sawService = sawService;
+        this.alternativeDAO = alternativeDAO;
+    }
+    
+    /**
+     * Export seluruh ranking ke file CSV
+     * @param file File tujuan
+     * @param gzip true untuk mengompres dengan gzip
+     * @param listener Penerima progres, boleh null
+     * @return Jumlah baris yang ditulis
+     * @throws IOException Jika file gagal ditulis, data gagal dibaca atau export dibatalkan
+     */
+    public long exportCsv(Path file, boolean gzip, ProgressListener listener) throws IOException {
+        // Pastikan saw_results sesuai data terbaru
+        long total = sawService.getRankedCount();
+        
+        Path absolute = file.toAbsolutePath();
+        Path temp = absolute.resolveSibling(absolute.getFileName() + ".part");
+        long[] written = {0};
+        
+        try {
+            try (Writer writer = openWriter(temp, gzip)) {
+                writer.write("ranking,code,name,price,quality_score,spare_parts_score,total_score,percentage\n");
+                
+                boolean completed = alternativeDAO.streamRanked(alt -> {
+                    if (Thread.currentThread().isInterrupted()) {
+                        return false;
+                    }
+                    try {
+                        writeRow(writer, alt);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    
+                    if (++written[0] % PROGRESS_INTERVAL == 0 && listener != null) {
+                        listener.onProgress(written[0], total);
+                    }
+                    return true;
+                });
+                
+                if (!completed) {
+                    throw new IOException(Thread.currentThread().isInterrupted()
+                        ? "Export dibatalkan"
+                        : "Gagal membaca hasil SAW dari database");
+                }
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            
+            Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        
+        if (listener != null) {
+            listener.onProgress(written[0], total);
+        }
+        return written[0];
+    }
+    
+    private static Writer openWriter(Path file, boolean gzip) throws IOException {
+        FileChannel channel = FileChannel.open(file,
+            StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+        if (gzip) {
+            out = new GZIPOutputStream(out, BUFFER_SIZE);
+        }
+        return new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+    
+    private static void writeRow(Writer writer, Alternative alt) throws IOException {
+        BigDecimal score = alt.getTotalScore();
+        
+        writer.write(Integer.toString(alt.getRanking()));
+        writer.write(',');
+        writer.write(CsvResultSink.escape(alt.getCode()));
+        writer.write(',');
+        writer.write(CsvResultSink.escape(alt.getName()));
+        writer.write(',');
+        writer.write(alt.getPrice() != null ? alt.getPrice().toPlainString() : "");
+        writer.write(',');
+        writer.write(Integer.toString(alt.getQualityScore()));
+        writer.write(',');
+        writer.write(Integer.toString(alt.getSparePartsScore()));
+        writer.write(',');
+        writer.write(score != null ? score.toPlainString() : "");
+        writer.write(',');
+        writer.write(score != null ? score.movePointRight(2).setScale(2, RoundingMode.HALF_UP).toPlainString() : "");
+        writer.write('\n');
+    }
+}
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.erajaya.datamining.service;
+
+/**
+ * Tujuan skor SAW pada mode streaming. Skor diterima satu per satu
+ * sehingga penerima tidak perlu menampung seluruh alternatif.
+ */
+public interface SAWResultSink {
+    
+    /**
+     * Dipanggil sekali sebelum baris pertama
+     * @param builtInColumns Kolom tabel alternatives per kriteria (null jika
+     *                       nilainya dari evaluations), sesuai urutan values
+     * @return true jika sink siap menerima skor
+     */
+    boolean begin(String[] builtInColumns);
+    
+    /**
+     * Menerima skor satu alternatif (urutan sesuai kode, belum berdasarkan
+     * ranking). Tidak ada objek yang dibuat per baris; sink yang perlu
+     * menyimpan baris harus menyalin values.
+     * @param id ID alternatif
+     * @param code Kode alternatif
+     * @param name Nama alternatif
+     * @param values Nilai per kriteria; array dipakai ulang antar baris
+     * @param score Nilai preferensi
+     */
+    void accept(int id, String code, String name, double[] values, double score);
+    
+    /**
+     * Dipanggil sekali setelah baris terakhir
+     * @param completed false jika streaming terhenti karena error
+     * @return true jika hasil berhasil disimpan
+     */
+    boolean finish(boolean completed);
+    
+    /**
+     * @return true jika sink mengisi ulang tabel saw_results
+     */
+    default boolean writesResultsTable() {
+        return false;
+    }
+}
\ No newline at end of file
@@ -1,15 +1,15 @@
 package com.erajaya.datamining.service;
 
-import com.erajaya.datamining.config.DatabaseConfig;
 import com.erajaya.datamining.dao.AlternativeDAO;
+import com.erajaya.datamining.dao.DecisionMatrixDAO;
+import com.erajaya.datamining.dao.SAWResultDAO;
+import com.erajaya.datamining.dao.ScenarioResultDAO;
 import com.erajaya.datamining.model.Alternative;
+import com.erajaya.datamining.model.Criteria;
+import com.erajaya.datamining.model.DecisionMatrix;
 import com.erajaya.datamining.model.SAWResult;
+import com.erajaya.datamining.model.WeightScenario;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.SQLException;
 import java.util.*;
 
 /**
@@ -18,247 +18,552 @@ import java.util.*;
 public class SAWService {
     
     private final AlternativeDAO alternativeDAO;
+    private final DecisionMatrixDAO decisionMatrixDAO;
+    private final SAWResultDAO sawResultDAO;
+    private final ScenarioResultDAO scenarioResultDAO;
     
-    // Bobot kriteria: Harga (0.4), Kualitas (0.35), Suku Cadang (0.25)
-    private static final double[] WEIGHTS = {0.40, 0.35, 0.25};
-    private static final String[] CRITERIA_NAMES = {"Harga", "Kualitas", "Suku Cadang"};
-    private static final boolean[] IS_BENEFIT = {false, true, true}; // Harga = cost, lainnya = benefit
+    // State hasil SAW dimiliki kelas ini (static), bukan per instance: semua
+    // instance service membaca snapshot, ranker dan versi saw_results yang
+    // sama, dan semuanya hanya diubah di bawah SNAPSHOT_LOCK.
+    private static final Object SNAPSHOT_LOCK = new Object();
+    
+    // Snapshot hasil terakhir (read-only, lihat SAWSnapshot)
+    private static volatile SAWSnapshot snapshot;
+    
+    // Ranking inkremental yang sama dengan isi saw_results, diisi setelah
+    // perhitungan penuh pertama
+    private static IncrementalSAWRanker ranker;
+    
+    // Versi data (AlternativeDAO.getChangeVersion) dan kriteria yang tercermin
+    // di saw_results; -1 jika isi tabel tidak diketahui
+    private static volatile long resultsVersion = -1;
+    private static volatile CriteriaRegistry resultsCriteria;
+    
+    // Mode paralel: -Dsaw.parallelism=<jumlah thread>, -Dsaw.parallelThreshold=<jumlah baris>
+    private int parallelism = Integer.getInteger("saw.parallelism", Runtime.getRuntime().availableProcessors());
+    private int parallelThreshold = Integer.getInteger("saw.parallelThreshold", ColumnarSAWEngine.DEFAULT_PARALLEL_THRESHOLD);
     
     public SAWService() {
         this.alternativeDAO = new AlternativeDAO();
+        this.decisionMatrixDAO = new DecisionMatrixDAO();
+        this.sawResultDAO = new SAWResultDAO();
+        this.scenarioResultDAO = new ScenarioResultDAO();
     }
     
     /**
-     * Menghitung SAW untuk semua alternatif
-     * @return List hasil SAW yang sudah diurutkan berdasarkan ranking
+     * Mengatur mode paralel perhitungan SAW
+     * @param threads Jumlah thread (1 = selalu sekuensial)
+     * @param threshold Jumlah alternatif minimum untuk berjalan paralel
      */
-    public List<SAWResult> calculateSAW() {
-        // Ambil semua alternatif
-        List<Alternative> alternatives = alternativeDAO.findAll();
-        
-        if (alternatives.isEmpty()) {
-            return new ArrayList<>();
-        }
-        
-        // 1. Buat matriks keputusan
-        double[][] decisionMatrix = createDecisionMatrix(alternatives);
-        
-        // 2. Normalisasi matriks
-        double[][] normalizedMatrix = normalizeMatrix(decisionMatrix);
-        
-        // 3. Hitung nilai preferensi
-        List<SAWResult> results = calculatePreferenceValues(alternatives, normalizedMatrix);
-        
-        // 4. Urutkan berdasarkan nilai preferensi (descending)
-        results.sort((a, b) -> b.getTotalScore().compareTo(a.getTotalScore()));
-        
-        // 5. Set ranking
-        for (int i = 0; i < results.size(); i++) {
-            results.get(i).setRanking(i + 1);
+    public void setParallelism(int threads, int threshold) {
+        this.parallelism = Math.max(1, threads);
+        this.parallelThreshold = Math.max(1, threshold);
+    }
+    
+    private ColumnarSAWEngine createEngine(DecisionMatrix matrix) {
+        return ColumnarSAWEngine.fromMatrix(matrix).withParallelism(parallelism, parallelThreshold);
+    }
+    
+    /**
+     * Memuat data satu kali untuk satu perhitungan SAW
+     * @param criteria Kriteria yang berlaku untuk perhitungan ini
+     */
+    private SAWComputation loadComputation(CriteriaRegistry criteria) {
+        // Versi dibaca sebelum data dimuat agar perubahan di tengah perhitungan tidak terlewat
+        long version = AlternativeDAO.getChangeVersion();
+        DecisionMatrix matrix = decisionMatrixDAO.load(criteria.getCriteria());
+        return new SAWComputation(version, criteria, matrix, createEngine(matrix));
+    }
+    
+    /**
+     * Perhitungan untuk data saat ini: dari snapshot jika masih berlaku,
+     * jika tidak dimuat baru tanpa menyimpan hasil
+     */
+    private SAWComputation currentComputation() {
+        CriteriaRegistry criteria = CriteriaRegistry.getInstance();
+        SAWSnapshot current = snapshot;
+        if (current != null && current.isCurrent(AlternativeDAO.getChangeVersion(), criteria)) {
+            return current.getComputation();
         }
-        
-        // 6. Simpan hasil ke database
-        saveSAWResults(results);
-        
-        return results;
+        return loadComputation(criteria);
     }
     
     /**
-     * Membuat matriks keputusan dari alternatif
-     * @param alternatives List alternatif
-     * @return Matriks keputusan [alternatif][kriteria]
+     * Menghitung SAW untuk semua alternatif dan menyimpannya ke saw_results
+     * @return List hasil SAW read-only yang sudah diurutkan berdasarkan ranking.
+     *         SAWResult dibuat saat baris dibaca, bukan saat perhitungan.
+     * @throws IllegalStateException jika hasil gagal disimpan ke saw_results
+     *         (snapshot di memori tetap diperbarui)
      */
-    private double[][] createDecisionMatrix(List<Alternative> alternatives) {
-        int numAlternatives = alternatives.size();
-        int numCriteria = 3; // Harga, Kualitas, Suku Cadang
-        
-        double[][] matrix = new double[numAlternatives][numCriteria];
-        
-        for (int i = 0; i < numAlternatives; i++) {
-            Alternative alt = alternatives.get(i);
-            matrix[i][0] = alt.getPriceAsDouble();        // Harga
-            matrix[i][1] = alt.getQualityScore();         // Kualitas
-            matrix[i][2] = alt.getSparePartsScore();      // Suku Cadang
+    public List<SAWResult> calculateSAW() {
+        synchronized (SNAPSHOT_LOCK) {
+            if (!recalculate()) {
+                throw new IllegalStateException("Hasil SAW gagal disimpan ke saw_results");
+            }
+            return snapshot.getResults();
         }
-        
-        return matrix;
     }
     
     /**
-     * Normalisasi matriks keputusan
-     * @param decisionMatrix Matriks keputusan
-     * @return Matriks yang sudah dinormalisasi
+     * Perhitungan penuh yang memperbarui snapshot dan saw_results
+     * @return false jika hasil gagal disimpan
      */
-    private double[][] normalizeMatrix(double[][] decisionMatrix) {
-        int numAlternatives = decisionMatrix.length;
-        int numCriteria = decisionMatrix[0].length;
-        
-        double[][] normalizedMatrix = new double[numAlternatives][numCriteria];
-        
-        // Untuk setiap kriteria
-        for (int j = 0; j < numCriteria; j++) {
-            if (IS_BENEFIT[j]) {
-                // Kriteria benefit: nilai dibagi dengan nilai maksimum
-                double maxValue = findMaxInColumn(decisionMatrix, j);
-                for (int i = 0; i < numAlternatives; i++) {
-                    normalizedMatrix[i][j] = decisionMatrix[i][j] / maxValue;
-                }
+    private boolean recalculate() {
+        synchronized (SNAPSHOT_LOCK) {
+            // Perhitungan penuh membaca ulang bobot dari tabel criteria
+            CriteriaRegistry criteria = CriteriaRegistry.reload();
+            
+            // Ambil semua alternatif beserta nilai setiap kriteria
+            SAWComputation computation = loadComputation(criteria);
+            
+            if (computation.isEmpty()) {
+                ranker = null;
+                markResults(computation.getDataVersion(), criteria);
+                snapshot = new SAWSnapshot(computation);
+                return true;
+            }
+            
+            // 1-4. Matriks keputusan kolom, normalisasi, nilai preferensi dan ranking
+            ColumnarSAWEngine engine = computation.getEngine();
+            
+            // 5. Simpan hasil ke database langsung dari kolom skor
+            boolean saved = saveSAWResults(engine) >= 0;
+            if (saved) {
+                ranker = IncrementalSAWRanker.fromEngine(engine, criteria.getWeights(), criteria.getIsBenefit());
+                markResults(computation.getDataVersion(), criteria);
             } else {
-                // Kriteria cost: nilai minimum dibagi dengan nilai
-                double minValue = findMinInColumn(decisionMatrix, j);
-                for (int i = 0; i < numAlternatives; i++) {
-                    normalizedMatrix[i][j] = minValue / decisionMatrix[i][j];
-                }
+                ranker = null;
+                markResults(-1, null);
             }
+            
+            // 6. Hasil sesuai urutan ranking, dipakai bersama lewat snapshot
+            snapshot = new SAWSnapshot(computation);
+            return saved;
         }
-        
-        return normalizedMatrix;
+    }
+    
+    private static void markResults(long version, CriteriaRegistry criteria) {
+        resultsVersion = version;
+        resultsCriteria = criteria;
     }
     
     /**
-     * Mencari nilai maksimum dalam kolom
+     * Memastikan saw_results sesuai data dan kriteria saat ini. Perubahan yang
+     * sudah diterapkan secara inkremental (onAlternativeSaved/Deleted) tidak
+     * memicu perhitungan penuh; perubahan lain (import, hapus massal, bobot)
+     * menghitung ulang semua hasil.
      */
-    private double findMaxInColumn(double[][] matrix, int column) {
-        double max = matrix[0][column];
-        for (int i = 1; i < matrix.length; i++) {
-            if (matrix[i][column] > max) {
-                max = matrix[i][column];
+    private void ensureResultsCurrent() {
+        if (isResultsCurrent()) {
+            return;
+        }
+        synchronized (SNAPSHOT_LOCK) {
+            if (!isResultsCurrent()) {
+                recalculate();
             }
         }
-        return max;
+    }
+    
+    private static boolean isResultsCurrent() {
+        return resultsVersion == AlternativeDAO.getChangeVersion()
+            && resultsCriteria == CriteriaRegistry.getInstance();
     }
     
     /**
-     * Mencari nilai minimum dalam kolom
+     * Mendapatkan snapshot hasil SAW. Perhitungan ulang (dan penulisan ke
+     * saw_results) hanya terjadi jika data alternatif atau kriteria berubah
+     * sejak snapshot terakhir.
+     * @return Snapshot yang sesuai dengan data saat ini
      */
-    private double findMinInColumn(double[][] matrix, int column) {
-        double min = matrix[0][column];
-        for (int i = 1; i < matrix.length; i++) {
-            if (matrix[i][column] < min) {
-                min = matrix[i][column];
+    public SAWSnapshot getSnapshot() {
+        SAWSnapshot current = snapshot;
+        if (current != null && current.isCurrent(AlternativeDAO.getChangeVersion(), CriteriaRegistry.getInstance())) {
+            return current;
+        }
+        
+        synchronized (SNAPSHOT_LOCK) {
+            current = snapshot;
+            if (current == null || !current.isCurrent(AlternativeDAO.getChangeVersion(), CriteriaRegistry.getInstance())) {
+                recalculate();
+                current = snapshot;
             }
+            return current;
         }
-        return min;
     }
     
     /**
-     * Menghitung nilai preferensi untuk setiap alternatif
-     * @param alternatives List alternatif
-     * @param normalizedMatrix Matriks yang sudah dinormalisasi
-     * @return List hasil SAW
+     * Menghitung SAW dalam dua tahap tanpa memuat seluruh tabel ke memori.
+     * Tahap 1 mengambil min/max setiap kriteria dengan agregasi SQL, tahap 2
+     * membaca alternatif lewat cursor streaming dan mengirim skor setiap
+     * baris langsung ke sink (saw_results, CSV atau top-K). Alternatif
+     * yang nilai kriterianya belum lengkap dilewati.
+     *
+     * Jika sink menulis saw_results, perhitungan berjalan di bawah
+     * SNAPSHOT_LOCK seperti calculateSAWInDatabase dan hasilnya ditandai
+     * sesuai data, sehingga pembaca berikutnya tidak menghitung ulang.
+     * @param sink Tujuan skor
+     * @return Jumlah alternatif yang dihitung, atau -1 jika gagal
      */
-    private List<SAWResult> calculatePreferenceValues(List<Alternative> alternatives, 
-                                                     double[][] normalizedMatrix) {
-        List<SAWResult> results = new ArrayList<>();
+    public int calculateSAWStreaming(SAWResultSink sink) {
+        if (!sink.writesResultsTable()) {
+            return streamScores(sink, CriteriaRegistry.getInstance());
+        }
         
-        for (int i = 0; i < alternatives.size(); i++) {
-            Alternative alt = alternatives.get(i);
+        synchronized (SNAPSHOT_LOCK) {
+            CriteriaRegistry criteria = CriteriaRegistry.getInstance();
+            long version = AlternativeDAO.getChangeVersion();
+            int count = streamScores(sink, criteria);
             
-            // Hitung nilai preferensi: sum(wi * rij)
-            double preferenceValue = 0.0;
-            for (int j = 0; j < normalizedMatrix[i].length; j++) {
-                preferenceValue += WEIGHTS[j] * normalizedMatrix[i][j];
+            // Ranking inkremental dibangun ulang dari perhitungan penuh berikutnya
+            ranker = null;
+            markResults(count >= 0 ? version : -1, count >= 0 ? criteria : null);
+            return count;
+        }
+    }
+    
+    private int streamScores(SAWResultSink sink, CriteriaRegistry criteria) {
+        List<Criteria> criteriaList = criteria.getCriteria();
+        String[] builtInColumns = DecisionMatrixDAO.getBuiltInColumns(criteriaList);
+        double[] weights = criteria.getWeights();
+        boolean[] isBenefit = criteria.getIsBenefit();
+        
+        // Tahap 1: nilai acuan normalisasi (max untuk benefit, min untuk cost)
+        double[][] extremes = decisionMatrixDAO.loadColumnExtremes(criteriaList);
+        if (extremes == null) {
+            return sink.begin(builtInColumns) && sink.finish(true) ? 0 : -1;
+        }
+        
+        double[] reference = new double[weights.length];
+        for (int j = 0; j < reference.length; j++) {
+            reference[j] = isBenefit[j] ? extremes[1][j] : extremes[0][j];
+        }
+        
+        if (!sink.begin(builtInColumns)) {
+            return -1;
+        }
+        
+        // Tahap 2: satu baris dibaca, dinilai, lalu dilepas
+        int[] count = {0};
+        boolean completed = decisionMatrixDAO.stream(criteriaList, (id, code, name, values) -> {
+            if (!DecisionMatrix.isComplete(values)) {
+                return; // Dilewati seperti pada engine Java dan SQL
             }
+            double score = 0.0;
+            for (int j = 0; j < values.length; j++) {
+                double normalized = isBenefit[j] ? values[j] / reference[j] : reference[j] / values[j];
+                score += weights[j] * normalized;
+            }
+            sink.accept(id, code, name, values, score);
+            count[0]++;
+        });
+        
+        return sink.finish(completed) ? count[0] : -1;
+    }
+    
+    /**
+     * Menghitung ulang saw_results sepenuhnya di MySQL (satu INSERT ... SELECT)
+     * @return Jumlah alternatif yang dihitung, atau -1 jika gagal
+     */
+    public int calculateSAWInDatabase() {
+        CriteriaRegistry criteria = CriteriaRegistry.getInstance();
+        SqlPushdownSAWEngine engine = new SqlPushdownSAWEngine(
+            criteria.getCriteria(), criteria.getWeights(), criteria.getIsBenefit());
+        
+        synchronized (SNAPSHOT_LOCK) {
+            long version = AlternativeDAO.getChangeVersion();
+            int count = engine.execute();
             
-            // Buat SAW result
-            SAWResult result = new SAWResult(alt, 
-                BigDecimal.valueOf(preferenceValue).setScale(4, RoundingMode.HALF_UP), 
-                0); // ranking akan diset nanti
-            
-            // Set detail perhitungan
-            BigDecimal[] normalizedValues = new BigDecimal[normalizedMatrix[i].length];
-            BigDecimal[] weightedValues = new BigDecimal[normalizedMatrix[i].length];
-            
-            for (int j = 0; j < normalizedMatrix[i].length; j++) {
-                normalizedValues[j] = BigDecimal.valueOf(normalizedMatrix[i][j])
-                    .setScale(4, RoundingMode.HALF_UP);
-                weightedValues[j] = BigDecimal.valueOf(WEIGHTS[j] * normalizedMatrix[i][j])
-                    .setScale(4, RoundingMode.HALF_UP);
+            // Ranking inkremental dibangun ulang dari perhitungan penuh berikutnya
+            ranker = null;
+            markResults(count >= 0 ? version : -1, count >= 0 ? criteria : null);
+            return count;
+        }
+    }
+    
+    /**
+     * Menyimpan hasil SAW ke database. Hanya baris yang skor atau
+     * ranking-nya berubah yang ditulis, dalam satu transaksi.
+     * @param engine Engine yang sudah dihitung
+     * @return Jumlah baris yang ditulis, -1 jika gagal
+     */
+    private int saveSAWResults(ColumnarSAWEngine engine) {
+        int n = engine.size();
+        int[] ids = new int[n];
+        int[] ranks = new int[n];
+        for (int row = 0; row < n; row++) {
+            ids[row] = engine.getId(row);
+            ranks[row] = engine.getRanking(row);
+        }
+        
+        return sawResultDAO.replaceAll(ids, engine.getScores(), ranks);
+    }
+    
+    /**
+     * Memperbarui ranking setelah satu alternatif ditambah atau diubah.
+     * Hanya skor alternatif tersebut yang dihitung ulang, kecuali nilai
+     * min/max suatu kriteria ikut bergeser. Dipanggil tepat setelah
+     * penyimpanan; jika ada perubahan lain yang belum diterapkan, hasil
+     * dibiarkan usang dan dihitung ulang penuh saat dibutuhkan.
+     * Berisi akses database, jangan dipanggil dari EDT.
+     * @param alternativeId ID alternatif yang disimpan
+     */
+    public void onAlternativeSaved(int alternativeId) {
+        synchronized (SNAPSHOT_LOCK) {
+            long version = AlternativeDAO.getChangeVersion();
+            if (!canApplyIncrementally(version)) {
+                return; // Ranking dihitung ulang penuh saat dibutuhkan
             }
             
-            result.setNormalizedValues(normalizedValues);
-            result.setWeightedValues(weightedValues);
+            double[] values = decisionMatrixDAO.loadRow(resultsCriteria.getCriteria(), alternativeId);
+            if (values == null) {
+                return;
+            }
             
-            results.add(result);
+            IncrementalSAWRanker.Change change = ranker.upsert(alternativeId, values);
+            applyRankChanges(ranker.getAffectedRanks(change), version);
         }
-        
-        return results;
     }
     
     /**
-     * Menyimpan hasil SAW ke database
-     * @param results List hasil SAW
+     * Memperbarui ranking setelah satu alternatif dihapus.
+     * Berisi akses database, jangan dipanggil dari EDT.
+     * @param alternativeId ID alternatif yang dihapus
      */
-    private void saveSAWResults(List<SAWResult> results) {
-        String deleteSql = "DELETE FROM saw_results";
-        String insertSql = "INSERT INTO saw_results (alternative_id, total_score, ranking) VALUES (?, ?, ?)";
-        
-        try (Connection conn = DatabaseConfig.getConnection()) {
-            // Hapus hasil lama
-            try (PreparedStatement deleteStmt = conn.prepareStatement(deleteSql)) {
-                deleteStmt.executeUpdate();
+    public void onAlternativeDeleted(int alternativeId) {
+        synchronized (SNAPSHOT_LOCK) {
+            long version = AlternativeDAO.getChangeVersion();
+            if (!canApplyIncrementally(version)) {
+                return;
             }
             
-            // Insert hasil baru
-            try (PreparedStatement insertStmt = conn.prepareStatement(insertSql)) {
-                for (SAWResult result : results) {
-                    insertStmt.setInt(1, result.getAlternativeId());
-                    insertStmt.setBigDecimal(2, result.getTotalScore());
-                    insertStmt.setInt(3, result.getRanking());
-                    insertStmt.executeUpdate();
-                }
+            IncrementalSAWRanker.Change change = ranker.remove(alternativeId);
+            if (change != null) {
+                // Baris saw_results milik alternatif terhapus ikut terhapus (ON DELETE CASCADE)
+                applyRankChanges(ranker.getAffectedRanks(change), version);
+            } else {
+                markResults(version, resultsCriteria);
             }
-        } catch (SQLException e) {
-            System.err.println("Error saat menyimpan hasil SAW: " + e.getMessage());
         }
     }
     
+    /**
+     * Perubahan bisa diterapkan inkremental jika saw_results tepat satu
+     * perubahan di belakang versi data dan kriteria tidak berubah
+     */
+    private static boolean canApplyIncrementally(long version) {
+        return ranker != null
+            && resultsVersion == version - 1
+            && resultsCriteria == CriteriaRegistry.getInstance();
+    }
+    
+    /**
+     * Menulis baris yang bergeser lalu menandai saw_results sesuai versi data
+     */
+    private void applyRankChanges(List<int[]> affected, long version) {
+        if (saveRankChanges(affected, ranker)) {
+            markResults(version, resultsCriteria);
+        } else {
+            // Isi tabel tidak lagi sama dengan ranker
+            ranker = null;
+            markResults(-1, null);
+        }
+    }
+    
+    /**
+     * Menyimpan skor dan ranking baris yang bergeser saja
+     * @param affected Pasangan [id, ranking] yang berubah
+     * @param current Ranker sumber skor
+     * @return true jika berhasil
+     */
+    private boolean saveRankChanges(List<int[]> affected, IncrementalSAWRanker current) {
+        if (affected.isEmpty()) {
+            return true;
+        }
+        
+        int[] ids = new int[affected.size()];
+        double[] scores = new double[ids.length];
+        int[] ranks = new int[ids.length];
+        
+        for (int i = 0; i < ids.length; i++) {
+            int[] row = affected.get(i);
+            ids[i] = row[0];
+            scores[i] = current.getEntry(row[0]).getScore();
+            ranks[i] = row[1];
+        }
+        
+        // Alternatif baru belum punya baris hasil, upsert menangani keduanya
+        return sawResultDAO.upsert(ids, scores, ranks);
+    }
+    
     /**
      * Mendapatkan detail perhitungan SAW untuk laporan
      * @return Map berisi detail perhitungan
      */
     public Map<String, Object> getSAWCalculationDetails() {
-        List<Alternative> alternatives = alternativeDAO.findAll();
+        SAWSnapshot current = getSnapshot();
         
-        if (alternatives.isEmpty()) {
+        if (current.isEmpty()) {
             return new HashMap<>();
         }
         
-        double[][] decisionMatrix = createDecisionMatrix(alternatives);
-        double[][] normalizedMatrix = normalizeMatrix(decisionMatrix);
-        List<SAWResult> results = calculatePreferenceValues(alternatives, normalizedMatrix);
-        
+        // Matriks disalin oleh snapshot agar map ini aman diubah pemanggil
         Map<String, Object> details = new HashMap<>();
-        details.put("alternatives", alternatives);
-        details.put("decisionMatrix", decisionMatrix);
-        details.put("normalizedMatrix", normalizedMatrix);
-        details.put("results", results);
-        details.put("criteriaNames", CRITERIA_NAMES);
-        details.put("weights", WEIGHTS);
-        details.put("isBenefit", IS_BENEFIT);
+        details.put("alternatives", current.getAlternatives());
+        details.put("decisionMatrix", current.getDecisionMatrix());
+        details.put("normalizedMatrix", current.getNormalizedMatrix());
+        details.put("weightedMatrix", current.getWeightedMatrix());
+        details.put("results", current.getResultsByRow());
+        details.put("criteriaNames", current.getCriteria().getNames());
+        details.put("weights", current.getCriteria().getWeights());
+        details.put("isBenefit", current.getCriteria().getIsBenefit());
         
         return details;
     }
     
+    /**
+     * Analisis sensitivitas bobot: perubahan bobot setiap kriteria yang
+     * membuat dua alternatif bertukar ranking, tanpa menghitung ulang SAW
+     * @return Hasil analisis, null jika belum ada data alternatif
+     */
+    public SensitivityAnalysis getSensitivityAnalysis() {
+        SAWComputation computation = getSnapshot().getComputation();
+        return computation.isEmpty() ? null : computation.getSensitivityAnalysis();
+    }
+    
+    /**
+     * Skyline Pareto data saat ini: alternatif yang tidak didominasi
+     * (tidak ada alternatif lain yang lebih murah sekaligus tidak lebih buruk
+     * di kriteria lain)
+     * @return Skyline, null jika belum ada data alternatif
+     */
+    public ParetoSkyline getSkyline() {
+        SAWComputation computation = getSnapshot().getComputation();
+        return computation.isEmpty() ? null : computation.getSkyline();
+    }
+    
+    /**
+     * Mendapatkan hasil SAW tanpa alternatif yang didominasi
+     * @return List SAWResult urut ranking (ranking keseluruhan)
+     */
+    public List<SAWResult> getNonDominatedResults() {
+        return getSnapshot().getComputation().getNonDominatedResults();
+    }
+    
+    /**
+     * Perbandingan ranking SAW dengan Weighted Product dan TOPSIS pada data
+     * dan bobot yang sama, untuk keperluan audit
+     * @return Hasil perbandingan, null jika belum ada data alternatif
+     */
+    public McdmComparison compareMethods() {
+        SAWComputation computation = getSnapshot().getComputation();
+        return computation.isEmpty() ? null : computation.getMethodComparison();
+    }
+    
+    /**
+     * Membuat simulasi ketidakpastian bobot (SMAA) di atas matriks normalisasi
+     * hasil terakhir. Distribusi bobot default adalah Dirichlet seragam;
+     * atur dengan withDirichlet atau withIntervals sebelum run().
+     * @return Simulator, null jika belum ada data alternatif
+     */
+    public SMAASimulator createSMAASimulator() {
+        SAWComputation computation = getSnapshot().getComputation();
+        return computation.isEmpty() ? null : new SMAASimulator(computation).withParallelism(parallelism);
+    }
+    
+    /**
+     * Menghitung ranking untuk beberapa skenario bobot sekaligus di atas
+     * matriks normalisasi yang sama, lalu menyimpannya ke saw_scenario_results.
+     * Semua skenario dinilai dalam satu perkalian blok (n x k) x (k x S);
+     * saw_results tidak ikut ditulis ulang.
+     * @param scenarios Skenario bobot, bobot sesuai urutan kriteria
+     * @return Ranking per skenario sesuai urutan input, ID skenario sudah diisi
+     * @throws IllegalArgumentException jika jumlah bobot tidak sesuai kriteria
+     *         atau ada bobot negatif / bukan angka
+     * @throws IllegalStateException jika hasil skenario gagal disimpan
+     */
+    public List<ScenarioRanking> evaluateScenarios(List<WeightScenario> scenarios) {
+        int k = CriteriaRegistry.getInstance().size();
+        double[][] weightSets = new double[scenarios.size()][];
+        for (int s = 0; s < scenarios.size(); s++) {
+            double[] weights = scenarios.get(s).getWeights();
+            if (weights == null || weights.length != k) {
+                throw new IllegalArgumentException("Skenario " + scenarios.get(s).getName()
+                    + " harus memiliki " + k + " bobot kriteria");
+            }
+            for (double weight : weights) {
+                if (!(weight >= 0) || Double.isInfinite(weight)) {
+                    throw new IllegalArgumentException("Bobot skenario " + scenarios.get(s).getName()
+                        + " harus berupa angka tidak negatif (" + weight + ")");
+                }
+            }
+            weightSets[s] = weights;
+        }
+        
+        SAWComputation computation = currentComputation();
+        List<ScenarioRanking> rankings = new ArrayList<>(scenarios.size());
+        if (computation.isEmpty() || scenarios.isEmpty()) {
+            return rankings;
+        }
+        
+        ColumnarSAWEngine engine = computation.getEngine();
+        double[][] scores = engine.scoreScenarios(weightSets);
+        
+        int[][] ranks = new int[scenarios.size()][];
+        for (int s = 0; s < scenarios.size(); s++) {
+            ScenarioRanking ranking = new ScenarioRanking(scenarios.get(s), computation.getAlternatives(),
+                scores[s], engine.rankOrder(scores[s]));
+            ranks[s] = ranking.getRanks();
+            rankings.add(ranking);
+        }
+        
+        if (!scenarioResultDAO.saveAll(scenarios, computation.getMatrix().getIds(), scores, ranks)) {
+            throw new IllegalStateException("Gagal menyimpan hasil skenario bobot");
+        }
+        return rankings;
+    }
+    
+    /**
+     * Mendapatkan semua skenario bobot yang pernah disimpan
+     */
+    public List<WeightScenario> getScenarios() {
+        return scenarioResultDAO.findAllScenarios();
+    }
+    
+    /**
+     * Mendapatkan ranking teratas skenario tersimpan
+     * @param scenarioId ID skenario
+     * @param limit Jumlah baris
+     * @return List SAWResult urut ranking skenario
+     */
+    public List<SAWResult> getScenarioResults(int scenarioId, int limit) {
+        List<SAWResult> results = new ArrayList<>();
+        for (Alternative alt : scenarioResultDAO.findTopRanked(scenarioId, limit)) {
+            results.add(new SAWResult(alt, alt.getTotalScore(), alt.getRanking()));
+        }
+        return results;
+    }
+    
     /**
      * Mendapatkan matriks keputusan dalam format string untuk tampilan
      * @return String array untuk tabel
      */
     public String[][] getDecisionMatrixDisplay() {
-        List<Alternative> alternatives = alternativeDAO.findAll();
+        SAWComputation computation = getSnapshot().getComputation();
         
-        if (alternatives.isEmpty()) {
+        if (computation.isEmpty()) {
             return new String[0][0];
         }
         
-        double[][] matrix = createDecisionMatrix(alternatives);
-        String[][] display = new String[alternatives.size()][4]; // Code + 3 kriteria
+        CriteriaRegistry criteria = computation.getCriteria();
+        DecisionMatrix source = computation.getMatrix();
+        double[][] matrix = computation.getDecisionMatrix();
+        String[][] display = new String[source.size()][criteria.size() + 1]; // Code + k kriteria
         
-        for (int i = 0; i < alternatives.size(); i++) {
-            display[i][0] = alternatives.get(i).getCode();
-            display[i][1] = String.format("%.2f", matrix[i][0]); // Harga
-            display[i][2] = String.format("%.0f", matrix[i][1]); // Kualitas
-            display[i][3] = String.format("%.0f", matrix[i][2]); // Suku Cadang
+        for (int i = 0; i < source.size(); i++) {
+            display[i][0] = source.getCode(i);
+            for (int j = 0; j < matrix[i].length; j++) {
+                display[i][j + 1] = criteria.formatValue(j, matrix[i][j]);
+            }
         }
         
         return display;
@@ -269,21 +574,21 @@ public class SAWService {
      * @return String array untuk tabel
      */
     public String[][] getNormalizedMatrixDisplay() {
-        List<Alternative> alternatives = alternativeDAO.findAll();
+        SAWComputation computation = getSnapshot().getComputation();
         
-        if (alternatives.isEmpty()) {
+        if (computation.isEmpty()) {
             return new String[0][0];
         }
         
-        double[][] decisionMatrix = createDecisionMatrix(alternatives);
-        double[][] normalizedMatrix = normalizeMatrix(decisionMatrix);
-        String[][] display = new String[alternatives.size()][4]; // Code + 3 kriteria
+        DecisionMatrix source = computation.getMatrix();
+        double[][] normalized = computation.getNormalizedMatrix();
+        String[][] display = new String[source.size()][computation.getCriteria().size() + 1]; // Code + k kriteria
         
-        for (int i = 0; i < alternatives.size(); i++) {
-            display[i][0] = alternatives.get(i).getCode();
-            display[i][1] = String.format("%.4f", normalizedMatrix[i][0]);
-            display[i][2] = String.format("%.4f", normalizedMatrix[i][1]);
-            display[i][3] = String.format("%.4f", normalizedMatrix[i][2]);
+        for (int i = 0; i < source.size(); i++) {
+            display[i][0] = source.getCode(i);
+            for (int j = 0; j < normalized[i].length; j++) {
+                display[i][j + 1] = String.format("%.4f", normalized[i][j]);
+            }
         }
         
         return display;
@@ -294,7 +599,33 @@ public class SAWService {
      * @return List SAWResult yang sudah diurutkan
      */
     public List<SAWResult> getSAWResults() {
-        return calculateSAW();
+        return getSnapshot().getResults();
+    }
+    
+    /**
+     * Jumlah baris ranking yang tersimpan di saw_results. Hasil dihitung
+     * ulang lebih dulu jika data sudah berubah, sehingga halaman yang dibaca
+     * dengan getRankedPage sesuai dengan data terbaru.
+     * @return Jumlah alternatif yang memiliki ranking
+     */
+    public int getRankedCount() {
+        ensureResultsCurrent();
+        return sawResultDAO.count();
+    }
+    
+    /**
+     * Mendapatkan satu halaman hasil SAW langsung dari saw_results
+     * @param afterRank Ranking terakhir halaman sebelumnya, 0 untuk halaman pertama
+     * @param limit Jumlah baris per halaman
+     * @return List SAWResult urut ranking
+     */
+    public List<SAWResult> getRankedPage(int afterRank, int limit) {
+        List<Alternative> alternatives = alternativeDAO.findRankedPage(afterRank, limit);
+        List<SAWResult> page = new ArrayList<>(alternatives.size());
+        for (Alternative alt : alternatives) {
+            page.add(new SAWResult(alt, alt.getTotalScore(), alt.getRanking()));
+        }
+        return page;
     }
     
     /**
@@ -302,15 +633,12 @@ public class SAWService {
      * @return Map berisi informasi kriteria
      */
     public Map<String, Object> getCriteriaInfo() {
+        CriteriaRegistry criteria = CriteriaRegistry.getInstance();
         Map<String, Object> info = new HashMap<>();
-        info.put("names", CRITERIA_NAMES);
-        info.put("weights", WEIGHTS);
-        info.put("types", new String[]{"Cost", "Benefit", "Benefit"});
-        info.put("descriptions", new String[]{
-            "Harga produk (semakin rendah semakin baik)",
-            "Skor kualitas produk (semakin tinggi semakin baik)",
-            "Ketersediaan suku cadang (semakin tinggi semakin baik)"
-        });
+        info.put("names", criteria.getNames());
+        info.put("weights", criteria.getWeights());
+        info.put("types", criteria.getTypes());
+        info.put("descriptions", criteria.getDescriptions());
         return info;
     }
     
@@ -319,75 +647,43 @@ public class SAWService {
      * @return List pesan error, kosong jika valid
      */
     public List<String> validateData() {
-        List<String> errors = new ArrayList<>();
-        List<Alternative> alternatives = alternativeDAO.findAll();
-        
-        if (alternatives.isEmpty()) {
-            errors.add("Tidak ada data alternatif untuk dihitung");
-            return errors;
-        }
-        
-        if (alternatives.size() < 2) {
-            errors.add("Minimal 2 alternatif diperlukan untuk perhitungan SAW");
-        }
-        
-        // Validasi data alternatif
-        for (Alternative alt : alternatives) {
-            if (alt.getPrice() == null || alt.getPrice().compareTo(BigDecimal.ZERO) <= 0) {
-                errors.add("Harga alternatif " + alt.getCode() + " tidak valid");
-            }
-            
-            if (alt.getQualityScore() < 1 || alt.getQualityScore() > 100) {
-                errors.add("Skor kualitas alternatif " + alt.getCode() + " harus antara 1-100");
-            }
-            
-            if (alt.getSparePartsScore() < 1 || alt.getSparePartsScore() > 100) {
-                errors.add("Skor suku cadang alternatif " + alt.getCode() + " harus antara 1-100");
-            }
+        return new ArrayList<>(currentComputation().getValidationErrors());
+    }
+    
+    /**
+     * Mendapatkan k alternatif terbaik tanpa mengurutkan seluruh hasil.
+     * Jika snapshot sudah usang, alternatif dibaca lewat streaming ke
+     * TopKResultSink sehingga hanya k kandidat yang ditampung di memori.
+     * @param k Jumlah alternatif teratas
+     * @return List SAWResult baru dengan ranking 1..k (tidak dipakai bersama snapshot)
+     */
+    public List<SAWResult> topK(int k) {
+        if (k <= 0) {
+            return new ArrayList<>();
         }
         
-        // Validasi bobot (harus total = 1.0)
-        double totalWeight = 0.0;
-        for (double weight : WEIGHTS) {
-            totalWeight += weight;
+        // Snapshot yang masih berlaku sudah terurut, cukup ambil k teratas
+        SAWSnapshot current = snapshot;
+        if (current != null && current.isCurrent(AlternativeDAO.getChangeVersion(), CriteriaRegistry.getInstance())) {
+            List<SAWResult> results = current.getResults();
+            return new ArrayList<>(results.subList(0, Math.min(k, results.size())));
         }
         
-        if (Math.abs(totalWeight - 1.0) > 0.001) {
-            errors.add("Total bobot kriteria harus sama dengan 1.0 (saat ini: " + totalWeight + ")");
+        TopKResultSink sink = new TopKResultSink(k);
+        if (calculateSAWStreaming(sink) < 0) {
+            return new ArrayList<>();
         }
-        
-        return errors;
+        return sink.getResults();
     }
     
     /**
-     * Mendapatkan statistik hasil SAW
+     * Mendapatkan statistik hasil SAW (skor 4 desimal seperti di saw_results)
      * @return Map berisi statistik
      */
     public Map<String, Object> getSAWStatistics() {
-        List<SAWResult> results = getSAWResults();
-        Map<String, Object> stats = new HashMap<>();
-        
-        if (results.isEmpty()) {
-            return stats;
-        }
-        
-        double totalScore = 0.0;
-        double maxScore = results.get(0).getTotalScoreAsDouble();
-        double minScore = results.get(results.size() - 1).getTotalScoreAsDouble();
-        
-        for (SAWResult result : results) {
-            totalScore += result.getTotalScoreAsDouble();
-        }
-        
-        double avgScore = totalScore / results.size();
-        
-        stats.put("totalAlternatives", results.size());
-        stats.put("maxScore", maxScore);
-        stats.put("minScore", minScore);
-        stats.put("avgScore", avgScore);
-        stats.put("bestAlternative", results.get(0).getAlternativeName());
-        stats.put("worstAlternative", results.get(results.size() - 1).getAlternativeName());
-        
-        return stats;
+        // Dibaca dari saw_results, sehingga perubahan yang sudah diterapkan
+        // inkremental tidak memicu perhitungan ulang penuh
+        ensureResultsCurrent();
+        return sawResultDAO.getStatistics();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,101 @@
+package com.erajaya.datamining.service;
+
+import com.erajaya.datamining.model.Alternative;
+import com.erajaya.datamining.model.SAWResult;
+
+import java.util.List;
+
+/**
+ * Hasil perhitungan SAW yang tidak berubah setelah dibuat: input (kriteria
+ * dan alternatif), matriks keputusan/normalisasi, hasil ranking dan versi
+ * data alternatif saat perhitungan. Snapshot dipakai bersama oleh semua
+ * pembaca sampai AlternativeDAO melaporkan perubahan data.
+ *
+ * Snapshot tidak pernah memberikan objek yang dipakai bersama: list hasil
+ * dan alternatif bersifat read-only dan setiap get() membuat SAWResult atau
+ * Alternative baru dari kolom engine, sedangkan matriks dikembalikan sebagai
+ * salinan. Perubahan oleh pemanggil (misalnya setRanking) tidak memengaruhi
+ * pembaca lain.
+ */
+public final class SAWSnapshot {
+    
+    private final SAWComputation computation;
+    
+    SAWSnapshot(SAWComputation computation) {
+        this.computation = computation;
+    }
+    
+    /**
+     * Cek apakah snapshot masih sesuai dengan data dan kriteria saat ini
+     * @param currentVersion Versi data alternatif saat ini
+     * @param currentCriteria Registry kriteria yang dipakai service
+     * @return true jika snapshot boleh dipakai ulang
+     */
+    public boolean isCurrent(long currentVersion, CriteriaRegistry currentCriteria) {
+        return computation.isCurrent(currentVersion, currentCriteria);
+    }
+    
+    // Getters
+    SAWComputation getComputation() {
+        return computation;
+    }
+    
+    public long getDataVersion() {
+        return computation.getDataVersion();
+    }
+    
+    public CriteriaRegistry getCriteria() {
+        return computation.getCriteria();
+    }
+    
+    public List<Alternative> getAlternatives() {
+        return computation.getAlternatives();
+    }
+    
+    /**
+     * Salinan matriks keputusan [alternatif][kriteria]
+     */
+    public double[][] getDecisionMatrix() {
+        return copyOf(computation.getDecisionMatrix());
+    }
+    
+    /**
+     * Salinan matriks normalisasi [alternatif][kriteria]
+     */
+    public double[][] getNormalizedMatrix() {
+        return copyOf(computation.getNormalizedMatrix());
+    }
+    
+    /**
+     * Salinan matriks terbobot [alternatif][kriteria]
+     */
+    public double[][] getWeightedMatrix() {
+        return copyOf(computation.getWeightedMatrix());
+    }
+    
+    /**
+     * Hasil read-only sesuai urutan ranking; SAWResult dibuat baru setiap get()
+     */
+    public List<SAWResult> getResults() {
+        return computation.getResults();
+    }
+    
+    /**
+     * Hasil read-only sesuai urutan baris matriks (urutan kode alternatif)
+     */
+    public List<SAWResult> getResultsByRow() {
+        return computation.getResultsByRow();
+    }
+    
+    public boolean isEmpty() {
+        return computation.isEmpty();
+    }
+    
+    private static double[][] copyOf(double[][] matrix) {
+        double[][] copy = new double[matrix.length][];
+        for (int i = 0; i < matrix.length; i++) {
+            copy[i] = matrix[i].clone();
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,507 @@
+package com.erajaya.datamining.service;
+
+import com.erajaya.datamining.model.Alternative;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * Simulasi Monte Carlo ketidakpastian bobot (SMAA) untuk ranking SAW.
+ * Ribuan vektor bobot diambil dari distribusi Dirichlet atau interval,
+ * lalu setiap vektor dipakai untuk menilai matriks normalisasi yang sama.
+ * Hasilnya peluang setiap alternatif menempati setiap ranking (rank
+ * acceptability) dan vektor bobot sentral, yaitu rata-rata bobot saat
+ * alternatif tersebut menjadi peringkat pertama.
+ *
+ * Simulasi berjalan per batch di ForkJoinPool, setiap task dengan aliran
+ * SplittableRandom sendiri sehingga hasil dapat diulang untuk seed yang
+ * sama. Simulasi berhenti lebih awal jika peluang ranking tidak lagi
+ * berubah lebih dari toleransi antar batch.
+ */
+public class SMAASimulator {
+    
+    public static final int DEFAULT_MAX_ITERATIONS = 10000;
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+    public static final double DEFAULT_TOLERANCE = 0.005;
+    public static final int DEFAULT_MAX_RANK = 10;
+    
+    private final List<Alternative> alternatives;
+    private final String[] criteriaNames;
+    private final double[] weights;
+    private final double[][] normalized;   // [kriteria][alternatif]
+    private final int[] ids;               // ID alternatif per baris, pemecah skor kembar
+    private final int size;
+    
+    private int maxIterations = DEFAULT_MAX_ITERATIONS;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private double tolerance = DEFAULT_TOLERANCE;
+    private int maxRank = DEFAULT_MAX_RANK;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private long seed = System.nanoTime();
+    
+    // Distribusi bobot: Dirichlet (alpha) atau interval (lower/upper)
+    private double[] alpha;
+    private double[] lower;
+    private double[] upper;
+    
+    SMAASimulator(SAWComputation computation) {
+        this.alternatives = computation.getAlternatives();
+        this.criteriaNames = computation.getCriteria().getNames();
+        this.weights = computation.getCriteria().getWeights();
+        this.normalized = computation.getEngine().getNormalizedColumns();
+        this.ids = computation.getMatrix().getIds();
+        this.size = computation.size();
+        this.alpha = new double[weights.length];
+        Arrays.fill(alpha, 1.0);
+    }
+    
+    /**
+     * Bobot dari distribusi Dirichlet yang berpusat di bobot saat ini
+     * @param concentration Semakin besar semakin dekat ke bobot saat ini;
+     *                      0 atau kurang untuk distribusi seragam pada simplex
+     * @return Simulator ini
+     */
+    public SMAASimulator withDirichlet(double concentration) {
+        alpha = new double[weights.length];
+        for (int j = 0; j < weights.length; j++) {
+            alpha[j] = concentration > 0 ? concentration * weights[j] : 1.0;
+        }
+        lower = null;
+        upper = null;
+        return this;
+    }
+    
+    /**
+     * Bobot diambil seragam dalam interval per kriteria lalu dinormalisasi
+     * agar totalnya 1
+     * @param lowerBounds Batas bawah bobot per kriteria
+     * @param upperBounds Batas atas bobot per kriteria
+     * @return Simulator ini
+     */
+    public SMAASimulator withIntervals(double[] lowerBounds, double[] upperBounds) {
+        if (lowerBounds.length != weights.length || upperBounds.length != weights.length) {
+            throw new IllegalArgumentException("Jumlah interval harus sama dengan jumlah kriteria (" + weights.length + ")");
+        }
+        for (int j = 0; j < weights.length; j++) {
+            if (lowerBounds[j] < 0 || upperBounds[j] < lowerBounds[j]) {
+                throw new IllegalArgumentException("Interval bobot " + criteriaNames[j] + " tidak valid");
+            }
+        }
+        lower = lowerBounds.clone();
+        upper = upperBounds.clone();
+        alpha = null;
+        return this;
+    }
+    
+    /**
+     * Interval bobot saat ini ± spread (dibatasi minimal 0)
+     */
+    public SMAASimulator withRelativeIntervals(double spread) {
+        double[] lo = new double[weights.length];
+        double[] hi = new double[weights.length];
+        for (int j = 0; j < weights.length; j++) {
+            lo[j] = Math.max(0.0, weights[j] - spread);
+            hi[j] = weights[j] + spread;
+        }
+        return withIntervals(lo, hi);
+    }
+    
+    /**
+     * @param max Jumlah iterasi maksimum
+     */
+    public SMAASimulator withIterations(int max) {
+        this.maxIterations = Math.max(1, max);
+        return this;
+    }
+    
+    /**
+     * @param tolerance Perubahan peluang maksimum antar batch untuk berhenti lebih awal (0 = tidak pernah)
+     * @param batchSize Jumlah iterasi per batch
+     */
+    public SMAASimulator withConvergence(double tolerance, int batchSize) {
+        this.tolerance = tolerance;
+        this.batchSize = Math.max(1, batchSize);
+        return this;
+    }
+    
+    /**
+     * @param maxRank Jumlah ranking teratas yang dicatat peluangnya
+     */
+    public SMAASimulator withMaxRank(int maxRank) {
+        this.maxRank = Math.max(1, maxRank);
+        return this;
+    }
+    
+    public SMAASimulator withParallelism(int threads) {
+        this.parallelism = Math.max(1, threads);
+        return this;
+    }
+    
+    public SMAASimulator withSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+    
+    /**
+     * Menjalankan simulasi
+     * @return Hasil simulasi
+     * @throws InterruptedException Jika thread pemanggil diinterupsi
+     */
+    public SMAAResult run() throws InterruptedException {
+        long startTime = System.nanoTime();
+        int ranks = Math.min(maxRank, size);
+        int k = weights.length;
+        
+        SplittableRandom root = new SplittableRandom(seed);
+        Map<Integer, long[]> rankCounts = new HashMap<>();
+        Map<Integer, double[]> firstWeightSums = new HashMap<>();
+        Map<Integer, double[]> previous = null;
+        int iterations = 0;
+        boolean converged = false;
+        
+        while (iterations < maxIterations && size > 0) {
+            int batch = Math.min(batchSize, maxIterations - iterations);
+            int tasks = Math.min(parallelism, batch);
+            
+            // Aliran acak dibagi di thread pemanggil agar hasil deterministik per seed
+            List<Callable<BatchOutput>> work = new ArrayList<>(tasks);
+            for (int t = 0; t < tasks; t++) {
+                int count = batch / tasks + (t < batch % tasks ? 1 : 0);
+                SplittableRandom random = root.split();
+                work.add(() -> simulate(random, count, ranks));
+            }
+            
+            List<Future<BatchOutput>> futures = ColumnarSAWEngine.sharedPool(parallelism).invokeAll(work);
+            for (Future<BatchOutput> future : futures) {
+                BatchOutput output;
+                try {
+                    output = future.get();
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("Simulasi SMAA gagal: " + e.getCause().getMessage(), e.getCause());
+                }
+                merge(output, ranks, k, rankCounts, firstWeightSums);
+            }
+            iterations += batch;
+            
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedException("Simulasi SMAA dibatalkan");
+            }
+            
+            Map<Integer, double[]> current = probabilities(rankCounts, iterations);
+            if (tolerance > 0 && previous != null && maxChange(previous, current) < tolerance) {
+                converged = true;
+                break;
+            }
+            previous = current;
+        }
+        
+        return buildResult(rankCounts, firstWeightSums, iterations, ranks, converged,
+            (System.nanoTime() - startTime) / 1_000_000);
+    }
+    
+    /**
+     * Satu task: mengambil bobot, menghitung skor dan mencatat baris ranking teratas
+     */
+    private BatchOutput simulate(SplittableRandom random, int count, int ranks) {
+        int k = weights.length;
+        BatchOutput output = new BatchOutput(count, ranks, k);
+        double[] sample = new double[k];
+        double[] scores = new double[size];
+        int[] topRows = new int[ranks];
+        double[] topScores = new double[ranks];
+        
+        for (int it = 0; it < count; it++) {
+            sampleWeights(random, sample);
+            
+            // Pembobotan per kolom di atas matriks normalisasi yang sama
+            double[] first = normalized[0];
+            double w0 = sample[0];
+            for (int i = 0; i < size; i++) {
+                scores[i] = w0 * first[i];
+            }
+            for (int j = 1; j < k; j++) {
+                double[] column = normalized[j];
+                double w = sample[j];
+                for (int i = 0; i < size; i++) {
+                    scores[i] += w * column[i];
+                }
+            }
+            
+            selectTop(scores, topRows, topScores);
+            System.arraycopy(topRows, 0, output.topRows, it * ranks, ranks);
+            System.arraycopy(sample, 0, output.weights, it * k, k);
+        }
+        return output;
+    }
+    
+    /**
+     * Memilih baris dengan skor tertinggi; skor sama diurutkan berdasarkan
+     * ID alternatif (bukan urutan baris/kode), sama seperti ColumnarSAWEngine
+     */
+    private void selectTop(double[] scores, int[] topRows, double[] topScores) {
+        int ranks = topRows.length;
+        int filled = 0;
+        
+        for (int i = 0; i < size; i++) {
+            double score = scores[i];
+            if (filled == ranks && !isBetter(score, i, topScores[ranks - 1], topRows[ranks - 1])) {
+                continue;
+            }
+            
+            int pos = filled < ranks ? filled++ : ranks - 1;
+            while (pos > 0 && isBetter(score, i, topScores[pos - 1], topRows[pos - 1])) {
+                topScores[pos] = topScores[pos - 1];
+                topRows[pos] = topRows[pos - 1];
+                pos--;
+            }
+            topScores[pos] = score;
+            topRows[pos] = i;
+        }
+    }
+    
+    /**
+     * true jika baris a berada di atas baris b: skor lebih besar, atau skor
+     * sama dengan ID lebih kecil
+     */
+    private boolean isBetter(double scoreA, int rowA, double scoreB, int rowB) {
+        int compare = Double.compare(scoreA, scoreB);
+        return compare != 0 ? compare > 0 : ids[rowA] < ids[rowB];
+    }
+    
+    private void sampleWeights(SplittableRandom random, double[] sample) {
+        double total = 0.0;
+        for (int j = 0; j < sample.length; j++) {
+            sample[j] = alpha != null
+                ? gamma(random, alpha[j])
+                : lower[j] + (upper[j] - lower[j]) * random.nextDouble();
+            total += sample[j];
+        }
+        
+        if (total <= 0.0) {
+            System.arraycopy(weights, 0, sample, 0, sample.length);
+            return;
+        }
+        for (int j = 0; j < sample.length; j++) {
+            sample[j] /= total;
+        }
+    }
+    
+    /**
+     * Sampel Gamma(shape, 1) dengan metode Marsaglia-Tsang
+     */
+    private static double gamma(SplittableRandom random, double shape) {
+        if (shape < 1.0) {
+            // Gamma(a) = Gamma(a + 1) * U^(1/a)
+            return gamma(random, shape + 1.0) * Math.pow(random.nextDouble(), 1.0 / shape);
+        }
+        
+        double d = shape - 1.0 / 3.0;
+        double c = 1.0 / Math.sqrt(9.0 * d);
+        while (true) {
+            double x;
+            double v;
+            do {
+                x = gaussian(random);
+                v = 1.0 + c * x;
+            } while (v <= 0.0);
+            
+            v = v * v * v;
+            double u = random.nextDouble();
+            if (u < 1.0 - 0.0331 * x * x * x * x
+                    || Math.log(u) < 0.5 * x * x + d * (1.0 - v + Math.log(v))) {
+                return d * v;
+            }
+        }
+    }
+    
+    /**
+     * Sampel normal standar dengan metode polar Marsaglia
+     */
+    private static double gaussian(SplittableRandom random) {
+        double u;
+        double v;
+        double s;
+        do {
+            u = 2.0 * random.nextDouble() - 1.0;
+            v = 2.0 * random.nextDouble() - 1.0;
+            s = u * u + v * v;
+        } while (s >= 1.0 || s == 0.0);
+        return u * Math.sqrt(-2.0 * Math.log(s) / s);
+    }
+    
+    private static void merge(BatchOutput output, int ranks, int k,
+            Map<Integer, long[]> rankCounts, Map<Integer, double[]> firstWeightSums) {
+        for (int it = 0; it < output.count; it++) {
+            int base = it * ranks;
+            for (int r = 0; r < ranks; r++) {
+                rankCounts.computeIfAbsent(output.topRows[base + r], row -> new long[ranks])[r]++;
+            }
+            
+            double[] sums = firstWeightSums.computeIfAbsent(output.topRows[base], row -> new double[k]);
+            for (int j = 0; j < k; j++) {
+                sums[j] += output.weights[it * k + j];
+            }
+        }
+    }
+    
+    private static Map<Integer, double[]> probabilities(Map<Integer, long[]> rankCounts, int iterations) {
+        Map<Integer, double[]> probabilities = new HashMap<>();
+        for (Map.Entry<Integer, long[]> entry : rankCounts.entrySet()) {
+            long[] counts = entry.getValue();
+            double[] p = new double[counts.length];
+            for (int r = 0; r < counts.length; r++) {
+                p[r] = (double) counts[r] / iterations;
+            }
+            probabilities.put(entry.getKey(), p);
+        }
+        return probabilities;
+    }
+    
+    private static double maxChange(Map<Integer, double[]> previous, Map<Integer, double[]> current) {
+        double max = 0.0;
+        for (Map.Entry<Integer, double[]> entry : current.entrySet()) {
+            double[] now = entry.getValue();
+            double[] before = previous.get(entry.getKey());
+            for (int r = 0; r < now.length; r++) {
+                max = Math.max(max, Math.abs(now[r] - (before != null ? before[r] : 0.0)));
+            }
+        }
+        return max;
+    }
+    
+    private SMAAResult buildResult(Map<Integer, long[]> rankCounts, Map<Integer, double[]> firstWeightSums,
+            int iterations, int ranks, boolean converged, long elapsedMillis) {
+        List<RankAcceptability> list = new ArrayList<>(rankCounts.size());
+        for (Map.Entry<Integer, long[]> entry : rankCounts.entrySet()) {
+            int row = entry.getKey();
+            long[] counts = entry.getValue();
+            
+            double[] probabilities = new double[ranks];
+            for (int r = 0; r < ranks; r++) {
+                probabilities[r] = (double) counts[r] / iterations;
+            }
+            
+            double[] central = null;
+            double[] sums = firstWeightSums.get(row);
+            if (sums != null && counts[0] > 0) {
+                central = new double[sums.length];
+                for (int j = 0; j < sums.length; j++) {
+                    central[j] = sums[j] / counts[0];
+                }
+            }
+            list.add(new RankAcceptability(alternatives.get(row), probabilities, central));
+        }
+        
+        // Peluang peringkat 1 tertinggi lebih dulu, lalu peringkat berikutnya
+        list.sort((a, b) -> {
+            for (int r = 0; r < ranks; r++) {
+                int cmp = Double.compare(b.probabilities[r], a.probabilities[r]);
+                if (cmp != 0) {
+                    return cmp;
+                }
+            }
+            return 0;
+        });
+        
+        return new SMAAResult(criteriaNames, weights, list, iterations, converged, elapsedMillis);
+    }
+    
+    /**
+     * Keluaran satu task: baris ranking teratas dan bobot per iterasi
+     */
+    private static final class BatchOutput {
+        final int count;
+        final int[] topRows;
+        final double[] weights;
+        
+        BatchOutput(int count, int ranks, int k) {
+            this.count = count;
+            this.topRows = new int[count * ranks];
+            this.weights = new double[count * k];
+        }
+    }
+    
+    /**
+     * Peluang satu alternatif menempati setiap ranking
+     */
+    public static final class RankAcceptability {
+        private final Alternative alternative;
+        private final double[] probabilities;
+        private final double[] centralWeights;
+        
+        RankAcceptability(Alternative alternative, double[] probabilities, double[] centralWeights) {
+            this.alternative = alternative;
+            this.probabilities = probabilities;
+            this.centralWeights = centralWeights;
+        }
+        
+        public Alternative getAlternative() {
+            return alternative;
+        }
+        
+        /**
+         * @param rank Ranking berbasis 1
+         * @return Peluang alternatif menempati ranking tersebut
+         */
+        public double getProbability(int rank) {
+            return probabilities[rank - 1];
+        }
+        
+        public double[] getProbabilities() {
+            return probabilities.clone();
+        }
+        
+        /**
+         * Rata-rata bobot saat alternatif ini menjadi peringkat pertama,
+         * null jika tidak pernah menjadi peringkat pertama
+         */
+        public double[] getCentralWeights() {
+            return centralWeights != null ? centralWeights.clone() : null;
+        }
+    }
+    
+    /**
+     * Hasil simulasi SMAA. Hanya alternatif yang pernah masuk ranking
+     * teratas yang dicantumkan.
+     */
+    public static final class SMAAResult {
+        private final String[] criteriaNames;
+        private final double[] weights;
+        private final List<RankAcceptability> acceptabilities;
+        private final int iterations;
+        private final boolean converged;
+        private final long elapsedMillis;
+        
+        SMAAResult(String[] criteriaNames, double[] weights, List<RankAcceptability> acceptabilities,
+                int iterations, boolean converged, long elapsedMillis) {
+            this.criteriaNames = criteriaNames;
+            this.weights = weights;
+            this.acceptabilities = Collections.unmodifiableList(acceptabilities);
+            this.iterations = iterations;
+            this.converged = converged;
+            this.elapsedMillis = elapsedMillis;
+        }
+        
+        // Getters
+        public String[] getCriteriaNames() { return criteriaNames.clone(); }
+        public double[] getWeights() { return weights.clone(); }
+        public List<RankAcceptability> getAcceptabilities() { return acceptabilities; }
+        public int getIterations() { return iterations; }
+        public boolean isConverged() { return converged; }
+        public long getElapsedMillis() { return elapsedMillis; }
+        
+        @Override
+        public String toString() {
+            return String.format("%d iterasi%s dalam %.1f detik, %d alternatif pernah masuk ranking teratas",
+                iterations, converged ? " (konvergen)" : "", elapsedMillis / 1000.0, acceptabilities.size());
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.erajaya.datamining.service;
+
+/**
+ * Simple Additive Weighting: Vi = Σ(wj × rij) dengan
+ * rij = xij / max (benefit) atau min / xij (cost).
+ * Urutan operasi sama dengan ColumnarSAWEngine sehingga skornya identik.
+ */
+public class SawMcdmEngine implements McdmEngine {
+    
+    @Override
+    public String getName() {
+        return "SAW";
+    }
+    
+    @Override
+    public double[] score(double[][] columns, ColumnStatistics stats, double[] weights, boolean[] isBenefit) {
+        int n = columns.length > 0 ? columns[0].length : 0;
+        double[] scores = new double[n];
+        
+        for (int j = 0; j < columns.length; j++) {
+            double[] column = columns[j];
+            double weight = weights[j];
+            if (isBenefit[j]) {
+                double max = stats.getMax(j);
+                for (int i = 0; i < n; i++) {
+                    scores[i] += weight * (column[i] / max);
+                }
+            } else {
+                double min = stats.getMin(j);
+                for (int i = 0; i < n; i++) {
+                    scores[i] += weight * (min / column[i]);
+                }
+            }
+        }
+        return scores;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,83 @@
+package com.erajaya.datamining.service;
+
+import com.erajaya.datamining.model.Alternative;
+import com.erajaya.datamining.model.SAWResult;
+import com.erajaya.datamining.model.WeightScenario;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ranking SAW untuk satu skenario bobot. Skor dan urutan disimpan sebagai
+ * array primitif; SAWResult hanya dibuat untuk baris yang diminta.
+ */
+public class ScenarioRanking {
+    
+    private final WeightScenario scenario;
+    private final List<Alternative> alternatives;
+    private final double[] scores;   // per baris matriks
+    private final int[] order;       // index baris terurut dari skor tertinggi
+    private final int[] ranks;       // ranking per baris (1 = terbaik)
+    
+    ScenarioRanking(WeightScenario scenario, List<Alternative> alternatives, double[] scores, int[] order) {
+        this.scenario = scenario;
+        this.alternatives = alternatives;
+        this.scores = scores;
+        this.order = order;
+        this.ranks = new int[order.length];
+        for (int r = 0; r < order.length; r++) {
+            ranks[order[r]] = r + 1;
+        }
+    }
+    
+    /**
+     * Hasil ranking teratas skenario ini
+     * @param limit Jumlah baris
+     * @return List SAWResult dengan ranking 1..limit
+     */
+    public List<SAWResult> getTop(int limit) {
+        int count = Math.max(0, Math.min(limit, order.length));
+        List<SAWResult> results = new ArrayList<>(count);
+        for (int r = 0; r < count; r++) {
+            int row = order[r];
+            results.add(new SAWResult(alternatives.get(row),
+                BigDecimal.valueOf(scores[row]).setScale(4, RoundingMode.HALF_UP), r + 1));
+        }
+        return results;
+    }
+    
+    // Getters
+    public WeightScenario getScenario() {
+        return scenario;
+    }
+    
+    public int size() {
+        return order.length;
+    }
+    
+    public double getScore(int row) {
+        return scores[row];
+    }
+    
+    public int getRanking(int row) {
+        return ranks[row];
+    }
+    
+    /**
+     * @param position Posisi ranking berbasis 0
+     * @return Alternatif pada posisi tersebut
+     */
+    public Alternative getAlternativeAtRank(int position) {
+        return alternatives.get(order[position]);
+    }
+    
+    double[] getScores() {
+        return scores;
+    }
+    
+    int[] getRanks() {
+        return ranks;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,335 @@
+package com.erajaya.datamining.service;
+
+import com.erajaya.datamining.model.Alternative;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Analisis sensitivitas bobot di atas matriks normalisasi SAW.
+ *
+ * Jika bobot kriteria j diubah menjadi t dan bobot kriteria lain diskalakan
+ * proporsional agar total bobot tetap, skor setiap alternatif menjadi fungsi
+ * linear dari t:
+ *
+ *   S_i(t) = S_i + (t - w_j) * g_ij,  g_ij = r_ij - (S_i - w_j * r_ij) / (W - w_j)
+ *
+ * sehingga bobot tempat dua alternatif bertukar posisi dapat dihitung langsung
+ * tanpa ranking ulang. Semua batas dihitung dalam O(n·k) dari skor dan
+ * matriks normalisasi yang sudah ada.
+ */
+public class SensitivityAnalysis {
+    
+    private final List<Alternative> alternatives;
+    private final String[] criteriaNames;
+    private final double[] weights;
+    private final double totalWeight;
+    private final ColumnarSAWEngine engine;
+    
+    private final double[][] slopes;         // [kriteria][baris], null jika bobot tidak bisa diubah
+    private final double[][] adjacentSwaps;  // [kriteria][posisi], bobot saat posisi+1 menyalip posisi
+    private final StabilityInterval[] intervals;
+    
+    SensitivityAnalysis(SAWComputation computation) {
+        this.alternatives = computation.getAlternatives();
+        this.criteriaNames = computation.getCriteria().getNames();
+        this.weights = computation.getCriteria().getWeights();
+        this.engine = computation.getEngine();
+        
+        double total = 0.0;
+        for (double weight : weights) {
+            total += weight;
+        }
+        this.totalWeight = total;
+        
+        int n = engine.size();
+        int k = weights.length;
+        this.slopes = new double[k][];
+        this.adjacentSwaps = new double[k][Math.max(0, n - 1)];
+        this.intervals = new StabilityInterval[k];
+        
+        double[][] normalized = engine.getNormalizedColumns();
+        double[] scores = engine.getScores();
+        
+        for (int j = 0; j < k; j++) {
+            double rest = totalWeight - weights[j];
+            if (rest <= 0.0) {
+                // Seluruh bobot ada di satu kriteria: tidak ada bobot lain untuk diskalakan
+                Arrays.fill(adjacentSwaps[j], Double.NaN);
+                intervals[j] = new StabilityInterval(j, weights[j], weights[j], weights[j], -1, -1,
+                    weights[j], weights[j], -1, -1);
+                continue;
+            }
+            
+            double[] column = normalized[j];
+            double[] slope = new double[n];
+            for (int i = 0; i < n; i++) {
+                slope[i] = column[i] - (scores[i] - weights[j] * column[i]) / rest;
+            }
+            slopes[j] = slope;
+            
+            intervals[j] = computeInterval(j);
+        }
+    }
+    
+    /**
+     * Mengisi bobot tukar untuk setiap pasangan bersebelahan dan menghitung
+     * rentang stabil ranking serta rentang stabil peringkat pertama
+     */
+    private StabilityInterval computeInterval(int j) {
+        int n = engine.size();
+        double weight = weights[j];
+        
+        double lower = 0.0;
+        double upper = totalWeight;
+        int lowerPosition = -1;
+        int upperPosition = -1;
+        
+        for (int p = 0; p < n - 1; p++) {
+            int upperRow = engine.getRowAtRank(p);
+            int lowerRow = engine.getRowAtRank(p + 1);
+            double t = swapWeight(j, upperRow, lowerRow);
+            adjacentSwaps[j][p] = t;
+            
+            if (Double.isNaN(t)) {
+                continue;
+            }
+            if (slopes[j][upperRow] > slopes[j][lowerRow]) {
+                // Posisi terjaga saat bobot naik, tertukar saat bobot turun ke t
+                if (t > lower || lowerPosition < 0 && t == lower) {
+                    lower = t;
+                    lowerPosition = p;
+                }
+            } else if (t < upper || upperPosition < 0 && t == upper) {
+                upper = t;
+                upperPosition = p;
+            }
+        }
+        
+        double topLower = 0.0;
+        double topUpper = totalWeight;
+        int topLowerRow = -1;
+        int topUpperRow = -1;
+        
+        if (n > 1) {
+            int topRow = engine.getRowAtRank(0);
+            for (int p = 1; p < n; p++) {
+                int row = engine.getRowAtRank(p);
+                double t = swapWeight(j, topRow, row);
+                if (Double.isNaN(t)) {
+                    continue;
+                }
+                if (slopes[j][topRow] > slopes[j][row]) {
+                    if (t > topLower || topLowerRow < 0 && t == topLower) {
+                        topLower = t;
+                        topLowerRow = row;
+                    }
+                } else if (t < topUpper || topUpperRow < 0 && t == topUpper) {
+                    topUpper = t;
+                    topUpperRow = row;
+                }
+            }
+        }
+        
+        return new StabilityInterval(j, weight, lower, upper, lowerPosition, upperPosition,
+            topLower, topUpper, topLowerRow, topUpperRow);
+    }
+    
+    /**
+     * Bobot kriteria j tempat baris lowerRow menyamai skor baris upperRow
+     * @return Bobot baru, NaN jika keduanya tidak pernah bertukar dalam rentang 0..total bobot
+     */
+    private double swapWeight(int j, int upperRow, int lowerRow) {
+        double slope = slopes[j][upperRow] - slopes[j][lowerRow];
+        if (slope == 0.0) {
+            return Double.NaN;
+        }
+        
+        // Selisih skor tidak pernah negatif untuk pasangan yang sudah terurut
+        double gap = Math.max(0.0, engine.getScore(upperRow) - engine.getScore(lowerRow));
+        double t = weights[j] - gap / slope;
+        return t >= 0.0 && t <= totalWeight ? t : Double.NaN;
+    }
+    
+    /**
+     * Bobot kriteria saat alternatif pada posisi + 1 menyalip alternatif pada posisi
+     * @param criteria Index kriteria
+     * @param position Posisi ranking berbasis 0
+     * @return Bobot baru, NaN jika tidak pernah tertukar
+     */
+    public double getSwapWeight(int criteria, int position) {
+        return adjacentSwaps[criteria][position];
+    }
+    
+    /**
+     * Perubahan bobot kriteria (bobot baru - bobot saat ini) yang membuat
+     * alternatif pada posisi + 1 menyalip alternatif pada posisi
+     * @return Delta bobot, NaN jika tidak pernah tertukar
+     */
+    public double getSwapDelta(int criteria, int position) {
+        return adjacentSwaps[criteria][position] - weights[criteria];
+    }
+    
+    /**
+     * Perubahan bobot kriteria yang membuat challenger menyalip leader,
+     * untuk pasangan alternatif mana pun (tidak harus bersebelahan)
+     * @param criteria Index kriteria
+     * @param leaderPosition Posisi ranking alternatif yang saat ini lebih tinggi
+     * @param challengerPosition Posisi ranking alternatif yang saat ini lebih rendah
+     * @return Delta bobot, NaN jika tidak pernah tertukar
+     */
+    public double getOvertakeDelta(int criteria, int leaderPosition, int challengerPosition) {
+        if (slopes[criteria] == null) {
+            return Double.NaN;
+        }
+        int upper = Math.min(leaderPosition, challengerPosition);
+        int lower = Math.max(leaderPosition, challengerPosition);
+        return swapWeight(criteria, engine.getRowAtRank(upper), engine.getRowAtRank(lower)) - weights[criteria];
+    }
+    
+    /**
+     * Rentang bobot kriteria tempat alternatif pada posisi ini tetap di posisinya,
+     * diturunkan dari pasangan bersebelahan di atas dan di bawahnya
+     * @return {batas bawah, batas atas}
+     */
+    public double[] getRankInterval(int criteria, int position) {
+        double lower = 0.0;
+        double upper = totalWeight;
+        if (slopes[criteria] == null) {
+            return new double[] {weights[criteria], weights[criteria]};
+        }
+        
+        for (int p = Math.max(0, position - 1); p <= Math.min(position, size() - 2); p++) {
+            double t = adjacentSwaps[criteria][p];
+            if (Double.isNaN(t)) {
+                continue;
+            }
+            if (slopes[criteria][engine.getRowAtRank(p)] > slopes[criteria][engine.getRowAtRank(p + 1)]) {
+                lower = Math.max(lower, t);
+            } else {
+                upper = Math.min(upper, t);
+            }
+        }
+        return new double[] {lower, upper};
+    }
+    
+    /**
+     * Rentang stabil per kriteria sesuai urutan kriteria
+     */
+    public StabilityInterval getStabilityInterval(int criteria) {
+        return intervals[criteria];
+    }
+    
+    /**
+     * Rentang stabil untuk diagram tornado: kriteria paling sensitif
+     * (rentang ranking paling sempit) di urutan pertama
+     */
+    public List<StabilityInterval> getTornado() {
+        List<StabilityInterval> tornado = new ArrayList<>(Arrays.asList(intervals));
+        tornado.sort(Comparator.comparingDouble(StabilityInterval::getWidth));
+        return Collections.unmodifiableList(tornado);
+    }
+    
+    /**
+     * Alternatif pada posisi ranking berbasis 0
+     */
+    public Alternative getAlternativeAtRank(int position) {
+        return alternatives.get(engine.getRowAtRank(position));
+    }
+    
+    // Getters
+    public int size() {
+        return engine.size();
+    }
+    
+    public int getCriteriaCount() {
+        return weights.length;
+    }
+    
+    public String getCriteriaName(int criteria) {
+        return criteriaNames[criteria];
+    }
+    
+    public double getWeight(int criteria) {
+        return weights[criteria];
+    }
+    
+    public double getTotalWeight() {
+        return totalWeight;
+    }
+    
+    /**
+     * Rentang bobot satu kriteria yang tidak mengubah hasil
+     */
+    public final class StabilityInterval {
+        private final int criteria;
+        private final double weight;
+        private final double lower;
+        private final double upper;
+        private final int lowerPosition;
+        private final int upperPosition;
+        private final double topLower;
+        private final double topUpper;
+        private final int topLowerRow;
+        private final int topUpperRow;
+        
+        StabilityInterval(int criteria, double weight, double lower, double upper,
+                int lowerPosition, int upperPosition,
+                double topLower, double topUpper, int topLowerRow, int topUpperRow) {
+            this.criteria = criteria;
+            this.weight = weight;
+            this.lower = lower;
+            this.upper = upper;
+            this.lowerPosition = lowerPosition;
+            this.upperPosition = upperPosition;
+            this.topLower = topLower;
+            this.topUpper = topUpper;
+            this.topLowerRow = topLowerRow;
+            this.topUpperRow = topUpperRow;
+        }
+        
+        // Getters
+        public int getCriteria() { return criteria; }
+        public String getCriteriaName() { return criteriaNames[criteria]; }
+        public double getWeight() { return weight; }
+        
+        /** Bobot terendah yang tidak mengubah ranking sama sekali */
+        public double getLower() { return lower; }
+        
+        /** Bobot tertinggi yang tidak mengubah ranking sama sekali */
+        public double getUpper() { return upper; }
+        
+        public double getWidth() { return upper - lower; }
+        
+        /** Posisi (berbasis 0) pasangan yang pertama tertukar saat bobot turun, -1 jika tidak ada */
+        public int getLowerPosition() { return lowerPosition; }
+        
+        /** Posisi (berbasis 0) pasangan yang pertama tertukar saat bobot naik, -1 jika tidak ada */
+        public int getUpperPosition() { return upperPosition; }
+        
+        /** Bobot terendah yang mempertahankan alternatif peringkat pertama */
+        public double getTopLower() { return topLower; }
+        
+        /** Bobot tertinggi yang mempertahankan alternatif peringkat pertama */
+        public double getTopUpper() { return topUpper; }
+        
+        /** Alternatif yang merebut peringkat pertama saat bobot turun, null jika tidak ada */
+        public Alternative getTopLowerChallenger() {
+            return topLowerRow >= 0 ? alternatives.get(topLowerRow) : null;
+        }
+        
+        /** Alternatif yang merebut peringkat pertama saat bobot naik, null jika tidak ada */
+        public Alternative getTopUpperChallenger() {
+            return topUpperRow >= 0 ? alternatives.get(topUpperRow) : null;
+        }
+        
+        @Override
+        public String toString() {
+            return String.format("%s: bobot %.4f, ranking stabil %.4f - %.4f, peringkat 1 stabil %.4f - %.4f",
+                getCriteriaName(), weight, lower, upper, topLower, topUpper);
+        }
+    }
+}
\ No newline at end of file
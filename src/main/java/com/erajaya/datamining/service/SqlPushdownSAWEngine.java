@@ -0,0 +1,106 @@
+package com.erajaya.datamining.service;
+
+import com.erajaya.datamining.config.DatabaseConfig;
+import com.erajaya.datamining.dao.DecisionMatrixDAO;
+import com.erajaya.datamining.model.Criteria;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Engine SAW yang seluruh perhitungannya dijalankan di MySQL 8.
+ * Normalisasi memakai MIN() OVER () / MAX() OVER (), ranking memakai
+ * ROW_NUMBER() OVER (...), dan hasil ditulis dengan satu INSERT ... SELECT
+ * ke saw_results sehingga tidak ada baris alternatif yang dikirim ke aplikasi.
+ *
+ * Skor yang sama diurutkan berdasarkan ID alternatif seperti engine Java, dan
+ * semua nilai dihitung sebagai DOUBLE agar hasilnya sama dengan ColumnarSAWEngine.
+ */
+public class SqlPushdownSAWEngine {
+    
+    private final List<Criteria> criteria;
+    private final double[] weights;
+    private final boolean[] isBenefit;
+    
+    public SqlPushdownSAWEngine(List<Criteria> criteria, double[] weights, boolean[] isBenefit) {
+        this.criteria = criteria;
+        this.weights = weights.clone();
+        this.isBenefit = isBenefit.clone();
+    }
+    
+    /**
+     * Menghitung ulang seluruh saw_results di database dalam satu transaksi
+     * @return Jumlah baris hasil, atau -1 jika gagal
+     */
+    public int execute() {
+        String deleteSql = "DELETE FROM saw_results";
+        List<Integer> criteriaIds = new ArrayList<>();
+        String insertSql = buildInsertSql(criteriaIds);
+        
+        try (Connection conn = DatabaseConfig.getConnection()) {
+            conn.setAutoCommit(false);
+            
+            try (PreparedStatement deleteStmt = conn.prepareStatement(deleteSql);
+                 PreparedStatement insertStmt = conn.prepareStatement(insertSql)) {
+                
+                // Placeholder bobot (subquery skor) muncul sebelum placeholder pivot
+                int param = 1;
+                for (double weight : weights) {
+                    insertStmt.setDouble(param++, weight);
+                }
+                for (Integer criteriaId : criteriaIds) {
+                    insertStmt.setInt(param++, criteriaId);
+                }
+                
+                deleteStmt.executeUpdate();
+                int inserted = insertStmt.executeUpdate();
+                conn.commit();
+                return inserted;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            System.err.println("Error saat menghitung SAW di database: " + e.getMessage());
+            return -1;
+        }
+    }
+    
+    /**
+     * Menyusun INSERT ... SELECT tiga tingkat:
+     * m = matriks keputusan (query pivot yang sama dengan DecisionMatrixDAO),
+     * s = skor dari baris yang semua nilainya terisi, lalu ranking.
+     * Alternatif dengan nilai belum lengkap dilewati seperti engine Java,
+     * sehingga min/max dan total_score tidak pernah NULL.
+     * @param params Diisi dengan ID kriteria evaluations sesuai urutan parameter
+     * @return SQL dengan parameter bobot lalu ID kriteria
+     */
+    String buildInsertSql(List<Integer> params) {
+        StringBuilder score = new StringBuilder();
+        
+        for (int j = 0; j < criteria.size(); j++) {
+            // Benefit: x / max, Cost: min / x
+            score.append(j == 0 ? "" : " + ").append("? * ");
+            if (isBenefit[j]) {
+                score.append("(m.c").append(j).append(" / MAX(m.c").append(j).append(") OVER ())");
+            } else {
+                score.append("(MIN(m.c").append(j).append(") OVER () / m.c").append(j).append(")");
+            }
+        }
+        
+        String matrix = DecisionMatrixDAO.buildPivotQuery(criteria, params, null);
+        String complete = DecisionMatrixDAO.buildCompleteCondition(criteria.size(), "m");
+        
+        return "INSERT INTO saw_results (alternative_id, total_score, ranking) " +
+               "SELECT s.id, ROUND(s.score, 4), " +
+               "ROW_NUMBER() OVER (ORDER BY s.score DESC, s.id) " +
+               "FROM (SELECT m.id, " + (score.length() > 0 ? score : "0") + " AS score " +
+               "FROM (" + matrix + ") m" +
+               (complete.isEmpty() ? "" : " WHERE " + complete) + ") s";
+    }
+}
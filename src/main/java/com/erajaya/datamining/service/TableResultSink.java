@@ -0,0 +1,151 @@
+package com.erajaya.datamining.service;
+
+import com.erajaya.datamining.config.DatabaseConfig;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Menulis skor streaming ke tabel saw_results dalam satu transaksi.
+ * Skor (double, belum dibulatkan) dikirim per batch ke tabel sementara, lalu
+ * saw_results diisi ulang dengan satu INSERT ... SELECT memakai ROW_NUMBER()
+ * sehingga tidak perlu sorting di Java. Ranking memakai skor asli lalu ID
+ * alternatif, sama seperti ColumnarSAWEngine.
+ */
+public class TableResultSink implements SAWResultSink {
+    
+    private static final int BATCH_SIZE = 1000;
+    private static final String STAGING_TABLE = "saw_stream_scores";
+    
+    private Connection conn;
+    private PreparedStatement insertStmt;
+    private int pending;
+    private boolean failed;
+    
+    @Override
+    public boolean begin(String[] builtInColumns) {
+        String createSql = "CREATE TEMPORARY TABLE " + STAGING_TABLE +
+                           " (alternative_id INT PRIMARY KEY, score DOUBLE NOT NULL)";
+        String insertSql = "INSERT INTO " + STAGING_TABLE + " (alternative_id, score) VALUES (?, ?)";
+        
+        try {
+            conn = DatabaseConfig.getConnection();
+            dropStagingTable();
+            conn.setAutoCommit(false);
+            
+            try (PreparedStatement createStmt = conn.prepareStatement(createSql)) {
+                createStmt.executeUpdate();
+            }
+            
+            insertStmt = conn.prepareStatement(insertSql);
+            pending = 0;
+            failed = false;
+            return true;
+        } catch (SQLException e) {
+            System.err.println("Error saat menyiapkan penyimpanan hasil SAW: " + e.getMessage());
+            close();
+            return false;
+        }
+    }
+    
+    @Override
+    public void accept(int id, String code, String name, double[] values, double score) {
+        if (failed || insertStmt == null) {
+            return;
+        }
+        
+        try {
+            insertStmt.setInt(1, id);
+            insertStmt.setDouble(2, score);
+            insertStmt.addBatch();
+            
+            if (++pending == BATCH_SIZE) {
+                insertStmt.executeBatch();
+                pending = 0;
+            }
+        } catch (SQLException e) {
+            System.err.println("Error saat menyimpan hasil SAW: " + e.getMessage());
+            failed = true;
+        }
+    }
+    
+    @Override
+    public boolean finish(boolean completed) {
+        if (conn == null) {
+            return false;
+        }
+        
+        String deleteSql = "DELETE FROM saw_results";
+        String rankSql = "INSERT INTO saw_results (alternative_id, total_score, ranking) " +
+                         "SELECT alternative_id, ROUND(score, 4), " +
+                         "ROW_NUMBER() OVER (ORDER BY score DESC, alternative_id) " +
+                         "FROM " + STAGING_TABLE;
+        
+        try {
+            if (!completed || failed) {
+                conn.rollback();
+                return false;
+            }
+            
+            if (pending > 0) {
+                insertStmt.executeBatch();
+            }
+            
+            try (PreparedStatement deleteStmt = conn.prepareStatement(deleteSql);
+                 PreparedStatement rankStmt = conn.prepareStatement(rankSql)) {
+                deleteStmt.executeUpdate();
+                rankStmt.executeUpdate();
+            }
+            
+            conn.commit();
+            return true;
+        } catch (SQLException e) {
+            System.err.println("Error saat menyimpan ranking SAW: " + e.getMessage());
+            try {
+                conn.rollback();
+            } catch (SQLException ignored) {
+                // Koneksi sudah tidak dapat dipakai
+            }
+            return false;
+        } finally {
+            close();
+        }
+    }
+    
+    @Override
+    public boolean writesResultsTable() {
+        return true;
+    }
+    
+    /**
+     * Tabel sementara terikat pada koneksi; koneksi dari pool dipakai ulang
+     * sehingga tabel dihapus di awal dan di akhir
+     */
+    private void dropStagingTable() throws SQLException {
+        try (PreparedStatement dropStmt = conn.prepareStatement("DROP TEMPORARY TABLE IF EXISTS " + STAGING_TABLE)) {
+            dropStmt.executeUpdate();
+        }
+    }
+    
+    private void close() {
+        try {
+            if (insertStmt != null) {
+                insertStmt.close();
+            }
+            if (conn != null) {
+                try {
+                    conn.setAutoCommit(true);
+                    dropStagingTable();
+                } finally {
+                    conn.close();
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error saat menutup koneksi: " + e.getMessage());
+        } finally {
+            insertStmt = null;
+            conn = null;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.erajaya.datamining.service;
+
+/**
+ * Meneruskan setiap skor streaming ke beberapa sink sekaligus, sehingga
+ * misalnya saw_results dan file CSV diisi dalam satu kali baca tabel.
+ */
+public class TeeResultSink implements SAWResultSink {
+    
+    private final SAWResultSink[] sinks;
+    
+    public TeeResultSink(SAWResultSink... sinks) {
+        this.sinks = sinks.clone();
+    }
+    
+    @Override
+    public boolean begin(String[] builtInColumns) {
+        for (int i = 0; i < sinks.length; i++) {
+            if (!sinks[i].begin(builtInColumns)) {
+                // Batalkan sink yang sudah siap
+                for (int j = 0; j < i; j++) {
+                    sinks[j].finish(false);
+                }
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    @Override
+    public void accept(int id, String code, String name, double[] values, double score) {
+        for (SAWResultSink sink : sinks) {
+            sink.accept(id, code, name, values, score);
+        }
+    }
+    
+    @Override
+    public boolean finish(boolean completed) {
+        boolean success = true;
+        for (SAWResultSink sink : sinks) {
+            success &= sink.finish(completed);
+        }
+        return success;
+    }
+    
+    @Override
+    public boolean writesResultsTable() {
+        for (SAWResultSink sink : sinks) {
+            if (sink.writesResultsTable()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
\ No newline at end of file
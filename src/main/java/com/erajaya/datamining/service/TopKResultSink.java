@@ -0,0 +1,162 @@
+package com.erajaya.datamining.service;
+
+import com.erajaya.datamining.model.Alternative;
+import com.erajaya.datamining.model.DecisionMatrix;
+import com.erajaya.datamining.model.SAWResult;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Menyimpan hanya k skor terbaik dari streaming dengan min-heap berukuran k.
+ * Heap berisi slot di atas array primitif (skor, ID, nilai kriteria) yang
+ * dialokasikan sekali; Alternative dan SAWResult baru dibuat untuk k baris
+ * yang bertahan saat getResults(). Skor dibandingkan dalam bentuk double
+ * (belum dibulatkan), skor sama diurutkan berdasarkan ID alternatif seperti
+ * ColumnarSAWEngine.
+ */
+public class TopKResultSink implements SAWResultSink {
+    
+    private final int k;
+    private final int[] heap;        // slot, heap[0] selalu kandidat terburuk
+    private final int[] ids;         // per slot
+    private final double[] scores;
+    private final String[] codes;
+    private final String[] names;
+    private final double[][] values;
+    private String[] builtInColumns;
+    private int size;
+    private boolean completed;
+    private List<SAWResult> results;
+    
+    public TopKResultSink(int k) {
+        this.k = Math.max(0, k);
+        this.heap = new int[this.k];
+        this.ids = new int[this.k];
+        this.scores = new double[this.k];
+        this.codes = new String[this.k];
+        this.names = new String[this.k];
+        this.values = new double[this.k][];
+    }
+    
+    @Override
+    public boolean begin(String[] builtInColumns) {
+        this.builtInColumns = builtInColumns;
+        size = 0;
+        completed = false;
+        results = null;
+        return true;
+    }
+    
+    @Override
+    public void accept(int id, String code, String name, double[] rowValues, double score) {
+        if (k == 0) {
+            return;
+        }
+        
+        if (size < k) {
+            heap[size] = size;
+            store(size, id, code, name, rowValues, score);
+            siftUp(size++);
+        } else if (isWorse(scores[heap[0]], ids[heap[0]], score, id)) {
+            store(heap[0], id, code, name, rowValues, score);
+            siftDown(0);
+        }
+    }
+    
+    @Override
+    public boolean finish(boolean completed) {
+        this.completed = completed;
+        return completed;
+    }
+    
+    /**
+     * Hasil terbaik lebih dulu dengan ranking 1..k
+     * @return List SAWResult baru, kosong jika streaming gagal
+     */
+    public List<SAWResult> getResults() {
+        if (!completed) {
+            return new ArrayList<>();
+        }
+        if (results != null) {
+            return new ArrayList<>(results);
+        }
+        
+        // Keluarkan dari heap: terburuk lebih dulu, diisi dari belakang
+        int count = size;
+        int[] order = new int[count];
+        for (int pos = count - 1; pos >= 0; pos--) {
+            order[pos] = heap[0];
+            heap[0] = heap[--size];
+            siftDown(0);
+        }
+        
+        results = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int slot = order[i];
+            Alternative alternative = DecisionMatrix.toAlternative(ids[slot], codes[slot], names[slot],
+                builtInColumns, values[slot]);
+            BigDecimal totalScore = BigDecimal.valueOf(scores[slot]).setScale(4, RoundingMode.HALF_UP);
+            results.add(new SAWResult(alternative, totalScore, i + 1));
+        }
+        return new ArrayList<>(results);
+    }
+    
+    private void store(int slot, int id, String code, String name, double[] rowValues, double score) {
+        if (values[slot] == null) {
+            values[slot] = new double[rowValues.length];
+        }
+        System.arraycopy(rowValues, 0, values[slot], 0, rowValues.length);
+        ids[slot] = id;
+        codes[slot] = code;
+        names[slot] = name;
+        scores[slot] = score;
+    }
+    
+    /**
+     * true jika (scoreA, idA) lebih buruk dari (scoreB, idB): skor lebih
+     * kecil, atau skor sama dengan ID lebih besar
+     */
+    private static boolean isWorse(double scoreA, int idA, double scoreB, int idB) {
+        int compare = Double.compare(scoreA, scoreB);
+        return compare != 0 ? compare < 0 : idA > idB;
+    }
+    
+    private boolean isWorseSlot(int a, int b) {
+        return isWorse(scores[a], ids[a], scores[b], ids[b]);
+    }
+    
+    private void siftUp(int pos) {
+        int slot = heap[pos];
+        while (pos > 0) {
+            int parent = (pos - 1) >>> 1;
+            if (!isWorseSlot(slot, heap[parent])) {
+                break;
+            }
+            heap[pos] = heap[parent];
+            pos = parent;
+        }
+        heap[pos] = slot;
+    }
+    
+    private void siftDown(int pos) {
+        int slot = heap[pos];
+        while (true) {
+            int child = 2 * pos + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && isWorseSlot(heap[child + 1], heap[child])) {
+                child++;
+            }
+            if (!isWorseSlot(heap[child], slot)) {
+                break;
+            }
+            heap[pos] = heap[child];
+            pos = child;
+        }
+        heap[pos] = slot;
+    }
+}
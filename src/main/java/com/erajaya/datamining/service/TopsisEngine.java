@@ -0,0 +1,56 @@
+package com.erajaya.datamining.service;
+
+/**
+ * TOPSIS: normalisasi vektor rij = xij / √Σxij², nilai terbobot vij = wj × rij,
+ * lalu kedekatan relatif Ci = D⁻ / (D⁺ + D⁻) terhadap solusi ideal positif
+ * dan negatif. Solusi ideal diambil dari min/max kolom yang sudah ada di
+ * statistik, sehingga cukup satu kali baca matriks untuk menghitung jarak.
+ */
+public class TopsisEngine implements McdmEngine {
+    
+    @Override
+    public String getName() {
+        return "TOPSIS";
+    }
+    
+    @Override
+    public double[] score(double[][] columns, ColumnStatistics stats, double[] weights, boolean[] isBenefit) {
+        int k = columns.length;
+        int n = k > 0 ? columns[0].length : 0;
+        
+        // Faktor skala per kolom: vij = xij × scale[j]
+        double[] scale = new double[k];
+        double[] ideal = new double[k];
+        double[] antiIdeal = new double[k];
+        for (int j = 0; j < k; j++) {
+            double norm = stats.getNorm(j);
+            scale[j] = norm > 0 ? weights[j] / norm : 0.0;
+            double best = isBenefit[j] ? stats.getMax(j) : stats.getMin(j);
+            double worst = isBenefit[j] ? stats.getMin(j) : stats.getMax(j);
+            ideal[j] = best * scale[j];
+            antiIdeal[j] = worst * scale[j];
+        }
+        
+        double[] positive = new double[n];
+        double[] negative = new double[n];
+        for (int j = 0; j < k; j++) {
+            double[] column = columns[j];
+            for (int i = 0; i < n; i++) {
+                double v = column[i] * scale[j];
+                double dp = v - ideal[j];
+                double dn = v - antiIdeal[j];
+                positive[i] += dp * dp;
+                negative[i] += dn * dn;
+            }
+        }
+        
+        double[] closeness = new double[n];
+        for (int i = 0; i < n; i++) {
+            double dp = Math.sqrt(positive[i]);
+            double dn = Math.sqrt(negative[i]);
+            // Semua alternatif identik: jarak ke kedua solusi nol
+            closeness[i] = dp + dn > 0 ? dn / (dp + dn) : 0.5;
+        }
+        return closeness;
+    }
+}
\ No newline at end of file
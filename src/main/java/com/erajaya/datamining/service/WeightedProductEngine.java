@@ -0,0 +1,43 @@
+package com.erajaya.datamining.service;
+
+/**
+ * Weighted Product: Si = Π xij^wj dengan pangkat negatif untuk kriteria cost,
+ * lalu Vi = Si / ΣSi. Perkalian dihitung dalam bentuk logaritma agar tidak
+ * overflow/underflow pada harga besar atau banyak kriteria.
+ */
+public class WeightedProductEngine implements McdmEngine {
+    
+    @Override
+    public String getName() {
+        return "WP";
+    }
+    
+    @Override
+    public double[] score(double[][] columns, ColumnStatistics stats, double[] weights, boolean[] isBenefit) {
+        int n = columns.length > 0 ? columns[0].length : 0;
+        double[] logScores = new double[n];
+        
+        for (int j = 0; j < columns.length; j++) {
+            double[] column = columns[j];
+            double exponent = isBenefit[j] ? weights[j] : -weights[j];
+            for (int i = 0; i < n; i++) {
+                logScores[i] += exponent * Math.log(column[i]);
+            }
+        }
+        
+        // Vi = exp(log Si - log ΣSi), dihitung relatif terhadap log terbesar
+        double maxLog = Double.NEGATIVE_INFINITY;
+        for (double value : logScores) {
+            maxLog = Math.max(maxLog, value);
+        }
+        double sum = 0.0;
+        for (int i = 0; i < n; i++) {
+            logScores[i] = Math.exp(logScores[i] - maxLog);
+            sum += logScores[i];
+        }
+        for (int i = 0; i < n; i++) {
+            logScores[i] /= sum;
+        }
+        return logScores;
+    }
+}
\ No newline at end of file
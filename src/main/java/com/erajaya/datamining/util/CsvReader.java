@@ -0,0 +1,99 @@
+package com.erajaya.datamining.util;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pembaca CSV streaming (RFC 4180): field dipisah koma, field boleh diberi
+ * tanda kutip, kutip di dalam field ditulis ganda ("") dan field berkutip
+ * boleh memuat koma atau baris baru. Hanya satu record yang ditahan di memori.
+ */
+public class CsvReader implements Closeable {
+    
+    private final BufferedReader reader;
+    private final StringBuilder field = new StringBuilder();
+    private long lineNumber;
+    private long recordLine;
+    
+    public CsvReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader, 1 << 16);
+    }
+    
+    /**
+     * Membaca satu record
+     * @return List field, atau null jika sudah akhir file
+     */
+    public List<String> readRecord() throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+        lineNumber++;
+        recordLine = lineNumber;
+        
+        // Buang BOM UTF-8 di awal file
+        if (lineNumber == 1 && !line.isEmpty() && line.charAt(0) == '\uFEFF') {
+            line = line.substring(1);
+        }
+        
+        List<String> fields = new ArrayList<>();
+        field.setLength(0);
+        boolean quoted = false;
+        
+        while (true) {
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"') {
+                        if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                            field.append('"');
+                            i++;
+                        } else {
+                            quoted = false;
+                        }
+                    } else {
+                        field.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+            
+            if (!quoted) {
+                break;
+            }
+            
+            // Field berkutip berlanjut ke baris berikutnya
+            line = reader.readLine();
+            if (line == null) {
+                throw new IOException("Tanda kutip tidak ditutup pada baris " + recordLine);
+            }
+            lineNumber++;
+            field.append('\n');
+        }
+        
+        fields.add(field.toString());
+        return fields;
+    }
+    
+    /**
+     * Nomor baris file tempat record terakhir dimulai (mulai dari 1)
+     */
+    public long getRecordLine() {
+        return recordLine;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.erajaya.datamining.view;
 
 import com.erajaya.datamining.dao.AlternativeDAO;
+import com.erajaya.datamining.dao.CachingAlternativeDAO;
 import com.erajaya.datamining.model.Alternative;
 
 import javax.swing.*;
@@ -32,7 +33,7 @@ public class AlternativeDialog extends JDialog {
     public AlternativeDialog(Frame parent, Alternative alternative) {
         super(parent, "Form Alternatif", true);
         this.alternative = alternative;
-        this.alternativeDAO = new AlternativeDAO();
+        this.alternativeDAO = new CachingAlternativeDAO();
         
         initializeComponents();
         setupLayout();
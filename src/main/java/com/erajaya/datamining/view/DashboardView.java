@@ -2,22 +2,29 @@ package com.erajaya.datamining.view;
 
 import com.erajaya.datamining.controller.LoginController;
 import com.erajaya.datamining.controller.LoginController.UserSession;
+import com.erajaya.datamining.dao.AlternativeCodeIndex;
 import com.erajaya.datamining.dao.AlternativeDAO;
+import com.erajaya.datamining.dao.CachingAlternativeDAO;
 import com.erajaya.datamining.model.Alternative;
 import com.erajaya.datamining.model.SAWResult;
 import com.erajaya.datamining.model.User;
+import com.erajaya.datamining.service.AlternativeImportService;
+import com.erajaya.datamining.service.AlternativeImportService.ImportResult;
 import com.erajaya.datamining.service.PDFReportService;
+import com.erajaya.datamining.service.SAWResultExporter;
 import com.erajaya.datamining.service.SAWService;
 
 import javax.swing.*;
-import javax.swing.table.DefaultTableModel;
 import javax.swing.table.DefaultTableCellRenderer;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.io.File;
+import java.nio.file.Path;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -26,6 +33,10 @@ import java.util.Map;
  */
 public class DashboardView extends JFrame {
     
+    // Tabel hanya menyimpan beberapa halaman di memori
+    private static final int TABLE_PAGE_SIZE = 200;
+    private static final int TABLE_CACHED_PAGES = 8;
+    
     private User currentUser;
     private SAWService sawService;
     private AlternativeDAO alternativeDAO;
@@ -35,10 +46,15 @@ public class DashboardView extends JFrame {
     private JTabbedPane tabbedPane;
     private JTable alternativeTable;
     private JTable sawResultTable;
-    private DefaultTableModel alternativeTableModel;
-    private DefaultTableModel sawResultTableModel;
+    private PagedTableModel<Alternative> alternativeTableModel;
+    private PagedTableModel<SAWResult> sawResultTableModel;
     private JLabel statusLabel;
     private JProgressBar progressBar;
+    private JPanel statsPanel;
+    private SwingWorker<Void, String[]> statsWorker;
+    
+    // Tampilan hasil SAW hanya alternatif non-dominated (skyline Pareto)
+    private volatile boolean nonDominatedOnly;
     
     // Dashboard panels
     private JPanel dashboardPanel;
@@ -49,13 +65,16 @@ public class DashboardView extends JFrame {
     public DashboardView(User user) {
         this.currentUser = user;
         this.sawService = new SAWService();
-        this.alternativeDAO = new AlternativeDAO();
+        this.alternativeDAO = new CachingAlternativeDAO();
         this.pdfReportService = new PDFReportService();
         
         initializeComponents();
         setupLayout();
         setupEventHandlers();
         loadData();
+        
+        // Index kode untuk cek duplikat dibangun di background sebelum form dibuka
+        AlternativeCodeIndex.getInstance().warmUp();
     }
     
     private void initializeComponents() {
@@ -67,7 +86,7 @@ public class DashboardView extends JFrame {
         
         // Services
         sawService = new SAWService();
-        alternativeDAO = new AlternativeDAO();
+        alternativeDAO = new CachingAlternativeDAO();
         pdfReportService = new PDFReportService();
         
         // Components
@@ -88,6 +107,17 @@ public class DashboardView extends JFrame {
         tabbedPane.addTab("⚖️ Analisis SAW", sawPanel);
         tabbedPane.addTab("📄 Laporan", reportPanel);
         
+        // Tabel yang tidak terlihat tidak perlu menunggu antrean muat
+        tabbedPane.addChangeListener(e -> {
+            Component selected = tabbedPane.getSelectedComponent();
+            if (selected != alternativePanel) {
+                alternativeTableModel.cancelPending();
+            }
+            if (selected != sawPanel) {
+                sawResultTableModel.cancelPending();
+            }
+        });
+        
         // Set tab permissions
         if (!currentUser.hasPermission("update")) {
             tabbedPane.setEnabledAt(1, false); // Disable alternatif tab untuk staff
@@ -116,7 +146,7 @@ public class DashboardView extends JFrame {
         headerPanel.add(roleLabel, BorderLayout.SOUTH);
         
         // Quick stats panel
-        JPanel statsPanel = createStatsPanel();
+        statsPanel = createStatsPanel();
         
         // Quick actions panel
         JPanel actionsPanel = createQuickActionsPanel();
@@ -135,22 +165,68 @@ public class DashboardView extends JFrame {
         JPanel panel = new JPanel();
         panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
         panel.setBorder(BorderFactory.createTitledBorder("📊 Statistik Sistem"));
+        panel.add(new JLabel("  Memuat statistik..."));
         
-        // Get statistics
-        String[] stats = alternativeDAO.getStatistics();
-        Map<String, Object> sawStats = sawService.getSAWStatistics();
-        
-        addStatItem(panel, "Total Alternatif", stats[0]);
-        addStatItem(panel, "Rata-rata Harga", "Rp " + stats[1]);
-        addStatItem(panel, "Kualitas Tertinggi", stats[2]);
-        addStatItem(panel, "Suku Cadang Terbaik", stats[3]);
-        
-        if (!sawStats.isEmpty()) {
-            addStatItem(panel, "Alternatif Terbaik", (String) sawStats.get("bestAlternative"));
-            addStatItem(panel, "Skor Tertinggi", String.format("%.4f", (Double) sawStats.get("maxScore")));
+        return panel;
+    }
+    
+    /**
+     * Memuat statistik di background. Statistik alternatif ditampilkan lebih
+     * dulu, statistik SAW (yang mungkin perlu menghitung ulang) menyusul.
+     */
+    private void loadStatistics() {
+        if (statsWorker != null) {
+            statsWorker.cancel(false);
         }
         
-        return panel;
+        statsWorker = new SwingWorker<Void, String[]>() {
+            private boolean cleared;
+            
+            @Override
+            protected Void doInBackground() {
+                String[] stats = alternativeDAO.getStatistics();
+                publish(new String[]{"Total Alternatif", stats[0]},
+                        new String[]{"Rata-rata Harga", "Rp " + stats[1]},
+                        new String[]{"Kualitas Tertinggi", stats[2]},
+                        new String[]{"Suku Cadang Terbaik", stats[3]});
+                
+                if (isCancelled()) {
+                    return null;
+                }
+                
+                // Hanya peringkat 1 yang ditampilkan: cukup top-K, bukan ranking penuh
+                List<SAWResult> top = sawService.topK(1);
+                if (!top.isEmpty()) {
+                    publish(new String[]{"Alternatif Terbaik", top.get(0).getAlternativeName()},
+                            new String[]{"Skor Tertinggi", top.get(0).getFormattedScore()});
+                }
+                return null;
+            }
+            
+            @Override
+            protected void process(List<String[]> items) {
+                if (isCancelled()) {
+                    return;
+                }
+                if (!cleared) {
+                    statsPanel.removeAll();
+                    cleared = true;
+                }
+                for (String[] item : items) {
+                    addStatItem(statsPanel, item[0], item[1]);
+                }
+                statsPanel.revalidate();
+                statsPanel.repaint();
+            }
+            
+            @Override
+            protected void done() {
+                if (!isCancelled()) {
+                    updateStatus("Data berhasil dimuat");
+                }
+            }
+        };
+        statsWorker.execute();
     }
     
     private void addStatItem(JPanel parent, String label, String value) {
@@ -212,20 +288,18 @@ public class DashboardView extends JFrame {
         JButton editBtn = new JButton("✏️ Edit");
         JButton deleteBtn = new JButton("🗑️ Hapus");
         JButton refreshBtn = new JButton("🔄 Refresh");
+        JButton importBtn = new JButton("📥 Import CSV");
         
         toolbar.add(addBtn);
         toolbar.add(editBtn);
         toolbar.add(deleteBtn);
         toolbar.add(refreshBtn);
+        toolbar.add(importBtn);
         
         // Table
         String[] columns = {"ID", "Kode", "Nama Produk", "Harga", "Kualitas", "Suku Cadang", "Deskripsi"};
-        alternativeTableModel = new DefaultTableModel(columns, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
-            }
-        };
+        alternativeTableModel = new PagedTableModel<>(columns, new AlternativePageSource(),
+            DashboardView::getAlternativeValue, TABLE_PAGE_SIZE, TABLE_CACHED_PAGES);
         
         alternativeTable = new JTable(alternativeTableModel);
         alternativeTable.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
@@ -243,11 +317,13 @@ public class DashboardView extends JFrame {
         addBtn.addActionListener(e -> showAlternativeDialog(null));
         editBtn.addActionListener(e -> editSelectedAlternative());
         deleteBtn.addActionListener(e -> deleteSelectedAlternative());
+        importBtn.addActionListener(e -> importAlternatives());
         
         // Permission check
         if (!currentUser.hasPermission("update")) {
             addBtn.setEnabled(false);
             editBtn.setEnabled(false);
+            importBtn.setEnabled(false);
         }
         if (!currentUser.hasPermission("delete")) {
             deleteBtn.setEnabled(false);
@@ -262,19 +338,18 @@ public class DashboardView extends JFrame {
         JButton calculateBtn = new JButton("🔄 Hitung SAW");
         JButton detailBtn = new JButton("🔍 Detail Perhitungan");
         JButton exportBtn = new JButton("📊 Export Hasil");
+        JCheckBox nonDominatedCheck = new JCheckBox("Hanya non-dominated");
+        nonDominatedCheck.setToolTipText("Sembunyikan alternatif yang kalah di semua kriteria dari alternatif lain");
         
         controlPanel.add(calculateBtn);
         controlPanel.add(detailBtn);
-//        controlPanel.add(exportBtn);
+        controlPanel.add(exportBtn);
+        controlPanel.add(nonDominatedCheck);
         
         // Results table
         String[] sawColumns = {"Rank", "Kode", "Nama Produk", "Harga", "Kualitas", "S.Cadang", "Skor SAW", "%"};
-        sawResultTableModel = new DefaultTableModel(sawColumns, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
-            }
-        };
+        sawResultTableModel = new PagedTableModel<>(sawColumns, new SAWResultPageSource(),
+            DashboardView::getSAWResultValue, TABLE_PAGE_SIZE, TABLE_CACHED_PAGES);
         
         sawResultTable = new JTable(sawResultTableModel);
         sawResultTable.setRowHeight(25);
@@ -291,6 +366,18 @@ public class DashboardView extends JFrame {
         calculateBtn.addActionListener(e -> calculateSAW());
         detailBtn.addActionListener(e -> showSAWDetails());
         exportBtn.addActionListener(e -> exportSAWResults());
+        nonDominatedCheck.addActionListener(e -> setNonDominatedOnly(nonDominatedCheck.isSelected()));
+    }
+    
+    /**
+     * Mengganti tampilan hasil SAW antara semua alternatif dan skyline Pareto.
+     * Laporan PDF hasil dan analisis mengikuti pilihan yang sama.
+     */
+    private void setNonDominatedOnly(boolean enabled) {
+        nonDominatedOnly = enabled;
+        pdfReportService.setNonDominatedOnly(enabled);
+        loadSAWData();
+        updateStatus(enabled ? "Menampilkan alternatif non-dominated" : "Menampilkan semua alternatif");
     }
     
     private void initializeReportPanel() {
@@ -437,53 +524,48 @@ public class DashboardView extends JFrame {
         });
     }
     
+    /**
+     * Memuat ulang statistik dan kedua tabel. Semua query berjalan di
+     * background; muatan dari refresh sebelumnya dibatalkan.
+     */
     private void loadData() {
-        SwingUtilities.invokeLater(() -> {
-            loadAlternativeData();
-            loadSAWData();
-            updateStatus("Data berhasil dimuat");
-        });
+        loadStatistics();
+        loadAlternativeData();
+        loadSAWData();
+        updateStatus("Memuat data...");
     }
     
     private void loadAlternativeData() {
-        alternativeTableModel.setRowCount(0);
-        
-        List<Alternative> alternatives = alternativeDAO.findAll();
-        for (Alternative alt : alternatives) {
-            Object[] row = {
-                alt.getId(),
-                alt.getCode(),
-                alt.getName(),
-                alt.getFormattedPrice(),
-                alt.getQualityScore(),
-                alt.getSparePartsScore(),
-                alt.getDescription() != null ? alt.getDescription() : "-"
-            };
-            alternativeTableModel.addRow(row);
-        }
+        alternativeTableModel.refresh();
     }
     
     private void loadSAWData() {
-        sawResultTableModel.setRowCount(0);
-        
-        try {
-            List<SAWResult> results = sawService.getSAWResults();
-            for (SAWResult result : results) {
-                Alternative alt = result.getAlternative();
-                Object[] row = {
-                    result.getRanking(),
-                    alt != null ? alt.getCode() : "N/A",
-                    result.getAlternativeName(),
-                    alt != null ? alt.getFormattedPrice() : "N/A",
-                    alt != null ? alt.getQualityScore() : "N/A",
-                    alt != null ? alt.getSparePartsScore() : "N/A",
-                    result.getFormattedScore(),
-                    result.getScorePercentage()
-                };
-                sawResultTableModel.addRow(row);
-            }
-        } catch (Exception e) {
-            showError("Error loading SAW data: " + e.getMessage());
+        sawResultTableModel.refresh();
+    }
+    
+    private static Object getAlternativeValue(Alternative alt, int column) {
+        switch (column) {
+            case 0: return alt.getId();
+            case 1: return alt.getCode();
+            case 2: return alt.getName();
+            case 3: return alt.getFormattedPrice();
+            case 4: return alt.getQualityScore();
+            case 5: return alt.getSparePartsScore();
+            default: return alt.getDescription() != null ? alt.getDescription() : "-";
+        }
+    }
+    
+    private static Object getSAWResultValue(SAWResult result, int column) {
+        Alternative alt = result.getAlternative();
+        switch (column) {
+            case 0: return result.getRanking();
+            case 1: return alt != null ? alt.getCode() : "N/A";
+            case 2: return result.getAlternativeName();
+            case 3: return alt != null ? alt.getFormattedPrice() : "N/A";
+            case 4: return alt != null ? alt.getQualityScore() : "N/A";
+            case 5: return alt != null ? alt.getSparePartsScore() : "N/A";
+            case 6: return result.getFormattedScore();
+            default: return result.getScorePercentage();
         }
     }
     
@@ -491,9 +573,6 @@ public class DashboardView extends JFrame {
         SwingWorker<Void, Void> worker = new SwingWorker<Void, Void>() {
             @Override
             protected Void doInBackground() throws Exception {
-                updateStatus("Menghitung SAW...");
-                showProgress(true);
-                
                 // Validasi data
                 List<String> errors = sawService.validateData();
                 if (!errors.isEmpty()) {
@@ -515,6 +594,7 @@ public class DashboardView extends JFrame {
                 try {
                     get(); // Check for exceptions
                     loadSAWData();
+                    loadStatistics();
                     updateStatus("Perhitungan SAW selesai");
                     showSuccess("Perhitungan SAW berhasil diselesaikan!");
                 } catch (Exception e) {
@@ -526,6 +606,8 @@ public class DashboardView extends JFrame {
             }
         };
         
+        updateStatus("Menghitung SAW...");
+        showProgress(true);
         worker.execute();
     }
     
@@ -534,11 +616,39 @@ public class DashboardView extends JFrame {
         dialog.setVisible(true);
         
         if (dialog.isConfirmed()) {
+            int id = dialog.getAlternative().getId();
             loadAlternativeData();
             updateStatus("Data alternatif berhasil disimpan");
+            updateRankingInBackground(() -> sawService.onAlternativeSaved(id));
         }
     }
     
+    /**
+     * Menerapkan perubahan satu alternatif ke ranking SAW di background
+     * (membaca dan menulis database), lalu memuat ulang tabel hasil SAW
+     */
+    private void updateRankingInBackground(Runnable update) {
+        SwingWorker<Void, Void> worker = new SwingWorker<Void, Void>() {
+            @Override
+            protected Void doInBackground() throws Exception {
+                update.run();
+                return null;
+            }
+            
+            @Override
+            protected void done() {
+                try {
+                    get();
+                    loadSAWData();
+                } catch (Exception e) {
+                    System.err.println("Error saat memperbarui ranking SAW: " + e.getMessage());
+                }
+            }
+        };
+        
+        worker.execute();
+    }
+    
     private void editSelectedAlternative() {
         int selectedRow = alternativeTable.getSelectedRow();
         if (selectedRow == -1) {
@@ -546,14 +656,41 @@ public class DashboardView extends JFrame {
             return;
         }
         
-        int id = (Integer) alternativeTableModel.getValueAt(selectedRow, 0);
-        Alternative alternative = alternativeDAO.findById(id);
-        
-        if (alternative != null) {
-            showAlternativeDialog(alternative);
-        } else {
-            showError("Alternatif tidak ditemukan");
+        Alternative selected = alternativeTableModel.getRow(selectedRow);
+        if (selected == null) {
+            showWarning("Data baris masih dimuat, silakan coba lagi");
+            return;
         }
+        
+        int id = selected.getId();
+        SwingWorker<Alternative, Void> worker = new SwingWorker<Alternative, Void>() {
+            @Override
+            protected Alternative doInBackground() throws Exception {
+                return alternativeDAO.findById(id);
+            }
+            
+            @Override
+            protected void done() {
+                showProgress(false);
+                try {
+                    Alternative alternative = get();
+                    if (alternative != null) {
+                        updateStatus("Siap");
+                        showAlternativeDialog(alternative);
+                    } else {
+                        updateStatus("Alternatif tidak ditemukan");
+                        showError("Alternatif tidak ditemukan");
+                    }
+                } catch (Exception e) {
+                    updateStatus("Gagal memuat alternatif");
+                    showError("Error saat memuat alternatif: " + e.getMessage());
+                }
+            }
+        };
+        
+        updateStatus("Memuat data alternatif...");
+        showProgress(true);
+        worker.execute();
     }
     
     private void deleteSelectedAlternative() {
@@ -563,7 +700,13 @@ public class DashboardView extends JFrame {
             return;
         }
         
-        String name = (String) alternativeTableModel.getValueAt(selectedRow, 2);
+        Alternative selected = alternativeTableModel.getRow(selectedRow);
+        if (selected == null) {
+            showWarning("Data baris masih dimuat, silakan coba lagi");
+            return;
+        }
+        
+        String name = selected.getName();
         int confirm = JOptionPane.showConfirmDialog(
             this,
             "Apakah Anda yakin ingin menghapus alternatif '" + name + "'?",
@@ -571,17 +714,105 @@ public class DashboardView extends JFrame {
             JOptionPane.YES_NO_OPTION
         );
         
-        if (confirm == JOptionPane.YES_OPTION) {
-            int id = (Integer) alternativeTableModel.getValueAt(selectedRow, 0);
+        if (confirm != JOptionPane.YES_OPTION) {
+            return;
+        }
+        
+        int id = selected.getId();
+        SwingWorker<Boolean, Void> worker = new SwingWorker<Boolean, Void>() {
+            @Override
+            protected Boolean doInBackground() throws Exception {
+                if (!alternativeDAO.delete(id)) {
+                    return false;
+                }
+                // Ranking diperbarui tepat setelah penghapusan, di thread yang sama
+                sawService.onAlternativeDeleted(id);
+                return true;
+            }
             
-            if (alternativeDAO.delete(id)) {
-                loadAlternativeData();
-                updateStatus("Alternatif berhasil dihapus");
-                showSuccess("Alternatif '" + name + "' berhasil dihapus");
-            } else {
-                showError("Gagal menghapus alternatif");
+            @Override
+            protected void done() {
+                showProgress(false);
+                try {
+                    if (get()) {
+                        loadAlternativeData();
+                        loadSAWData();
+                        updateStatus("Alternatif berhasil dihapus");
+                        showSuccess("Alternatif '" + name + "' berhasil dihapus");
+                    } else {
+                        updateStatus("Gagal menghapus alternatif");
+                        showError("Gagal menghapus alternatif");
+                    }
+                } catch (Exception e) {
+                    updateStatus("Gagal menghapus alternatif");
+                    showError("Error saat menghapus alternatif: " + e.getMessage());
+                }
             }
+        };
+        
+        updateStatus("Menghapus alternatif...");
+        showProgress(true);
+        worker.execute();
+    }
+    
+    private void importAlternatives() {
+        JFileChooser fileChooser = new JFileChooser();
+        fileChooser.setDialogTitle("Import Alternatif dari CSV");
+        fileChooser.setFileFilter(new javax.swing.filechooser.FileNameExtensionFilter("CSV Files", "csv"));
+        
+        if (fileChooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
         }
+        Path file = fileChooser.getSelectedFile().toPath();
+        
+        SwingWorker<ImportResult, long[]> worker = new SwingWorker<ImportResult, long[]>() {
+            @Override
+            protected ImportResult doInBackground() throws Exception {
+                return new AlternativeImportService().importCsv(file,
+                    (rowsRead, imported, rejected) -> publish(new long[]{rowsRead, imported, rejected}));
+            }
+            
+            @Override
+            protected void process(List<long[]> chunks) {
+                long[] latest = chunks.get(chunks.size() - 1);
+                updateStatus(String.format("Import CSV: %,d baris dibaca, %,d diimport, %,d ditolak",
+                    latest[0], latest[1], latest[2]));
+            }
+            
+            @Override
+            protected void done() {
+                try {
+                    ImportResult result = get();
+                    loadData();
+                    updateStatus("Import selesai: " + result);
+                    
+                    StringBuilder message = new StringBuilder("Import selesai:\n" + result);
+                    List<AlternativeImportService.RejectedRow> rejected = result.getRejectedRows();
+                    for (int i = 0; i < Math.min(rejected.size(), 20); i++) {
+                        message.append(i == 0 ? "\n\nBaris ditolak:\n" : "\n").append("• ").append(rejected.get(i));
+                    }
+                    if (result.getRejected() > 20) {
+                        message.append("\n... dan ").append(result.getRejected() - 20).append(" baris lainnya");
+                    }
+                    
+                    if (result.getRejected() > 0) {
+                        showWarning(message.toString());
+                    } else {
+                        showSuccess(message.toString());
+                    }
+                } catch (Exception e) {
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    showError("Error import CSV: " + cause.getMessage());
+                    updateStatus("Import CSV gagal");
+                } finally {
+                    showProgress(false);
+                }
+            }
+        };
+        
+        updateStatus("Import CSV...");
+        showProgress(true);
+        worker.execute();
     }
     
     private void showSAWDetails() {
@@ -592,12 +823,64 @@ public class DashboardView extends JFrame {
     private void exportSAWResults() {
         JFileChooser fileChooser = new JFileChooser();
         fileChooser.setDialogTitle("Export Hasil SAW");
-        fileChooser.setFileFilter(new javax.swing.filechooser.FileNameExtensionFilter("CSV Files", "csv"));
+        javax.swing.filechooser.FileNameExtensionFilter csvFilter =
+            new javax.swing.filechooser.FileNameExtensionFilter("CSV Files", "csv");
+        javax.swing.filechooser.FileNameExtensionFilter gzipFilter =
+            new javax.swing.filechooser.FileNameExtensionFilter("CSV Gzip Files (*.csv.gz)", "gz");
+        fileChooser.addChoosableFileFilter(csvFilter);
+        fileChooser.addChoosableFileFilter(gzipFilter);
+        fileChooser.setFileFilter(csvFilter);
         
-        if (fileChooser.showSaveDialog(this) == JFileChooser.APPROVE_OPTION) {
-            // Implementation for CSV export would go here
-            showSuccess("Hasil SAW berhasil diexport");
+        String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
+        fileChooser.setSelectedFile(new File("Hasil_SAW_" + timestamp + ".csv"));
+        
+        if (fileChooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        
+        String filePath = fileChooser.getSelectedFile().getAbsolutePath();
+        if (fileChooser.getFileFilter() == gzipFilter && !filePath.endsWith(".gz")) {
+            filePath += filePath.endsWith(".csv") ? ".gz" : ".csv.gz";
         }
+        boolean gzip = filePath.endsWith(".gz");
+        Path file = new File(filePath).toPath();
+        
+        SwingWorker<Long, long[]> worker = new SwingWorker<Long, long[]>() {
+            @Override
+            protected Long doInBackground() throws Exception {
+                return new SAWResultExporter(sawService).exportCsv(file, gzip,
+                    (written, total) -> publish(new long[]{written, total}));
+            }
+            
+            @Override
+            protected void process(List<long[]> chunks) {
+                long[] latest = chunks.get(chunks.size() - 1);
+                if (latest[1] > 0) {
+                    progressBar.setValue((int) Math.min(100, latest[0] * 100 / latest[1]));
+                }
+                updateStatus(String.format("Export SAW: %,d dari %,d baris", latest[0], latest[1]));
+            }
+            
+            @Override
+            protected void done() {
+                try {
+                    long rows = get();
+                    updateStatus("Export hasil SAW selesai");
+                    showSuccess(String.format("%,d baris hasil SAW berhasil diexport ke: %s", rows, file));
+                } catch (Exception e) {
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    showError("Error export hasil SAW: " + cause.getMessage());
+                    updateStatus("Export hasil SAW gagal");
+                } finally {
+                    progressBar.setValue(0);
+                    showProgress(false);
+                }
+            }
+        };
+        
+        updateStatus("Export hasil SAW...");
+        showProgress(true);
+        worker.execute();
     }
     
     private void generateReport(int reportType) {
@@ -748,6 +1031,69 @@ public class DashboardView extends JFrame {
         JOptionPane.showMessageDialog(this, message, "Warning", JOptionPane.WARNING_MESSAGE);
     }
     
+    /**
+     * Halaman alternatif urut kode, selalu dengan keyset pagination. Kode
+     * terakhir setiap halaman yang sudah dibaca dipakai untuk halaman
+     * berikutnya; saat scroll melompat, kode pertama setiap halaman dibaca
+     * sekali dari index code lalu halaman dicari dengan WHERE code >= ?.
+     * Hanya dipanggil dari thread pemuat PagedTableModel.
+     */
+    private class AlternativePageSource implements PagedTableModel.PageSource<Alternative> {
+        private final Map<Integer, String> lastCodes = new HashMap<>();
+        private List<String> boundaries;
+        
+        @Override
+        public int count() {
+            lastCodes.clear();
+            boundaries = null;
+            return alternativeDAO.countAll();
+        }
+        
+        @Override
+        public List<Alternative> loadPage(int pageIndex, int pageSize) {
+            List<Alternative> page;
+            if (pageIndex == 0) {
+                page = alternativeDAO.findPage(null, pageSize);
+            } else if (lastCodes.containsKey(pageIndex - 1)) {
+                page = alternativeDAO.findPage(lastCodes.get(pageIndex - 1), pageSize);
+            } else {
+                if (boundaries == null) {
+                    boundaries = alternativeDAO.findPageBoundaries(pageSize);
+                }
+                page = pageIndex < boundaries.size()
+                    ? alternativeDAO.findPageFrom(boundaries.get(pageIndex), pageSize)
+                    : new ArrayList<>();
+            }
+            
+            if (!page.isEmpty()) {
+                lastCodes.put(pageIndex, page.get(page.size() - 1).getCode());
+            }
+            return page;
+        }
+    }
+    
+    /**
+     * Halaman hasil SAW urut ranking. Ranking di saw_results berurutan 1..N,
+     * sehingga halaman ke-p langsung dibaca dengan WHERE ranking > p * ukuran.
+     * Mode non-dominated membaca skyline dari snapshot di memori.
+     */
+    private class SAWResultPageSource implements PagedTableModel.PageSource<SAWResult> {
+        @Override
+        public int count() {
+            return nonDominatedOnly ? sawService.getNonDominatedResults().size() : sawService.getRankedCount();
+        }
+        
+        @Override
+        public List<SAWResult> loadPage(int pageIndex, int pageSize) {
+            if (nonDominatedOnly) {
+                List<SAWResult> results = sawService.getNonDominatedResults();
+                int from = Math.min(results.size(), pageIndex * pageSize);
+                return new ArrayList<>(results.subList(from, Math.min(results.size(), from + pageSize)));
+            }
+            return sawService.getRankedPage(pageIndex * pageSize, pageSize);
+        }
+    }
+    
     // Custom cell renderer for ranking
     private class RankingCellRenderer extends DefaultTableCellRenderer {
         public RankingCellRenderer() {
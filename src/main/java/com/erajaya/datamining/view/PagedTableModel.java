@@ -0,0 +1,219 @@
+package com.erajaya.datamining.view;
+
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Table model yang hanya memuat halaman baris yang sedang terlihat.
+ * Halaman dibaca di background thread dari PageSource dan disimpan di
+ * cache LRU kecil; baris yang belum dimuat tampil kosong sampai halamannya
+ * tiba. Dengan begitu tabel jutaan baris tetap ringan di heap dan scroll
+ * tidak menunggu database di EDT. Saat scroll cepat hanya MAX_PENDING
+ * halaman terbaru yang tetap antre; permintaan yang lebih lama dibatalkan
+ * agar pemuat tidak membaca halaman yang sudah terlewati.
+ * Semua method publik dipanggil di EDT.
+ */
+public class PagedTableModel<T> extends AbstractTableModel {
+    
+    private static final long serialVersionUID = 1L;
+    
+    // Jumlah maksimum halaman yang antre per tabel (cukup untuk area yang terlihat)
+    private static final int MAX_PENDING = 4;
+    
+    /**
+     * Sumber data per halaman (dipanggil di luar EDT)
+     */
+    public interface PageSource<T> {
+        int count();
+        
+        List<T> loadPage(int pageIndex, int pageSize);
+    }
+    
+    /**
+     * Mengambil nilai kolom dari satu baris
+     */
+    public interface RowMapper<T> {
+        Object getValue(T row, int column);
+    }
+    
+    // Satu thread pemuat untuk semua tabel, sebagai daemon agar tidak menahan aplikasi
+    private static final ExecutorService LOADER = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "table-page-loader");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    private final String[] columns;
+    private final PageSource<T> source;
+    private final RowMapper<T> mapper;
+    private final int pageSize;
+    private final Map<Integer, List<T>> pages;
+    private final Map<Integer, Future<?>> pending = new LinkedHashMap<>();  // urut waktu permintaan
+    private Future<?> pendingCount;
+    
+    private int rowCount;
+    private int generation;   // naik setiap refresh, hasil muat dari generasi lama dibuang
+    
+    public PagedTableModel(String[] columns, PageSource<T> source, RowMapper<T> mapper,
+                           int pageSize, int maxCachedPages) {
+        this.columns = columns;
+        this.source = source;
+        this.mapper = mapper;
+        this.pageSize = pageSize;
+        this.pages = new LinkedHashMap<Integer, List<T>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, List<T>> eldest) {
+                return size() > maxCachedPages;
+            }
+        };
+    }
+    
+    /**
+     * Membaca ulang jumlah baris dan mengosongkan cache. Muatan yang masih
+     * antre dari refresh sebelumnya dibatalkan.
+     */
+    public void refresh() {
+        cancelPending();
+        int requested = ++generation;
+        pendingCount = LOADER.submit(() -> {
+            int count = source.count();
+            SwingUtilities.invokeLater(() -> setRowCount(requested, count));
+        });
+    }
+    
+    /**
+     * Mengatur jumlah baris yang sudah diketahui tanpa membaca ulang count
+     */
+    public void setRowCount(int count) {
+        cancelPending();
+        setRowCount(++generation, count);
+    }
+    
+    private void setRowCount(int requested, int count) {
+        if (requested != generation) {
+            return;
+        }
+        pendingCount = null;
+        pages.clear();
+        pending.clear();
+        rowCount = count;
+        fireTableDataChanged();
+    }
+    
+    /**
+     * Membatalkan muatan halaman yang belum berjalan, misalnya saat tabel
+     * tidak lagi terlihat. Halaman akan diminta lagi saat baris dibutuhkan.
+     * Query yang sedang berjalan dibiarkan selesai agar koneksi tidak terputus.
+     */
+    public void cancelPending() {
+        for (Future<?> future : pending.values()) {
+            future.cancel(false);
+        }
+        pending.clear();
+        
+        if (pendingCount != null) {
+            pendingCount.cancel(false);
+            pendingCount = null;
+        }
+    }
+    
+    /**
+     * Cek apakah jumlah baris atau halaman masih dimuat
+     */
+    public boolean isLoading() {
+        return pendingCount != null || !pending.isEmpty();
+    }
+    
+    /**
+     * Mendapatkan objek baris jika halamannya sudah dimuat
+     * @param row Index baris
+     * @return Objek baris, atau null jika belum tersedia
+     */
+    public T getRow(int row) {
+        if (row < 0 || row >= rowCount) {
+            return null;
+        }
+        
+        int pageIndex = row / pageSize;
+        List<T> page = pages.get(pageIndex);
+        if (page == null) {
+            requestPage(pageIndex);
+            return null;
+        }
+        
+        int offset = row % pageSize;
+        return offset < page.size() ? page.get(offset) : null;
+    }
+    
+    private void requestPage(int pageIndex) {
+        if (pending.containsKey(pageIndex)) {
+            return;
+        }
+        
+        // Buang permintaan tertua; halaman itu diminta lagi jika kembali terlihat
+        Iterator<Future<?>> oldest = pending.values().iterator();
+        while (pending.size() >= MAX_PENDING) {
+            oldest.next().cancel(false);
+            oldest.remove();
+        }
+        
+        int requested = generation;
+        pending.put(pageIndex, LOADER.submit(() -> {
+            List<T> page;
+            try {
+                page = source.loadPage(pageIndex, pageSize);
+            } catch (RuntimeException e) {
+                System.err.println("Error saat memuat halaman tabel: " + e.getMessage());
+                page = Collections.emptyList();
+            }
+            
+            List<T> loaded = page;
+            SwingUtilities.invokeLater(() -> {
+                if (requested != generation || pending.remove(pageIndex) == null) {
+                    return;
+                }
+                pages.put(pageIndex, loaded);
+                
+                int first = pageIndex * pageSize;
+                int last = Math.min(rowCount, first + pageSize) - 1;
+                if (first <= last) {
+                    fireTableRowsUpdated(first, last);
+                }
+            });
+        }));
+    }
+    
+    @Override
+    public int getRowCount() {
+        return rowCount;
+    }
+    
+    @Override
+    public int getColumnCount() {
+        return columns.length;
+    }
+    
+    @Override
+    public String getColumnName(int column) {
+        return columns[column];
+    }
+    
+    @Override
+    public Object getValueAt(int rowIndex, int columnIndex) {
+        T row = getRow(rowIndex);
+        return row != null ? mapper.getValue(row, columnIndex) : null;
+    }
+    
+    @Override
+    public boolean isCellEditable(int row, int column) {
+        return false;
+    }
+}
\ No newline at end of file
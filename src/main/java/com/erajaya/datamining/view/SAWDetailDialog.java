@@ -1,6 +1,9 @@
 package com.erajaya.datamining.view;
 
+import com.erajaya.datamining.service.McdmComparison;
+import com.erajaya.datamining.service.McdmEngine;
 import com.erajaya.datamining.service.SAWService;
+import com.erajaya.datamining.service.SensitivityAnalysis;
 
 import javax.swing.*;
 import javax.swing.table.DefaultTableModel;
@@ -8,6 +11,7 @@ import javax.swing.table.DefaultTableCellRenderer;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -15,6 +19,9 @@ import java.util.Map;
  */
 public class SAWDetailDialog extends JDialog {
     
+    // Jumlah pasangan ranking teratas yang ditampilkan di tab sensitivitas
+    private static final int MAX_SWAP_ROWS = 50;
+    
     private SAWService sawService;
     private JTabbedPane tabbedPane;
     
@@ -23,12 +30,18 @@ public class SAWDetailDialog extends JDialog {
     private JTable decisionTable;
     private JTable normalizedTable;
     private JTable resultTable;
+    private JTable tornadoTable;
+    private JTable swapTable;
+    private JTable methodTable;
     
     // Table models
     private DefaultTableModel criteriaTableModel;
     private DefaultTableModel decisionTableModel;
     private DefaultTableModel normalizedTableModel;
     private DefaultTableModel resultTableModel;
+    private DefaultTableModel tornadoTableModel;
+    private DefaultTableModel swapTableModel;
+    private DefaultTableModel methodTableModel;
     
     public SAWDetailDialog(Frame parent, SAWService sawService) {
         super(parent, "Detail Perhitungan SAW", true);
@@ -51,12 +64,16 @@ public class SAWDetailDialog extends JDialog {
         initializeDecisionTable();
         initializeNormalizedTable();
         initializeResultTable();
+        initializeSensitivityTables();
+        initializeMethodTable();
         
         // Add tabs
         tabbedPane.addTab("📋 Kriteria & Bobot", createScrollPane(criteriaTable));
         tabbedPane.addTab("📊 Matriks Keputusan", createScrollPane(decisionTable));
         tabbedPane.addTab("⚖️ Matriks Normalisasi", createScrollPane(normalizedTable));
         tabbedPane.addTab("🏆 Hasil Akhir", createScrollPane(resultTable));
+        tabbedPane.addTab("🎯 Sensitivitas Bobot", createSensitivityPanel());
+        tabbedPane.addTab("🔀 Perbandingan Metode", createScrollPane(methodTable));
     }
     
     private void initializeCriteriaTable() {
@@ -85,7 +102,7 @@ public class SAWDetailDialog extends JDialog {
     }
     
     private void initializeDecisionTable() {
-        String[] columns = {"Alternatif", "Harga", "Kualitas", "Suku Cadang"};
+        String[] columns = createMatrixColumns("");
         decisionTableModel = new DefaultTableModel(columns, 0) {
             @Override
             public boolean isCellEditable(int row, int column) {
@@ -105,7 +122,7 @@ public class SAWDetailDialog extends JDialog {
     }
     
     private void initializeNormalizedTable() {
-        String[] columns = {"Alternatif", "Harga (N)", "Kualitas (N)", "Suku Cadang (N)"};
+        String[] columns = createMatrixColumns(" (N)");
         normalizedTableModel = new DefaultTableModel(columns, 0) {
             @Override
             public boolean isCellEditable(int row, int column) {
@@ -124,6 +141,19 @@ public class SAWDetailDialog extends JDialog {
         }
     }
     
+    /**
+     * Membuat header kolom matriks: Alternatif + satu kolom per kriteria
+     */
+    private String[] createMatrixColumns(String suffix) {
+        String[] names = (String[]) sawService.getCriteriaInfo().get("names");
+        String[] columns = new String[names.length + 1];
+        columns[0] = "Alternatif";
+        for (int i = 0; i < names.length; i++) {
+            columns[i + 1] = names[i] + suffix;
+        }
+        return columns;
+    }
+    
     private void initializeResultTable() {
         String[] columns = {"Rank", "Alternatif", "Kode", "Total Skor", "Persentase", "Keterangan"};
         resultTableModel = new DefaultTableModel(columns, 0) {
@@ -150,6 +180,92 @@ public class SAWDetailDialog extends JDialog {
         resultTable.getColumnModel().getColumn(4).setCellRenderer(centerRenderer);
     }
     
+    private void initializeSensitivityTables() {
+        String[] tornadoColumns = {"Kriteria", "Bobot", "Ranking Stabil", "Rentang", "Peringkat 1 Stabil", "Penantang Peringkat 1"};
+        tornadoTableModel = new DefaultTableModel(tornadoColumns, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+        
+        tornadoTable = new JTable(tornadoTableModel);
+        tornadoTable.setRowHeight(25);
+        
+        // Kolom: Rank, Alternatif, Disalip oleh + delta bobot per kriteria
+        String[] names = (String[]) sawService.getCriteriaInfo().get("names");
+        String[] swapColumns = new String[names.length + 3];
+        swapColumns[0] = "Rank";
+        swapColumns[1] = "Alternatif";
+        swapColumns[2] = "Disalip oleh";
+        for (int i = 0; i < names.length; i++) {
+            swapColumns[i + 3] = "Δ " + names[i];
+        }
+        swapTableModel = new DefaultTableModel(swapColumns, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+        
+        swapTable = new JTable(swapTableModel);
+        swapTable.setRowHeight(25);
+        swapTable.getColumnModel().getColumn(0).setMaxWidth(60);
+        
+        // Center alignment for numbers
+        DefaultTableCellRenderer centerRenderer = new DefaultTableCellRenderer();
+        centerRenderer.setHorizontalAlignment(JLabel.CENTER);
+        for (int i = 1; i < 5; i++) {
+            tornadoTable.getColumnModel().getColumn(i).setCellRenderer(centerRenderer);
+        }
+        swapTable.getColumnModel().getColumn(0).setCellRenderer(centerRenderer);
+        for (int i = 3; i < swapTable.getColumnCount(); i++) {
+            swapTable.getColumnModel().getColumn(i).setCellRenderer(centerRenderer);
+        }
+    }
+    
+    private void initializeMethodTable() {
+        // Kolom: Alternatif, Kode + ranking dan skor per metode
+        List<McdmEngine> methods = McdmComparison.defaultEngines();
+        String[] columns = new String[methods.size() * 2 + 2];
+        columns[0] = "Alternatif";
+        columns[1] = "Kode";
+        for (int m = 0; m < methods.size(); m++) {
+            columns[2 + m * 2] = "Rank " + methods.get(m).getName();
+            columns[3 + m * 2] = "Skor " + methods.get(m).getName();
+        }
+        methodTableModel = new DefaultTableModel(columns, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+        
+        methodTable = new JTable(methodTableModel);
+        methodTable.setRowHeight(25);
+        methodTable.getColumnModel().getColumn(1).setMaxWidth(80);
+        
+        // Center alignment for numbers
+        DefaultTableCellRenderer centerRenderer = new DefaultTableCellRenderer();
+        centerRenderer.setHorizontalAlignment(JLabel.CENTER);
+        for (int i = 2; i < methodTable.getColumnCount(); i++) {
+            methodTable.getColumnModel().getColumn(i).setCellRenderer(centerRenderer);
+        }
+    }
+    
+    private JPanel createSensitivityPanel() {
+        JPanel panel = new JPanel(new GridLayout(2, 1));
+        
+        JScrollPane tornadoScroll = createScrollPane(tornadoTable);
+        tornadoScroll.setBorder(BorderFactory.createTitledBorder("Rentang bobot yang tidak mengubah hasil (paling sensitif di atas)"));
+        JScrollPane swapScroll = createScrollPane(swapTable);
+        swapScroll.setBorder(BorderFactory.createTitledBorder("Perubahan bobot agar alternatif di bawahnya menyalip"));
+        
+        panel.add(tornadoScroll);
+        panel.add(swapScroll);
+        return panel;
+    }
+    
     private JScrollPane createScrollPane(JTable table) {
         JScrollPane scrollPane = new JScrollPane(table);
         scrollPane.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
@@ -205,6 +321,8 @@ public class SAWDetailDialog extends JDialog {
             loadDecisionMatrixData();
             loadNormalizedMatrixData();
             loadResultData();
+            loadSensitivityData();
+            loadMethodComparisonData();
         } catch (Exception e) {
             JOptionPane.showMessageDialog(this, 
                 "Error loading data: " + e.getMessage(), 
@@ -282,6 +400,71 @@ public class SAWDetailDialog extends JDialog {
         }
     }
     
+    private void loadSensitivityData() {
+        tornadoTableModel.setRowCount(0);
+        swapTableModel.setRowCount(0);
+        
+        SensitivityAnalysis analysis = sawService.getSensitivityAnalysis();
+        if (analysis == null) {
+            return;
+        }
+        
+        for (SensitivityAnalysis.StabilityInterval interval : analysis.getTornado()) {
+            var lowerChallenger = interval.getTopLowerChallenger();
+            var upperChallenger = interval.getTopUpperChallenger();
+            String challengers = (lowerChallenger != null ? "↓ " + lowerChallenger.getCode() : "-")
+                + " / " + (upperChallenger != null ? "↑ " + upperChallenger.getCode() : "-");
+            
+            Object[] row = {
+                interval.getCriteriaName(),
+                String.format("%.4f", interval.getWeight()),
+                String.format("%.4f - %.4f", interval.getLower(), interval.getUpper()),
+                String.format("%.4f", interval.getWidth()),
+                String.format("%.4f - %.4f", interval.getTopLower(), interval.getTopUpper()),
+                challengers
+            };
+            tornadoTableModel.addRow(row);
+        }
+        
+        int pairs = Math.min(MAX_SWAP_ROWS, analysis.size() - 1);
+        for (int p = 0; p < pairs; p++) {
+            Object[] row = new Object[analysis.getCriteriaCount() + 3];
+            row[0] = p + 1;
+            row[1] = analysis.getAlternativeAtRank(p).getName();
+            row[2] = analysis.getAlternativeAtRank(p + 1).getName();
+            for (int j = 0; j < analysis.getCriteriaCount(); j++) {
+                row[j + 3] = formatDelta(analysis.getSwapDelta(j, p));
+            }
+            swapTableModel.addRow(row);
+        }
+    }
+    
+    private void loadMethodComparisonData() {
+        methodTableModel.setRowCount(0);
+        
+        McdmComparison comparison = sawService.compareMethods();
+        if (comparison == null) {
+            return;
+        }
+        
+        // Urut ranking SAW agar selisih dengan metode lain mudah terlihat
+        for (int p = 0; p < comparison.size(); p++) {
+            int row = comparison.getRowAtRank(0, p);
+            Object[] values = new Object[comparison.getMethodCount() * 2 + 2];
+            values[0] = comparison.getAlternative(row).getName();
+            values[1] = comparison.getAlternative(row).getCode();
+            for (int m = 0; m < comparison.getMethodCount(); m++) {
+                values[2 + m * 2] = comparison.getRanking(m, row);
+                values[3 + m * 2] = String.format("%.4f", comparison.getScore(m, row));
+            }
+            methodTableModel.addRow(values);
+        }
+    }
+    
+    private static String formatDelta(double delta) {
+        return Double.isNaN(delta) ? "-" : String.format("%+.4f", delta);
+    }
+    
     private void printDetails() {
         try {
             // Simple print functionality
@@ -325,6 +508,14 @@ public class SAWDetailDialog extends JDialog {
             report.append(String.join("\t", row)).append("\n");
         }
         
+        SensitivityAnalysis analysis = sawService.getSensitivityAnalysis();
+        if (analysis != null) {
+            report.append("\nSENSITIVITAS BOBOT:\n");
+            for (SensitivityAnalysis.StabilityInterval interval : analysis.getTornado()) {
+                report.append(interval).append("\n");
+            }
+        }
+        
         return report.toString();
     }
     
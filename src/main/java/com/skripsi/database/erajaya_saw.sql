@@ -51,14 +51,38 @@ CREATE TABLE evaluations (
     UNIQUE KEY unique_evaluation (alternative_id, criteria_id)
 );
 
--- Tabel Hasil SAW
+-- Tabel Hasil SAW (satu baris per alternatif, ditulis dengan upsert)
+-- Database lama: ALTER TABLE saw_results ADD UNIQUE KEY unique_result (alternative_id);
+--                ALTER TABLE saw_results ADD INDEX idx_ranking (ranking);
 CREATE TABLE saw_results (
     id INT AUTO_INCREMENT PRIMARY KEY,
     alternative_id INT NOT NULL,
     total_score DECIMAL(10,4) NOT NULL,
     ranking INT NOT NULL,
     calculation_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    FOREIGN KEY (alternative_id) REFERENCES alternatives(id) ON DELETE CASCADE
+    FOREIGN KEY (alternative_id) REFERENCES alternatives(id) ON DELETE CASCADE,
+    UNIQUE KEY unique_result (alternative_id),
+    INDEX idx_ranking (ranking)
+);
+
+-- Tabel Skenario Bobot (profil bobot bernama, misalnya budget/premium/service)
+CREATE TABLE saw_scenarios (
+    id INT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(50) UNIQUE NOT NULL,
+    weights VARCHAR(255) NOT NULL,  -- bobot per kriteria dipisah koma, urut criteria.id
+    calculation_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Tabel Hasil Skenario (satu baris per skenario per alternatif)
+CREATE TABLE saw_scenario_results (
+    scenario_id INT NOT NULL,
+    alternative_id INT NOT NULL,
+    total_score DECIMAL(10,4) NOT NULL,
+    ranking INT NOT NULL,
+    PRIMARY KEY (scenario_id, alternative_id),
+    FOREIGN KEY (scenario_id) REFERENCES saw_scenarios(id) ON DELETE CASCADE,
+    FOREIGN KEY (alternative_id) REFERENCES alternatives(id) ON DELETE CASCADE,
+    INDEX idx_scenario_ranking (scenario_id, ranking)
 );
 
 -- Tabel Logs untuk audit
@@ -117,4 +141,4 @@ INSERT INTO evaluations (alternative_id, criteria_id, value) VALUES
 (2, 3, 95), -- Samsung Galaxy S24 - Suku Cadang
 (3, 3, 80), -- Xiaomi 14 Ultra - Suku Cadang
 (4, 3, 75), -- OPPO Find X7 - Suku Cadang
-(5, 3, 70); -- Vivo X100 Pro - Suku Cadangusersusersusers
\ No newline at end of file
+(5, 3, 70); -- Vivo X100 Pro - Suku Cadang
\ No newline at end of file
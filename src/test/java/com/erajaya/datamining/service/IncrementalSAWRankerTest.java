@@ -0,0 +1,156 @@
+package com.erajaya.datamining.service;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Membandingkan IncrementalSAWRanker dengan perhitungan penuh ColumnarSAWEngine
+ * setelah urutan upsert/remove acak. Jumlah alternatif dan rentang nilai
+ * kriteria dibuat kecil sehingga banyak skor kembar dan nilai min/max kolom
+ * sering bergeser.
+ */
+public class IncrementalSAWRankerTest {
+    
+    private static final double[] WEIGHTS = {0.40, 0.35, 0.25};
+    private static final boolean[] IS_BENEFIT = {false, true, true};
+    
+    @Test
+    public void randomChangesMatchFullRanking() {
+        Random random = new Random(42);
+        Map<Integer, double[]> rows = new HashMap<>();
+        for (int i = 0; i < 30; i++) {
+            rows.put((i * 17) % 60 + 1, randomValues(random));
+        }
+        
+        IncrementalSAWRanker ranker = IncrementalSAWRanker.fromEngine(fullRanking(rows), WEIGHTS, IS_BENEFIT);
+        
+        // Ranking yang "tersimpan", hanya diperbarui dari getAffectedRanks seperti saw_results
+        Map<Integer, Integer> stored = new HashMap<>();
+        for (IncrementalSAWRanker.Entry entry : ranker.getRanking()) {
+            stored.put(entry.getId(), ranker.getRanking(entry));
+        }
+        
+        int fullRescores = 0;
+        for (int step = 0; step < 2000; step++) {
+            IncrementalSAWRanker.Change change;
+            if (random.nextInt(3) == 0 && rows.size() > 2) {
+                List<Integer> ids = new ArrayList<>(rows.keySet());
+                int id = ids.get(random.nextInt(ids.size()));
+                rows.remove(id);
+                stored.remove(id);
+                change = ranker.remove(id);
+            } else {
+                int id = 1 + random.nextInt(60);
+                double[] values = randomValues(random);
+                rows.put(id, values);
+                change = ranker.upsert(id, values);
+            }
+            if (change.isFullRescore()) {
+                fullRescores++;
+            }
+            for (int[] affected : ranker.getAffectedRanks(change)) {
+                stored.put(affected[0], affected[1]);
+            }
+            
+            ColumnarSAWEngine expected = fullRanking(rows);
+            assertEquals(expected.size(), ranker.size());
+            for (int row = 0; row < expected.size(); row++) {
+                int id = expected.getId(row);
+                String context = "langkah " + step + ", alternatif " + id;
+                assertEquals(context, Integer.valueOf(expected.getRanking(row)), stored.get(id));
+                assertEquals(context, expected.getScore(row), ranker.getEntry(id).getScore(), 1e-12);
+            }
+        }
+        
+        assertTrue("Nilai min/max harus ikut bergeser dalam pengujian", fullRescores > 0);
+    }
+    
+    @Test
+    public void tiedScoresAreRankedById() {
+        Map<Integer, double[]> rows = new HashMap<>();
+        rows.put(30, new double[]{2, 3, 3});
+        rows.put(10, new double[]{2, 3, 3});
+        rows.put(20, new double[]{1, 4, 4});
+        
+        IncrementalSAWRanker ranker = IncrementalSAWRanker.fromEngine(fullRanking(rows), WEIGHTS, IS_BENEFIT);
+        IncrementalSAWRanker.Change change = ranker.upsert(5, new double[]{2, 3, 3});
+        
+        assertFalse(change.isFullRescore());
+        List<IncrementalSAWRanker.Entry> ranking = ranker.getRanking();
+        assertEquals(20, ranking.get(0).getId());
+        assertEquals(5, ranking.get(1).getId());
+        assertEquals(10, ranking.get(2).getId());
+        assertEquals(30, ranking.get(3).getId());
+        
+        // Alternatif baru di posisi 2 menggeser semua baris di bawahnya
+        List<int[]> affected = ranker.getAffectedRanks(change);
+        assertEquals(3, affected.size());
+        assertArrayEquals(new int[]{5, 2}, affected.get(0));
+        assertArrayEquals(new int[]{30, 4}, affected.get(2));
+    }
+    
+    @Test
+    public void movedExtremeRescoresAllRows() {
+        Map<Integer, double[]> rows = new HashMap<>();
+        rows.put(1, new double[]{2, 3, 3});
+        rows.put(2, new double[]{1, 4, 2});
+        rows.put(3, new double[]{3, 2, 4});
+        
+        IncrementalSAWRanker ranker = IncrementalSAWRanker.fromEngine(fullRanking(rows), WEIGHTS, IS_BENEFIT);
+        
+        // Kualitas 8 menjadi nilai max baru: skor semua alternatif berubah
+        rows.put(3, new double[]{3, 8, 4});
+        IncrementalSAWRanker.Change change = ranker.upsert(3, rows.get(3));
+        assertTrue(change.isFullRescore());
+        assertEquals(3, ranker.getAffectedRanks(change).size());
+        
+        ColumnarSAWEngine expected = fullRanking(rows);
+        for (int row = 0; row < expected.size(); row++) {
+            IncrementalSAWRanker.Entry entry = ranker.getEntry(expected.getId(row));
+            assertEquals(expected.getScore(row), entry.getScore(), 1e-12);
+            assertEquals(expected.getRanking(row), ranker.getRanking(entry));
+        }
+        
+        // Menghapus pemilik nilai max mengembalikan acuan normalisasi
+        rows.remove(3);
+        change = ranker.remove(3);
+        assertTrue(change.isFullRescore());
+        expected = fullRanking(rows);
+        for (int row = 0; row < expected.size(); row++) {
+            assertEquals(expected.getScore(row), ranker.getEntry(expected.getId(row)).getScore(), 1e-12);
+        }
+    }
+    
+    /**
+     * Nilai 1..5, sesekali 1..9 agar min/max kolom bergeser lalu kembali
+     */
+    private static double[] randomValues(Random random) {
+        int range = random.nextInt(10) == 0 ? 9 : 5;
+        return new double[]{1 + random.nextInt(range), 1 + random.nextInt(range), 1 + random.nextInt(range)};
+    }
+    
+    private static ColumnarSAWEngine fullRanking(Map<Integer, double[]> rows) {
+        int n = rows.size();
+        int[] ids = new int[n];
+        double[][] columns = new double[WEIGHTS.length][n];
+        int i = 0;
+        for (Map.Entry<Integer, double[]> row : rows.entrySet()) {
+            ids[i] = row.getKey();
+            for (int j = 0; j < WEIGHTS.length; j++) {
+                columns[j][i] = row.getValue()[j];
+            }
+            i++;
+        }
+        
+        ColumnarSAWEngine engine = new ColumnarSAWEngine(ids, columns);
+        engine.compute(WEIGHTS, IS_BENEFIT);
+        return engine;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,161 @@
+package com.erajaya.datamining.service;
+
+import com.erajaya.datamining.config.DatabaseConfig;
+import com.erajaya.datamining.model.SAWResult;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+import static org.junit.Assert.*;
+
+/**
+ * Membandingkan saw_results hasil engine Java (ColumnarSAWEngine), engine
+ * streaming dan engine SQL (SqlPushdownSAWEngine) pada data uji di H2 mode
+ * MySQL. Data uji berisi skor kembar dan satu alternatif dengan nilai
+ * evaluations yang belum diisi.
+ */
+public class SqlPushdownParityTest {
+    
+    private static final int TIED_LOWER_ID = 3;
+    private static final int TIED_HIGHER_ID = 4;
+    private static final int INCOMPLETE_ID = 5;
+    
+    @BeforeClass
+    public static void setUpDatabase() throws SQLException {
+        Properties props = new Properties();
+        props.setProperty("db.url", "jdbc:h2:mem:saw_parity;MODE=MySQL;DB_CLOSE_DELAY=-1;NON_KEYWORDS=VALUE");
+        props.setProperty("db.username", "sa");
+        props.setProperty("db.password", "");
+        props.setProperty("db.driver", "org.h2.Driver");
+        props.setProperty("db.pool.enabled", "false");
+        DatabaseConfig.configure(props);
+        
+        try (Connection conn = DatabaseConfig.getConnection();
+             Statement stmt = conn.createStatement()) {
+            
+            stmt.execute("CREATE TABLE criteria (id INT AUTO_INCREMENT PRIMARY KEY, name VARCHAR(50) NOT NULL, " +
+                         "weight DECIMAL(3,2) NOT NULL, type ENUM('benefit','cost') NOT NULL, description TEXT, " +
+                         "created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP)");
+            stmt.execute("CREATE TABLE alternatives (id INT AUTO_INCREMENT PRIMARY KEY, code VARCHAR(10) NOT NULL, " +
+                         "name VARCHAR(100) NOT NULL, price DECIMAL(15,2) NOT NULL, quality_score INT NOT NULL, " +
+                         "spare_parts_score INT NOT NULL, description TEXT, " +
+                         "created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP)");
+            stmt.execute("CREATE TABLE evaluations (id INT AUTO_INCREMENT PRIMARY KEY, alternative_id INT NOT NULL, " +
+                         "criteria_id INT NOT NULL, value DECIMAL(10,4) NOT NULL)");
+            stmt.execute("CREATE TABLE saw_results (id INT AUTO_INCREMENT PRIMARY KEY, alternative_id INT NOT NULL, " +
+                         "total_score DECIMAL(10,4) NOT NULL, ranking INT NOT NULL, " +
+                         "calculation_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP, UNIQUE KEY unique_result (alternative_id))");
+            
+            stmt.execute("INSERT INTO criteria (id, name, weight, type) VALUES " +
+                         "(1, 'Harga', 0.30, 'cost'), (2, 'Kualitas', 0.25, 'benefit'), " +
+                         "(3, 'Suku Cadang', 0.20, 'benefit'), (4, 'Garansi', 0.25, 'benefit')");
+            
+            // Katalog dari erajaya_saw.sql dengan kode sengaja tidak searah dengan ID;
+            // ID 3 (Xiaomi 14T Pro) memiliki nilai kembar dengan ID 4 (Xiaomi 14 Ultra)
+            stmt.execute("INSERT INTO alternatives (id, code, name, price, quality_score, spare_parts_score) VALUES " +
+                         "(1, 'A2', 'Samsung Galaxy S24', 12000000, 90, 95), " +
+                         "(2, 'A1', 'iPhone 15 Pro', 18000000, 95, 85), " +
+                         "(3, 'A6', 'Xiaomi 14T Pro', 9500000, 88, 80), " +
+                         "(4, 'A3', 'Xiaomi 14 Ultra', 9500000, 88, 80), " +
+                         "(5, 'A5', 'Vivo X100 Pro', 10500000, 87, 70), " +
+                         "(6, 'A4', 'OPPO Find X7', 11000000, 85, 75)");
+            
+            // Alternatif ID 5 belum memiliki nilai Garansi
+            stmt.execute("INSERT INTO evaluations (alternative_id, criteria_id, value) VALUES " +
+                         "(1, 4, 24), (2, 4, 36), (3, 4, 12), (4, 4, 12), (6, 4, 18)");
+        }
+    }
+    
+    @Test
+    public void sqlEngineMatchesJavaEngine() throws SQLException {
+        SAWService service = new SAWService();
+        
+        assertEquals(5, service.calculateSAW().size());
+        Map<Integer, String> javaResults = readResults();
+        
+        assertEquals(5, service.calculateSAWInDatabase());
+        Map<Integer, String> sqlResults = readResults();
+        
+        assertEquals(javaResults, sqlResults);
+    }
+    
+    @Test
+    public void streamingEngineMatchesJavaEngine() throws SQLException {
+        SAWService service = new SAWService();
+        
+        assertEquals(5, service.calculateSAW().size());
+        Map<Integer, String> javaResults = readResults();
+        
+        TopKResultSink sink = new TopKResultSink(10);
+        assertEquals(5, service.calculateSAWStreaming(sink));
+        Map<Integer, String> streamingResults = new TreeMap<>();
+        for (SAWResult result : sink.getResults()) {
+            streamingResults.put(result.getAlternativeId(),
+                result.getTotalScore().toPlainString() + "#" + result.getRanking());
+        }
+        
+        assertEquals(javaResults, streamingResults);
+        
+        // Heap penuh: hanya dua terbaik yang bertahan, termasuk pemecah skor kembar
+        TopKResultSink top = new TopKResultSink(2);
+        assertEquals(5, service.calculateSAWStreaming(top));
+        for (SAWResult result : top.getResults()) {
+            assertEquals(javaResults.get(result.getAlternativeId()),
+                result.getTotalScore().toPlainString() + "#" + result.getRanking());
+        }
+        assertEquals(2, top.getResults().size());
+    }
+    
+    @Test
+    public void tiedScoresAreRankedById() throws SQLException {
+        new SAWService().calculateSAWInDatabase();
+        Map<Integer, Integer> ranks = readRanks();
+        
+        assertEquals(ranks.get(TIED_LOWER_ID) + 1, (int) ranks.get(TIED_HIGHER_ID));
+    }
+    
+    @Test
+    public void incompleteAlternativeIsSkippedAndReported() throws SQLException {
+        SAWService service = new SAWService();
+        
+        service.calculateSAWInDatabase();
+        assertFalse(readRanks().containsKey(INCOMPLETE_ID));
+        
+        service.calculateSAW();
+        assertFalse(readRanks().containsKey(INCOMPLETE_ID));
+        assertTrue(service.validateData().contains("Nilai Garansi alternatif A5 belum diisi"));
+    }
+    
+    /**
+     * Isi saw_results sebagai alternative_id -> "skor#ranking"
+     */
+    private static Map<Integer, String> readResults() throws SQLException {
+        Map<Integer, String> results = new TreeMap<>();
+        try (Connection conn = DatabaseConfig.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT alternative_id, total_score, ranking FROM saw_results")) {
+            
+            while (rs.next()) {
+                results.put(rs.getInt("alternative_id"),
+                    rs.getBigDecimal("total_score").toPlainString() + "#" + rs.getInt("ranking"));
+            }
+        }
+        return results;
+    }
+    
+    private static Map<Integer, Integer> readRanks() throws SQLException {
+        Map<Integer, Integer> ranks = new TreeMap<>();
+        for (Map.Entry<Integer, String> entry : readResults().entrySet()) {
+            ranks.put(entry.getKey(), Integer.parseInt(entry.getValue().split("#")[1]));
+        }
+        return ranks;
+    }
+}
\ No newline at end of file